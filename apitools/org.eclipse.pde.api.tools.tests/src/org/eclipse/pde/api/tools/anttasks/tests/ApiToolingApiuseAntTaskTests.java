@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.anttasks.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -124,6 +125,35 @@ public class ApiToolingApiuseAntTaskTests extends AntRunnerTestCase {
 		assertTrue("None of the example plug-ins were scanned", validDir); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a use scan searching several components concurrently writes
+	 * reports with valid reference counts
+	 */
+	@Test
+	public void testParallel() throws Exception {
+		IFolder reportFolder = runTaskAndVerify("testParallel"); //$NON-NLS-1$
+		DocumentBuilder db = XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
+		int reports = 0;
+		for (IResource member : reportFolder.members()) {
+			if (!member.getLocation().toFile().isDirectory()) {
+				continue;
+			}
+			assertTrue(member.getName() + " should have been filtered out", member.getName().startsWith("org.example")); //$NON-NLS-1$ //$NON-NLS-2$
+			for (File origin : member.getLocation().toFile().listFiles()) {
+				assertTrue(origin.getName() + " should have been filtered out", origin.getName().startsWith("org.example")); //$NON-NLS-1$ //$NON-NLS-2$
+				for (File visibility : origin.listFiles()) {
+					for (File report : visibility.listFiles()) {
+						Document doc = db.parse(report);
+						int count = Integer.parseInt(doc.getDocumentElement().getAttribute("reference_count")); //$NON-NLS-1$
+						assertEquals("Wrong reference count in " + report, count, doc.getElementsByTagName("reference").getLength()); //$NON-NLS-1$ //$NON-NLS-2$
+						reports++;
+					}
+				}
+			}
+		}
+		assertTrue("None of the example plug-ins were scanned", reports > 0); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that a use scan will find illegal use problems that can be filtered
 	 */
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.apiusescan.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
+import org.eclipse.pde.api.tools.internal.search.UseScanParser;
+import org.eclipse.pde.api.tools.internal.search.UseScanReferenceVisitor;
+import org.eclipse.pde.api.tools.internal.search.UseScanReferences;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class UseScanIndexTests {
+
+	private String fLocation;
+	private File fIndexFile;
+
+	@Before
+	public void setUp() throws Exception {
+		fLocation = ExternalDependencyTestUtils.setupReport("reportAll", true); //$NON-NLS-1$
+		assertNotNull("Could not setup the report : reportAll.zip", fLocation); //$NON-NLS-1$
+		fIndexFile = File.createTempFile("usescan", ".index"); //$NON-NLS-1$ //$NON-NLS-2$
+		UseScanIndex.write(fLocation, fIndexFile, null);
+	}
+
+	@After
+	public void tearDown() {
+		fIndexFile.delete();
+	}
+
+	@Test
+	public void testReferenceCount() throws Exception {
+		UseScanIndex index = UseScanIndex.open(fIndexFile);
+		String[][] apiUseTypes = new String[][] {
+				{"tests.apiusescan.coretestproject.ClassWithInnerType"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ClassWithInnerType",  //$NON-NLS-1$
+					"tests.apiusescan.coretestproject.IConstants"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.ITestInterface"},  //$NON-NLS-1$
+				{"tests.apiusescan.coretestproject.TestInterfaceImpl"} //$NON-NLS-1$
+		};
+		int[] expectedResult = new int[] {7, 9, 5, 6};
+		String errorMessage = "Incorrect number of references for the set {0}"; //$NON-NLS-1$
+		for (int i = 0; i < apiUseTypes.length; i++) {
+			UseScanReferences references = new UseScanReferences();
+			index.collectReferences(ExternalDependencyTestUtils.PROJECT_NAME, apiUseTypes[i], references);
+			assertEquals(NLS.bind(errorMessage, i + 1), expectedResult[i], references.getExternalDependenciesTo(apiUseTypes[i]).length);
+		}
+	}
+
+	@Test
+	public void testSameReferencesAsReports() throws Exception {
+		UseScanReferences parsed = new UseScanReferences();
+		new UseScanParser().parse(fLocation, null, new UseScanReferenceVisitor(null, null, parsed));
+		UseScanReferences indexed = new UseScanReferences();
+		UseScanIndex.open(fIndexFile).collectReferences(ExternalDependencyTestUtils.PROJECT_NAME, null, indexed);
+		assertEquals("The index should contain the references of the reports", //$NON-NLS-1$
+				Arrays.stream(parsed.getAllExternalDependencies()).filter(reference -> ExternalDependencyTestUtils.PROJECT_NAME.equals(reference.getReferencedComponent().getId())).collect(Collectors.toSet()),
+				new HashSet<>(Arrays.asList(indexed.getAllExternalDependencies())));
+	}
+
+	@Test
+	public void testUnknownComponent() throws Exception {
+		UseScanReferences references = new UseScanReferences();
+		UseScanIndex.open(fIndexFile).collectReferences("unknown.component", null, references); //$NON-NLS-1$
+		assertEquals("There should be no references", 0, references.getAllExternalDependencies().length); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testStamp() throws Exception {
+		long stamp = UseScanIndex.computeStamp(new File(fLocation));
+		assertEquals("Wrong stamp", stamp, UseScanIndex.open(fIndexFile).getStamp()); //$NON-NLS-1$
+		assertEquals("Wrong stamp", stamp, UseScanIndex.readStamp(fIndexFile)); //$NON-NLS-1$
+		assertFalse("Not an index", UseScanIndex.readStamp(new File(fLocation)) == stamp); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testStampIgnoresIndexNextToReports() throws Exception {
+		File location = new File(fLocation);
+		long stamp = UseScanIndex.computeStamp(location);
+		File index = new File(location, UseScanIndex.INDEX_FILE_NAME);
+		try {
+			UseScanIndex.write(fLocation, index, null);
+			assertEquals("Wrong stamp", stamp, UseScanIndex.computeStamp(location)); //$NON-NLS-1$
+			assertEquals("Wrong stamp", stamp, UseScanIndex.readStamp(index)); //$NON-NLS-1$
+		} finally {
+			index.delete();
+		}
+	}
+
+	@Test
+	public void testStampChangesWithReports() throws Exception {
+		Path location = Path.of(fLocation);
+		long stamp = UseScanIndex.computeStamp(location.toFile());
+		Path report;
+		try (Stream<Path> files = Files.walk(location)) {
+			report = files.filter(file -> file.toString().endsWith(".xml") && file.getNameCount() > location.getNameCount() + 1).findFirst().orElseThrow(); //$NON-NLS-1$
+		}
+		List<Path> modified = new ArrayList<>();
+		for (Path path = report; !path.equals(location.getParent()); path = path.getParent()) {
+			modified.add(path);
+		}
+		List<FileTime> times = new ArrayList<>();
+		for (Path path : modified) {
+			times.add(Files.getLastModifiedTime(path));
+		}
+
+		// another size, but the same modification times
+		Files.writeString(report, Files.readString(report) + "\n"); //$NON-NLS-1$
+		for (int i = 0; i < modified.size(); i++) {
+			Files.setLastModifiedTime(modified.get(i), times.get(i));
+		}
+		assertNotEquals("The stamp should change with the reports", stamp, UseScanIndex.computeStamp(location.toFile())); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testTruncatedIndex() throws Exception {
+		byte[] content = Files.readAllBytes(fIndexFile.toPath());
+		Files.write(fIndexFile.toPath(), Arrays.copyOf(content, 24));
+		assertThrows(IOException.class, () -> UseScanIndex.open(fIndexFile));
+	}
+}
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.URIUtil;
+import org.eclipse.pde.api.tools.internal.builder.ReferenceAnalyzer;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.problems.IApiProblem;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetPlatformService;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Compares the API use analysis of the {@link ReferenceAnalyzer} on the
+ * equinox and eclipse core bundles of the workspace target when references
+ * are extracted on one or on several threads.
+ */
+public class ReferenceAnalyzerTests extends PerformanceTestCase {
+
+	private static IApiBaseline fBaseline;
+	private static List<IApiComponent> fScope;
+
+	public ReferenceAnalyzerTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return new TestSuite(ReferenceAnalyzerTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fBaseline == null) {
+			ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
+			ITargetDefinition definition = service.getWorkspaceTargetDefinition();
+			fBaseline = createBaseline(definition, new NullProgressMonitor());
+			fScope = new ArrayList<>();
+			for (IApiComponent component : fBaseline.getApiComponents()) {
+				String id = component.getSymbolicName();
+				if ((id.startsWith("org.eclipse.core") || id.startsWith("org.eclipse.equinox")) //$NON-NLS-1$ //$NON-NLS-2$
+						&& !id.contains("test") && !component.isSystemComponent()) { //$NON-NLS-1$
+					fScope.add(component);
+				}
+			}
+		}
+	}
+
+	public void testSingleThreaded() throws Exception {
+		// run 2 times
+		for (int i = 0; i < 2; i++) {
+			startMeasuring();
+			analyze(1);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testMultiThreaded() throws Exception {
+		int parallelism = Math.max(2, Runtime.getRuntime().availableProcessors());
+		// run 2 times
+		for (int i = 0; i < 2; i++) {
+			startMeasuring();
+			analyze(parallelism);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests that the same problems are reported in the same order whatever the
+	 * number of threads used to extract references.
+	 */
+	public void testSameProblems() throws Exception {
+		List<String> expected = analyze(1);
+		List<String> actual = analyze(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		assertEquals("Multi-threaded analysis reported different problems", expected, actual); //$NON-NLS-1$
+	}
+
+	/**
+	 * Analyzes the API use of all components in scope.
+	 *
+	 * @return the descriptions of the reported problems
+	 */
+	private List<String> analyze(int parallelism) throws CoreException {
+		List<String> problems = new ArrayList<>();
+		for (IApiComponent component : fScope) {
+			IApiProblem[] result = new ReferenceAnalyzer(parallelism).analyze(component, component, new NullProgressMonitor());
+			for (IApiProblem problem : result) {
+				problems.add(problem.toString());
+			}
+		}
+		return problems;
+	}
+
+	private IApiBaseline createBaseline(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
+		SubMonitor localmonitor = SubMonitor.convert(monitor, "", 10); //$NON-NLS-1$
+		definition.resolve(localmonitor.split(2));
+		localmonitor.split(1);
+		TargetBundle[] bundles = definition.getBundles();
+		List<IApiComponent> components = new ArrayList<>();
+		IApiBaseline profile = ApiModelFactory.newApiBaseline(definition.getName());
+		localmonitor.setWorkRemaining(bundles.length);
+		for (TargetBundle bundle : bundles) {
+			localmonitor.split(1);
+			if (bundle.getStatus().isOK() && !bundle.isSourceBundle()) {
+				IApiComponent component = ApiModelFactory.newApiComponent(profile,
+						URIUtil.toFile(bundle.getBundleInfo().getLocation()).getAbsolutePath());
+				if (component != null) {
+					components.add(component);
+				}
+			}
+		}
+		profile.addApiComponents(components.toArray(new IApiComponent[components.size()]));
+		return profile;
+	}
+}
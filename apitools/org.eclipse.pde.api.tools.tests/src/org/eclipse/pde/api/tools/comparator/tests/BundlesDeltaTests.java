@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -578,4 +578,25 @@ public class BundlesDeltaTests extends DeltaTestSetup {
 		assertNotNull("No delta", delta); //$NON-NLS-1$
 		assertFalse("Equals to NO_DELTA", delta == ApiComparator.NO_DELTA); //$NON-NLS-1$
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Test that comparing baselines with several threads reports the same
+	 * deltas in the same order as a sequential comparison
+	 */
+	@Test
+	public void test17() {
+		deployBundles("test1"); //$NON-NLS-1$
+		IDelta delta = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, null);
+		IDelta parallelDelta = ApiComparator.compare(getBeforeState(), getAfterState(), VisibilityModifiers.ALL_VISIBILITIES, true, 4, null);
+		assertNotNull("No delta", delta); //$NON-NLS-1$
+		assertNotNull("No parallel delta", parallelDelta); //$NON-NLS-1$
+		IDelta[] allLeavesDeltas = collectLeaves(delta);
+		IDelta[] parallelLeavesDeltas = collectLeaves(parallelDelta);
+		assertEquals("Wrong size", allLeavesDeltas.length, parallelLeavesDeltas.length); //$NON-NLS-1$
+		for (int i = 0; i < allLeavesDeltas.length; i++) {
+			assertEquals("Wrong kind", allLeavesDeltas[i].getKind(), parallelLeavesDeltas[i].getKind()); //$NON-NLS-1$
+			assertEquals("Wrong flag", allLeavesDeltas[i].getFlags(), parallelLeavesDeltas[i].getFlags()); //$NON-NLS-1$
+			assertEquals("Wrong key", allLeavesDeltas[i].getKey(), parallelLeavesDeltas[i].getKey()); //$NON-NLS-1$
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2018 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.api.tools.model.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -29,6 +31,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.model.DirectoryApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.MappedArchiveApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
@@ -54,6 +57,19 @@ public class ApiTypeContainerTests {
 		return new ArchiveApiTypeContainer(null, path.toOSString());
 	}
 
+	/**
+	 * Builds a sample memory mapped archive on sample.jar
+	 *
+	 * @return sample mapped archive
+	 */
+	protected IApiTypeContainer buildMappedArchiveContainer() {
+		IPath path = TestSuiteHelper.getPluginDirectoryPath();
+		path = path.append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = path.toFile();
+		assertTrue("Missing jar file", file.exists()); //$NON-NLS-1$
+		return new MappedArchiveApiTypeContainer(null, path.toOSString());
+	}
+
 	/**
 	 * Builds a sample container on directory
 	 *
@@ -83,6 +99,14 @@ public class ApiTypeContainerTests {
 		doTestPackageNames(buildDirectoryContainer());
 	}
 
+	/**
+	 * Tests retrieving package names from a mapped archive.
+	 */
+	@Test
+	public void testMappedArchivePackageNames() throws CoreException {
+		doTestPackageNames(buildMappedArchiveContainer());
+	}
+
 	/**
 	 * Tests retrieving package names.
 	 *
@@ -117,6 +141,14 @@ public class ApiTypeContainerTests {
 		doTestVisitPackages(buildDirectoryContainer());
 	}
 
+	/**
+	 * Tests visiting packages in a mapped archive.
+	 */
+	@Test
+	public void testMappedArchiveVistPackages() throws CoreException {
+		doTestVisitPackages(buildMappedArchiveContainer());
+	}
+
 	/**
 	 * Test visiting packages
 	 *
@@ -168,6 +200,40 @@ public class ApiTypeContainerTests {
 		doTestVisitClassFiles(buildDirectoryContainer());
 	}
 
+	/**
+	 * Tests visiting class files in a mapped archive.
+	 */
+	@Test
+	public void testMappedArchiveVisitClassFiles() throws CoreException {
+		doTestVisitClassFiles(buildMappedArchiveContainer());
+	}
+
+	/**
+	 * Tests that a mapped archive finds the same type roots with the same
+	 * contents as the default archive container.
+	 */
+	@Test
+	public void testMappedArchiveFindTypeRoot() throws CoreException {
+		IApiTypeContainer archive = buildArchiveContainer();
+		IApiTypeContainer mapped = buildMappedArchiveContainer();
+		try {
+			String[] typeNames = new String[] {
+					"DefA", "a.ClassA", "a.ClassB", "a.ClassB$InsideB", "a.b.c.InterfaceC" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			for (String typeName : typeNames) {
+				IApiTypeRoot expected = archive.findTypeRoot(typeName);
+				IApiTypeRoot actual = mapped.findTypeRoot(typeName);
+				assertNotNull("Missing type " + typeName, actual); //$NON-NLS-1$
+				assertEquals("Wrong type name", typeName, actual.getTypeName()); //$NON-NLS-1$
+				assertEquals("Wrong structure", expected.getStructure().toString(), actual.getStructure().toString()); //$NON-NLS-1$
+			}
+			assertNull("Should not find missing type", mapped.findTypeRoot("a.ClassZ")); //$NON-NLS-1$ //$NON-NLS-2$
+			assertNull("Should not find type in missing package", mapped.findTypeRoot("z.ClassA")); //$NON-NLS-1$ //$NON-NLS-2$
+		} finally {
+			archive.close();
+			mapped.close();
+		}
+	}
+
 	/**
 	 * Test visiting class files
 	 *
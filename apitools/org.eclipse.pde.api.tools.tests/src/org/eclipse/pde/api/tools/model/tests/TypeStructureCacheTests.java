@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.model.AbstractApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.model.ArchiveApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureCache;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the persistent {@link TypeStructureCache}
+ */
+public class TypeStructureCacheTests {
+
+	private File fDirectory;
+	private String fArchive;
+
+	@Before
+	public void setUp() throws Exception {
+		fDirectory = Files.createTempDirectory("typestructures").toFile(); //$NON-NLS-1$
+		IPath path = TestSuiteHelper.getPluginDirectoryPath().append("test-jars").append("sample.jar"); //$NON-NLS-1$ //$NON-NLS-2$
+		fArchive = path.toOSString();
+	}
+
+	@After
+	public void tearDown() {
+		new TypeStructureCache(fDirectory).clear();
+		fDirectory.delete();
+	}
+
+	private List<IApiType> buildTypes() throws CoreException {
+		List<IApiType> types = new ArrayList<>();
+		ArchiveApiTypeContainer container = new ArchiveApiTypeContainer(null, fArchive);
+		container.accept(new ApiTypeContainerVisitor() {
+			@Override
+			public void visit(String packageName, IApiTypeRoot typeroot) {
+				try {
+					IApiType type = TypeStructureBuilder.buildTypeStructure(((AbstractApiTypeRoot) typeroot).getContents(), null, typeroot);
+					assertNotNull("Type structure should have been built for " + typeroot.getTypeName(), type); //$NON-NLS-1$
+					types.add(type);
+				} catch (CoreException e) {
+					throw new AssertionError(e);
+				}
+			}
+		});
+		return types;
+	}
+
+	/**
+	 * Tests that type structures read back from the cache are equivalent to the
+	 * ones built from the class files.
+	 */
+	@Test
+	public void testRoundTrip() throws CoreException {
+		List<IApiType> types = buildTypes();
+		assertFalse("Sample archive should contain types", types.isEmpty()); //$NON-NLS-1$
+		TypeStructureCache cache = new TypeStructureCache(fDirectory);
+		TypeStructureCache.ArchiveTypeStructures structures = cache.getArchive(fArchive);
+		for (IApiType type : types) {
+			assertNull("Nothing should be cached yet", structures.load(type.getName(), null, type.getTypeRoot())); //$NON-NLS-1$
+			structures.store(type);
+		}
+		structures.save();
+
+		TypeStructureCache.ArchiveTypeStructures reloaded = new TypeStructureCache(fDirectory).getArchive(fArchive);
+		for (IApiType type : types) {
+			IApiType cached = reloaded.load(type.getName(), null, type.getTypeRoot());
+			assertNotNull("Type should be cached: " + type.getName(), cached); //$NON-NLS-1$
+			assertEquals("Cached structure differs", type.toString(), cached.toString()); //$NON-NLS-1$
+			assertEquals("Simple names differ", type.getSimpleName(), cached.getSimpleName()); //$NON-NLS-1$
+			assertEquals("Modifiers differ", type.getModifiers(), cached.getModifiers()); //$NON-NLS-1$
+			assertEquals("Member type flag differs", type.isMemberType(), cached.isMemberType()); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Tests that the cache is discarded once the archive changes.
+	 */
+	@Test
+	public void testStaleArchive() throws Exception {
+		File copy = new File(fDirectory, "copy.jar"); //$NON-NLS-1$
+		Files.copy(new File(fArchive).toPath(), copy.toPath());
+		fArchive = copy.getAbsolutePath();
+		List<IApiType> types = buildTypes();
+		TypeStructureCache.ArchiveTypeStructures structures = new TypeStructureCache(fDirectory).getArchive(fArchive);
+		structures.store(types.get(0));
+		structures.save();
+
+		copy.setLastModified(copy.lastModified() - 10000);
+		TypeStructureCache.ArchiveTypeStructures reloaded = new TypeStructureCache(fDirectory).getArchive(fArchive);
+		assertNull("Stale cache must not be used", reloaded.load(types.get(0).getName(), null, types.get(0).getTypeRoot())); //$NON-NLS-1$
+		copy.delete();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2015 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,14 @@
 package org.eclipse.pde.api.tools.internal.builder;
 
 import java.text.MessageFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -58,12 +64,18 @@ public class ReferenceAnalyzer {
 	 */
 	private static final IApiProblemDetector[] NO_PROBLEM_DETECTORS = new IApiProblemDetector[0];
 
+	/**
+	 * Number of threads used to extract references when no parallelism is
+	 * specified, defaults to <code>1</code>
+	 */
+	private static final int DEFAULT_PARALLELISM = Math.max(1, Integer.getInteger("org.eclipse.pde.api.tools.referenceAnalyzerThreads", 1).intValue()); //$NON-NLS-1$
+
 	/**
 	 * Visits each class file, extracting references.
 	 */
 	class Visitor extends ApiTypeContainerVisitor {
 
-		private IProgressMonitor fMonitor = null;
+		IProgressMonitor fMonitor = null;
 
 		public Visitor(IProgressMonitor monitor) {
 			fMonitor = monitor;
@@ -84,40 +96,7 @@ public class ReferenceAnalyzer {
 		public void visit(String packageName, IApiTypeRoot classFile) {
 			if (!fMonitor.isCanceled()) {
 				try {
-					IApiType type = classFile.getStructure();
-					if (type == null) {
-						// do nothing for bad class files
-						return;
-					}
-					// don't process inner/anonymous/local types, this is done
-					// in the extractor
-					if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
-						return;
-					}
-					List<IReference> references = type.extractReferences(fAllReferenceKinds, null);
-					// keep potential matches
-					for (IReference ref : references) {
-						if (fMonitor.isCanceled()) {
-							break;
-						}
-						// compute index of interested problem detectors
-						int index = getLog2(ref.getReferenceKind());
-						IApiProblemDetector[] detectors = fIndexedDetectors[index];
-						boolean added = false;
-						if (detectors != null) {
-							for (IApiProblemDetector detector : detectors) {
-								if (fMonitor.isCanceled()) {
-									break;
-								}
-								if (detector.considerReference(ref, fMonitor)) {
-									if (!added) {
-										fReferences.add(ref);
-										added = true;
-									}
-								}
-							}
-						}
-					}
+					considerReferences(extractReferences(classFile, fMonitor), fMonitor);
 				} catch (CoreException e) {
 					fStatus.add(e.getStatus());
 					AbstractProblemDetector.checkIfDisposed(classFile.getApiComponent(), fMonitor);
@@ -126,6 +105,112 @@ public class ReferenceAnalyzer {
 		}
 	}
 
+	/**
+	 * Visits each package, extracting the references of its class files on a
+	 * {@link ForkJoinPool}. The extracted references are handed to the problem
+	 * detectors on the visiting thread in the order the packages and class
+	 * files are visited, so the detected problems do not depend on the number
+	 * of threads.
+	 */
+	class ConcurrentVisitor extends Visitor {
+
+		/**
+		 * References extracted from a class file or the failure to do so
+		 */
+		record Extraction(IApiTypeRoot classFile, List<IReference> references, CoreException exception) {
+		}
+
+		private final ForkJoinPool fPool;
+
+		/**
+		 * Class files of the package being visited
+		 */
+		private List<IApiTypeRoot> fClassFiles = null;
+
+		/**
+		 * Extraction tasks per package in visit order
+		 */
+		private final Deque<ForkJoinTask<List<Extraction>>> fPending = new ArrayDeque<>();
+
+		public ConcurrentVisitor(ForkJoinPool pool, IProgressMonitor monitor) {
+			super(monitor);
+			fPool = pool;
+		}
+
+		@Override
+		public boolean visitPackage(String packageName) {
+			fClassFiles = new ArrayList<>();
+			return super.visitPackage(packageName);
+		}
+
+		@Override
+		public void visit(String packageName, IApiTypeRoot classFile) {
+			if (fClassFiles == null) {
+				super.visit(packageName, classFile);
+			} else {
+				fClassFiles.add(classFile);
+			}
+		}
+
+		@Override
+		public void endVisitPackage(String packageName) {
+			List<IApiTypeRoot> classFiles = fClassFiles;
+			fClassFiles = null;
+			if (classFiles != null && !classFiles.isEmpty()) {
+				fPending.add(fPool.submit(() -> extractAll(classFiles)));
+			}
+			// hand over what is already done to keep the memory footprint low
+			while (!fPending.isEmpty() && fPending.peekFirst().isDone()) {
+				consider(fPending.removeFirst().join());
+			}
+			super.endVisitPackage(packageName);
+		}
+
+		private List<Extraction> extractAll(List<IApiTypeRoot> classFiles) {
+			List<Extraction> extractions = new ArrayList<>(classFiles.size());
+			for (IApiTypeRoot classFile : classFiles) {
+				if (fMonitor.isCanceled()) {
+					break;
+				}
+				try {
+					extractions.add(new Extraction(classFile, extractReferences(classFile, fMonitor), null));
+				} catch (CoreException e) {
+					extractions.add(new Extraction(classFile, null, e));
+				}
+			}
+			return extractions;
+		}
+
+		private void consider(List<Extraction> extractions) {
+			for (Extraction extraction : extractions) {
+				if (fMonitor.isCanceled()) {
+					return;
+				}
+				if (extraction.exception() != null) {
+					fStatus.add(extraction.exception().getStatus());
+					AbstractProblemDetector.checkIfDisposed(extraction.classFile().getApiComponent(), fMonitor);
+				} else {
+					considerReferences(extraction.references(), fMonitor);
+				}
+			}
+		}
+
+		/**
+		 * Waits for the remaining extraction tasks and hands their references
+		 * to the problem detectors.
+		 */
+		void joinPending() {
+			while (!fPending.isEmpty()) {
+				ForkJoinTask<List<Extraction>> task = fPending.removeFirst();
+				if (fMonitor.isCanceled()) {
+					task.cancel(false);
+				} else {
+					consider(task.join());
+				}
+			}
+		}
+	}
+
 	/**
 	 * Scan status
 	 */
@@ -148,6 +233,35 @@ public class ReferenceAnalyzer {
 	 */
 	private IApiProblemDetector[][] fIndexedDetectors;
 
+	/**
+	 * Number of threads used to extract references
+	 */
+	private final int fParallelism;
+
+	/**
+	 * Constructs a reference analyzer extracting references with the default
+	 * number of threads.
+	 */
+	public ReferenceAnalyzer() {
+		this(DEFAULT_PARALLELISM);
+	}
+
+	/**
+	 * Constructs a reference analyzer extracting references with the given
+	 * number of threads. References are still handed to the problem detectors
+	 * one at a time in a stable order, so the detected problems are the same
+	 * for any number of threads.
+	 *
+	 * @param parallelism the number of threads to use, <code>1</code> to
+	 *            extract references on the calling thread
+	 */
+	public ReferenceAnalyzer(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be positive: " + parallelism); //$NON-NLS-1$
+		}
+		fParallelism = parallelism;
+	}
+
 	/**
 	 * Indexes the problem detectors by the reference kinds they are interested
 	 * in. For example, a detector interested in a
@@ -193,6 +307,63 @@ public class ReferenceAnalyzer {
 		return (int) Math.round(pow);
 	}
 
+	/**
+	 * Extracts the references of the given class file that problem detectors
+	 * are interested in.
+	 *
+	 * @param classFile the class file
+	 * @param monitor progress monitor
+	 * @return the references of the class file, empty for member, local and
+	 *         anonymous types whose references are extracted with their
+	 *         enclosing type
+	 * @throws CoreException if the class file cannot be read
+	 */
+	List<IReference> extractReferences(IApiTypeRoot classFile, IProgressMonitor monitor) throws CoreException {
+		IApiType type = classFile.getStructure();
+		if (type == null) {
+			// do nothing for bad class files
+			return Collections.emptyList();
+		}
+		// don't process inner/anonymous/local types, this is done
+		// in the extractor
+		if (type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+			return Collections.emptyList();
+		}
+		return type.extractReferences(fAllReferenceKinds, null);
+	}
+
+	/**
+	 * Hands the given references to the interested problem detectors, keeping
+	 * potential matches.
+	 *
+	 * @param references the references to consider
+	 * @param monitor progress monitor
+	 */
+	void considerReferences(List<IReference> references, IProgressMonitor monitor) {
+		for (IReference ref : references) {
+			if (monitor.isCanceled()) {
+				break;
+			}
+			// compute index of interested problem detectors
+			int index = getLog2(ref.getReferenceKind());
+			IApiProblemDetector[] detectors = fIndexedDetectors[index];
+			boolean added = false;
+			if (detectors != null) {
+				for (IApiProblemDetector detector : detectors) {
+					if (monitor.isCanceled()) {
+						break;
+					}
+					if (detector.considerReference(ref, monitor)) {
+						if (!added) {
+							fReferences.add(ref);
+							added = true;
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Scans the given scope extracting all reference information.
 	 *
@@ -204,19 +375,33 @@ public class ReferenceAnalyzer {
 		fStatus = new MultiStatus(ApiPlugin.PLUGIN_ID, 0, BuilderMessages.ReferenceAnalyzer_api_analysis_error, null);
 		String[] packageNames = scope.getPackageNames();
 		SubMonitor localMonitor = SubMonitor.convert(monitor, packageNames.length);
-		ApiTypeContainerVisitor visitor = new Visitor(localMonitor);
 		long start = System.currentTimeMillis();
-		try {
-			scope.accept(visitor);
-		} catch (CoreException e) {
-			fStatus.add(e.getStatus());
+		if (fParallelism > 1 && packageNames.length > 1) {
+			ForkJoinPool pool = new ForkJoinPool(fParallelism);
+			try {
+				ConcurrentVisitor visitor = new ConcurrentVisitor(pool, localMonitor);
+				try {
+					scope.accept(visitor);
+				} catch (CoreException e) {
+					fStatus.add(e.getStatus());
+				}
+				visitor.joinPending();
+			} finally {
+				pool.shutdownNow();
+			}
+		} else {
+			try {
+				scope.accept(new Visitor(localMonitor));
+			} catch (CoreException e) {
+				fStatus.add(e.getStatus());
+			}
 		}
 		long end = System.currentTimeMillis();
 		if (!fStatus.isOK()) {
 			throw new CoreException(fStatus);
 		}
 		if (ApiPlugin.DEBUG_REFERENCE_ANALYZER) {
-			System.out.println("Reference Analyzer: extracted " + fReferences.size() + " references in " + (end - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("Reference Analyzer: extracted " + fReferences.size() + " references in " + (end - start) + "ms using " + fParallelism + " thread(s)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -157,8 +157,11 @@ public class ApiType extends ApiMember implements IApiType {
 	public List<IReference> extractReferences(int referenceMask, IProgressMonitor monitor) throws CoreException {
 		HashSet<Reference> references = new HashSet<>();
 		ReferenceExtractor extractor = new ReferenceExtractor(this, references, referenceMask);
-		ClassReader reader = new ClassReader(((AbstractApiTypeRoot) fStorage).getContents());
+		AbstractApiTypeRoot root = (AbstractApiTypeRoot) fStorage;
+		ClassReader reader = new ClassReader(root.getContents());
 		reader.accept(extractor, ClassReader.SKIP_FRAMES);
+		// the structure is built and the references are known
+		root.releaseContents();
 		return new LinkedList<>(references);
 	}
 
@@ -627,6 +630,62 @@ public class ApiType extends ApiMember implements IApiType {
 		return fEnclosingType;
 	}
 
+	/**
+	 * Returns the raw name of the enclosing type as read from the class file
+	 * or <code>null</code> if none. Used when persisting a type structure.
+	 *
+	 * @return the enclosing type name or <code>null</code>
+	 */
+	String getEnclosingTypeName() {
+		return fEnclosingTypeName;
+	}
+
+	/**
+	 * Returns the name of the enclosing method as read from the class file,
+	 * <code>null</code> if not known or the empty string if there is none.
+	 * Used when persisting a type structure.
+	 *
+	 * @return the enclosing method name or <code>null</code>
+	 */
+	String getEnclosingMethodName() {
+		return fEnclosingMethodName;
+	}
+
+	/**
+	 * Returns the signature of the enclosing method as read from the class
+	 * file, <code>null</code> if not known or the empty string if there is
+	 * none. Used when persisting a type structure.
+	 *
+	 * @return the enclosing method signature or <code>null</code>
+	 */
+	String getEnclosingMethodSignature() {
+		return fEnclosingMethodSignature;
+	}
+
+	/**
+	 * Returns the simple names of the member types of this type, never
+	 * <code>null</code>. Used when persisting a type structure.
+	 *
+	 * @return the simple names of the member types
+	 */
+	String[] getMemberTypeNames() {
+		if (fMemberTypes == null) {
+			return new String[0];
+		}
+		return fMemberTypes.keySet().toArray(String[]::new);
+	}
+
+	/**
+	 * Returns the simple name as set while building the structure, without
+	 * computing it from the qualified name. Used when persisting a type
+	 * structure.
+	 *
+	 * @return the simple name or <code>null</code>
+	 */
+	String getRawSimpleName() {
+		return fSimpleName;
+	}
+
 	private String processEnclosingTypeName() {
 		if (isLocal() || isAnonymous()) {
 			int idx = fEnclosingTypeName.lastIndexOf('$');
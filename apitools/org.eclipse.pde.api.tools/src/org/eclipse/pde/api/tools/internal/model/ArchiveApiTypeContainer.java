@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
 import org.eclipse.pde.api.tools.internal.util.Signatures;
@@ -44,7 +45,7 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	static class ArchiveApiTypeRoot extends AbstractApiTypeRoot implements Comparable<Object> {
 
 		private final String fTypeName;
-		private byte[] fContents = null;
+		private volatile byte[] fContents = null;
 
 		/**
 		 * Constructs a new handle to an {@link IApiTypeRoot} in the archive.
@@ -82,18 +83,41 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 
 		@Override
 		public byte[] getContents() throws CoreException {
-			if (fContents != null) {
-				return fContents;
+			byte[] contents = fContents;
+			if (contents != null) {
+				return contents;
 			}
 			ArchiveApiTypeContainer archive = (ArchiveApiTypeContainer) getParent();
 			try {
 				Path location = archive.getLocation();
 				Path classLocation = location.resolve(getName());
-				fContents = Files.readAllBytes(classLocation);
+				contents = Files.readAllBytes(classLocation);
+				fContents = contents;
 			} catch (IOException e) {
 				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			return fContents;
+			return contents;
+		}
+
+		@Override
+		void releaseContents() {
+			fContents = null;
+		}
+
+		@Override
+		protected IApiType buildStructure() throws CoreException {
+			TypeStructureCache.ArchiveTypeStructures structures = ((ArchiveApiTypeContainer) getParent()).getTypeStructures();
+			if (structures != null) {
+				IApiType type = structures.load(getTypeName(), getApiComponent(), this);
+				if (type != null) {
+					return type;
+				}
+			}
+			IApiType type = super.buildStructure();
+			if (type != null && structures != null) {
+				structures.store(type);
+			}
+			return type;
 		}
 
 		@Override
@@ -102,6 +126,12 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		}
 	}
 
+	/**
+	 * Whether archives are read through a memory mapped index, see
+	 * {@link MappedArchiveApiTypeContainer}
+	 */
+	private static final boolean MAPPED_ARCHIVES = Boolean.getBoolean("org.eclipse.pde.api.tools.mappedArchives"); //$NON-NLS-1$
+
 	/**
 	 * Location of the archive in the local file system.
 	 */
@@ -118,6 +148,12 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private String[] fPackageNames;
 
+	/**
+	 * Persisted type structures of this archive, or <code>null</code> if not
+	 * yet initialized or not available.
+	 */
+	private TypeStructureCache.ArchiveTypeStructures fTypeStructures;
+
 	/**
 	 * Constructs an {@link IApiTypeContainer} container for the given jar or zip
 	 * file at the specified location.
@@ -130,6 +166,24 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 		this.fLocation = path;
 	}
 
+	/**
+	 * Creates an {@link IApiTypeContainer} container for the given jar or zip
+	 * file at the specified location. If the
+	 * <code>org.eclipse.pde.api.tools.mappedArchives</code> system property is
+	 * set, the archive is read through a memory mapped index.
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param path location of the file in the local file system
+	 * @return a new container for the archive
+	 */
+	@SuppressWarnings("restriction")
+	public static ArchiveApiTypeContainer newArchiveContainer(IApiElement parent, String path) {
+		if (MAPPED_ARCHIVES && !path.endsWith(org.eclipse.jdt.internal.compiler.util.JRTUtil.JRT_FS_JAR)) {
+			return new MappedArchiveApiTypeContainer(parent, path);
+		}
+		return new ArchiveApiTypeContainer(parent, path);
+	}
+
 	/**
 	 * Converts the location to a path in the applicable file system.
 	 *
@@ -185,7 +239,25 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	@Override
 	public synchronized void close() throws CoreException {
-		//
+		if (fTypeStructures != null) {
+			fTypeStructures.save();
+		}
+	}
+
+	/**
+	 * Returns the persisted type structures of this archive or
+	 * <code>null</code> if no persistent cache is available.
+	 *
+	 * @return the persisted type structures or <code>null</code>
+	 */
+	synchronized TypeStructureCache.ArchiveTypeStructures getTypeStructures() {
+		if (fTypeStructures == null) {
+			TypeStructureCache cache = TypeStructureCache.getCache();
+			if (cache != null) {
+				fTypeStructures = cache.getArchive(fLocation);
+			}
+		}
+		return fTypeStructures;
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -667,7 +667,7 @@ public class BundleComponent extends Component {
 				File entry = new File(bundle, path);
 				if (entry.exists()) {
 					if (entry.isFile()) {
-						return new ArchiveApiTypeContainer(this, entry.getCanonicalPath());
+						return ArchiveApiTypeContainer.newArchiveContainer(this, entry.getCanonicalPath());
 					} else {
 						return new DirectoryApiTypeContainer(this, entry.getCanonicalPath());
 					}
@@ -675,7 +675,7 @@ public class BundleComponent extends Component {
 			} else {
 				// bundle is jar'd
 				if (path.equals(".")) { //$NON-NLS-1$
-					return new ArchiveApiTypeContainer(this, fLocation);
+					return ArchiveApiTypeContainer.newArchiveContainer(this, fLocation);
 				} else {
 					// classpath element can be jar or folder
 					// https://bugs.eclipse.org/bugs/show_bug.cgi?id=279729
@@ -696,7 +696,7 @@ public class BundleComponent extends Component {
 									// the other one and thus a difference cannot be found.
 									Path dir = Util.createTempDirectory(TMP_API_FILE_PREFIX).toRealPath();
 									Path file = extractEntry(zip, entry, dir);
-									return new ArchiveApiTypeContainer(this, file.toRealPath().toString());
+									return ArchiveApiTypeContainer.newArchiveContainer(this, file.toRealPath().toString());
 								}
 							}
 						}
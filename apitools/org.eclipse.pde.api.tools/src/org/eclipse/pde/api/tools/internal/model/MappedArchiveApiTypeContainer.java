@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeContainer;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.eclipse.pde.api.tools.internal.util.Signatures;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * {@link IApiTypeContainer} for an archive (jar or zip) file that reads the
+ * central directory of the archive once into a compact index and serves the
+ * class file contents from a memory mapped region of the archive.
+ * <p>
+ * The index only holds the offsets of the class file entries in the central
+ * directory, sorted by package and type name, plus the package names. Class
+ * file bytes are never retained by the type roots of this container. Archives
+ * that cannot be indexed (ZIP64 archives or archives larger than 2GB) are
+ * handled like a plain {@link ArchiveApiTypeContainer}.
+ * </p>
+ *
+ * @since 1.3.700
+ */
+public class MappedArchiveApiTypeContainer extends ArchiveApiTypeContainer {
+
+	/**
+	 * {@link IApiTypeRoot} implementation within a mapped archive
+	 */
+	static class MappedArchiveApiTypeRoot extends ArchiveApiTypeRoot {
+
+		/**
+		 * Offset of the entry in the central directory of the archive
+		 */
+		private final int fEntry;
+
+		public MappedArchiveApiTypeRoot(MappedArchiveApiTypeContainer container, String typeName, String entryName, int entry) {
+			super(container, typeName, entryName);
+			fEntry = entry;
+		}
+
+		@Override
+		public byte[] getContents() throws CoreException {
+			MappedArchiveApiTypeContainer archive = (MappedArchiveApiTypeContainer) getParent();
+			try {
+				return archive.readEntry(fEntry);
+			} catch (IOException | DataFormatException e) {
+				abort("Failed to open class file: " + getTypeName() + " in archive: " + archive.fLocation, e); //$NON-NLS-1$ //$NON-NLS-2$
+				return null;
+			}
+		}
+	}
+
+	private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+	private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+	private static final int LOCAL_FILE_HEADER = 0x04034b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	/**
+	 * Index of the class file entries of a mapped archive
+	 *
+	 * @param buffer the mapped archive
+	 * @param entries offsets of the class file entries in the central
+	 *            directory, sorted by package and type name
+	 * @param packages the sorted package names
+	 * @param starts index of the first entry of each package in
+	 *            <code>entries</code>, with a trailing element holding the
+	 *            number of entries
+	 */
+	private record Index(ByteBuffer buffer, int[] entries, String[] packages, int[] starts) {
+	}
+
+	/**
+	 * The index of the mapped archive or <code>null</code> if not yet built
+	 */
+	private Index fIndex;
+
+	/**
+	 * Whether the archive could not be indexed and the behavior of
+	 * {@link ArchiveApiTypeContainer} is used
+	 */
+	private boolean fFallback;
+
+	/**
+	 * Constructs an {@link IApiTypeContainer} for the given jar or zip file at
+	 * the specified location.
+	 *
+	 * @param parent the parent {@link IApiElement} or <code>null</code> if none
+	 * @param path location of the file in the local file system
+	 */
+	public MappedArchiveApiTypeContainer(IApiElement parent, String path) {
+		super(parent, path);
+	}
+
+	@Override
+	public void accept(ApiTypeContainerVisitor visitor) throws CoreException {
+		Index index = index();
+		if (index == null) {
+			super.accept(visitor);
+			return;
+		}
+		if (visitor.visit(this)) {
+			for (int i = 0; i < index.packages().length; i++) {
+				String pkg = index.packages()[i];
+				if (visitor.visitPackage(pkg)) {
+					for (int j = index.starts()[i]; j < index.starts()[i + 1]; j++) {
+						MappedArchiveApiTypeRoot classfile = newTypeRoot(index.buffer(), index.entries()[j]);
+						visitor.visit(pkg, classfile);
+						visitor.end(pkg, classfile);
+					}
+					visitor.endVisitPackage(pkg);
+				}
+			}
+		}
+		visitor.end(this);
+	}
+
+	@Override
+	public IApiTypeRoot findTypeRoot(String qualifiedName) throws CoreException {
+		Index index = index();
+		if (index == null) {
+			return super.findTypeRoot(qualifiedName);
+		}
+		int pkg = Arrays.binarySearch(index.packages(), Signatures.getPackageName(qualifiedName));
+		if (pkg < 0) {
+			return null;
+		}
+		byte[] name = qualifiedName.replace('.', '/').getBytes(StandardCharsets.UTF_8);
+		int low = index.starts()[pkg];
+		int high = index.starts()[pkg + 1] - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = compareName(index.buffer(), index.entries()[mid], name);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return newTypeRoot(index.buffer(), index.entries()[mid]);
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String[] getPackageNames() throws CoreException {
+		Index index = index();
+		if (index == null) {
+			return super.getPackageNames();
+		}
+		return index.packages();
+	}
+
+	@Override
+	public synchronized void close() throws CoreException {
+		super.close();
+		// the mapping is released once the buffer is garbage collected
+		fIndex = null;
+	}
+
+	@Override
+	public String toString() {
+		return "Mapped Archive Class File Container: " + getName(); //$NON-NLS-1$
+	}
+
+	private MappedArchiveApiTypeRoot newTypeRoot(ByteBuffer buffer, int entry) {
+		String entryName = getEntryName(buffer, entry);
+		String typeName = entryName.substring(0, entryName.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.');
+		return new MappedArchiveApiTypeRoot(this, typeName, entryName, entry);
+	}
+
+	/**
+	 * Maps the archive and builds the index if not yet done.
+	 *
+	 * @return the mapped archive or <code>null</code> if the archive cannot be
+	 *         indexed
+	 */
+	private synchronized Index index() throws CoreException {
+		if (fFallback) {
+			return null;
+		}
+		if (fIndex != null) {
+			return fIndex;
+		}
+		try (FileChannel channel = FileChannel.open(Path.of(fLocation), StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size <= Integer.MAX_VALUE) {
+				ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size).order(ByteOrder.LITTLE_ENDIAN);
+				fIndex = buildIndex(buffer);
+			}
+		} catch (IOException e) {
+			abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
+		}
+		fFallback = fIndex == null;
+		return fIndex;
+	}
+
+	/**
+	 * Reads the central directory of the given archive into an index.
+	 *
+	 * @return the index or <code>null</code> if the archive cannot be indexed
+	 */
+	private static Index buildIndex(ByteBuffer buffer) {
+		int end = findEndOfCentralDirectory(buffer);
+		if (end < 0) {
+			return null;
+		}
+		int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+		long directorySize = Integer.toUnsignedLong(buffer.getInt(end + 12));
+		long directoryOffset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+		if (count == 0xFFFF || directorySize == 0xFFFFFFFFL || directoryOffset == 0xFFFFFFFFL || directoryOffset + directorySize > end) {
+			// ZIP64 or corrupt
+			return null;
+		}
+		List<Integer> classEntries = new ArrayList<>(count);
+		List<String> entryPackages = new ArrayList<>(count);
+		int offset = (int) directoryOffset;
+		for (int i = 0; i < count; i++) {
+			if (buffer.getInt(offset) != CENTRAL_DIRECTORY_HEADER) {
+				return null;
+			}
+			String name = getEntryName(buffer, offset);
+			if (name.endsWith(Util.DOT_CLASS_SUFFIX)) {
+				classEntries.add(Integer.valueOf(offset));
+				entryPackages.add(Signatures.getPackageName(name.substring(0, name.length() - Util.DOT_CLASS_SUFFIX.length()).replace('/', '.')));
+			}
+			offset += CENTRAL_DIRECTORY_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(offset + 28)) + Short.toUnsignedInt(buffer.getShort(offset + 30)) + Short.toUnsignedInt(buffer.getShort(offset + 32));
+		}
+		// the entry names are only needed as strings while sorting
+		Integer[] order = new Integer[classEntries.size()];
+		for (int i = 0; i < order.length; i++) {
+			order[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(order, (i1, i2) -> {
+			int cmp = entryPackages.get(i1.intValue()).compareTo(entryPackages.get(i2.intValue()));
+			if (cmp != 0) {
+				return cmp;
+			}
+			return compareNames(buffer, classEntries.get(i1.intValue()).intValue(), classEntries.get(i2.intValue()).intValue());
+		});
+		int[] entries = new int[order.length];
+		int length = 0;
+		List<String> packages = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		String previous = null;
+		for (Integer index : order) {
+			int entry = classEntries.get(index.intValue()).intValue();
+			if (length > 0 && compareNames(buffer, entries[length - 1], entry) == 0) {
+				// duplicate entry, only keep the first one
+				continue;
+			}
+			String pkg = entryPackages.get(index.intValue());
+			if (!pkg.equals(previous)) {
+				packages.add(pkg);
+				starts.add(Integer.valueOf(length));
+				previous = pkg;
+			}
+			entries[length++] = entry;
+		}
+		int[] packageStarts = new int[starts.size() + 1];
+		for (int i = 0; i < starts.size(); i++) {
+			packageStarts[i] = starts.get(i).intValue();
+		}
+		packageStarts[starts.size()] = length;
+		return new Index(buffer, Arrays.copyOf(entries, length), packages.toArray(String[]::new), packageStarts);
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		int min = Math.max(0, limit - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+		for (int i = limit - END_OF_CENTRAL_DIRECTORY_SIZE; i >= min; i--) {
+			if (buffer.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static String getEntryName(ByteBuffer buffer, int entry) {
+		int length = Short.toUnsignedInt(buffer.getShort(entry + 28));
+		byte[] name = new byte[length];
+		buffer.get(entry + CENTRAL_DIRECTORY_HEADER_SIZE, name);
+		return new String(name, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Compares the names of two class file entries byte by byte, without their
+	 * <code>.class</code> suffix so that member types sort after their
+	 * enclosing type.
+	 */
+	private static int compareNames(ByteBuffer buffer, int entry1, int entry2) {
+		return getTypeNameBytes(buffer, entry1).compareTo(getTypeNameBytes(buffer, entry2));
+	}
+
+	/**
+	 * Compares the name of a class file entry without its <code>.class</code>
+	 * suffix with the given name byte by byte.
+	 */
+	private static int compareName(ByteBuffer buffer, int entry, byte[] name) {
+		return getTypeNameBytes(buffer, entry).compareTo(ByteBuffer.wrap(name));
+	}
+
+	private static ByteBuffer getTypeNameBytes(ByteBuffer buffer, int entry) {
+		int length = Short.toUnsignedInt(buffer.getShort(entry + 28)) - Util.DOT_CLASS_SUFFIX.length();
+		return buffer.slice(entry + CENTRAL_DIRECTORY_HEADER_SIZE, length);
+	}
+
+	/**
+	 * Reads and inflates the contents of the entry at the given offset in the
+	 * central directory.
+	 */
+	byte[] readEntry(int entry) throws IOException, DataFormatException, CoreException {
+		Index index = index();
+		if (index == null) {
+			throw new IOException("Archive is not indexed: " + fLocation); //$NON-NLS-1$
+		}
+		ByteBuffer buffer = index.buffer();
+		int method = Short.toUnsignedInt(buffer.getShort(entry + 10));
+		int compressedSize = buffer.getInt(entry + 20);
+		int size = buffer.getInt(entry + 24);
+		int header = buffer.getInt(entry + 42);
+		if (buffer.getInt(header) != LOCAL_FILE_HEADER) {
+			throw new IOException("Invalid local file header for entry " + getEntryName(buffer, entry)); //$NON-NLS-1$
+		}
+		int data = header + LOCAL_FILE_HEADER_SIZE + Short.toUnsignedInt(buffer.getShort(header + 26)) + Short.toUnsignedInt(buffer.getShort(header + 28));
+		byte[] contents = new byte[size];
+		switch (method) {
+			case ZipEntry.STORED -> buffer.get(data, contents);
+			case ZipEntry.DEFLATED -> {
+				Inflater inflater = new Inflater(true);
+				try {
+					inflater.setInput(buffer.slice(data, compressedSize));
+					int read = 0;
+					while (read < size && !inflater.finished()) {
+						int n = inflater.inflate(contents, read, size - read);
+						if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+							break;
+						}
+						read += n;
+					}
+					if (read != size) {
+						throw new IOException("Truncated entry " + getEntryName(buffer, entry)); //$NON-NLS-1$
+					}
+				} finally {
+					inflater.end();
+				}
+			}
+			default -> throw new IOException("Unsupported compression method " + method + " for entry " + getEntryName(buffer, entry)); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return contents;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -116,7 +116,7 @@ public class SystemLibraryApiComponent extends Component {
 	protected List<IApiTypeContainer> createApiTypeContainers() throws CoreException {
 		List<IApiTypeContainer> libs = new ArrayList<>(fLibraries.length);
 		for (LibraryLocation lib : fLibraries) {
-			libs.add(new ArchiveApiTypeContainer(this, lib.getSystemLibraryPath().toOSString()));
+			libs.add(ArchiveApiTypeContainer.newArchiveContainer(this, lib.getSystemLibraryPath().toOSString()));
 		}
 		if (fLibraries.length == 0) {
 			if (fLocation != null) {
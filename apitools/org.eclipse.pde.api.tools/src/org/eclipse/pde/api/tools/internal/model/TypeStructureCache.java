@@ -0,0 +1,460 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+
+/**
+ * Persistent cache of {@link IApiType} structures built from archives.
+ * <p>
+ * For each archive a single cache file is kept, named after the archive path
+ * and tagged with a CRC of the archive path, size and time stamp. When the CRC
+ * no longer matches, the cached structures are discarded and rebuilt from the
+ * class files. The cache only stores the skeleton of a type (names, flags,
+ * signatures, fields and methods), never the class file bytes.
+ * </p>
+ *
+ * @since 1.3.700
+ */
+public final class TypeStructureCache {
+
+	/**
+	 * Name of the directory the cache files are kept in, relative to the state
+	 * location of the API tools bundle.
+	 */
+	static final String CACHE_DIRECTORY = ".type_structures"; //$NON-NLS-1$
+
+	/**
+	 * Extension of the cache files
+	 */
+	static final String CACHE_FILE_EXTENSION = ".types"; //$NON-NLS-1$
+
+	/**
+	 * Magic number at the start of each cache file
+	 */
+	private static final int MAGIC = 0x41505453;
+
+	/**
+	 * Version of the cache file format, must be incremented whenever the
+	 * encoding of a type structure changes
+	 */
+	private static final short VERSION = 1;
+
+	private static final byte VALUE_NULL = 0;
+	private static final byte VALUE_INT = 1;
+	private static final byte VALUE_LONG = 2;
+	private static final byte VALUE_FLOAT = 3;
+	private static final byte VALUE_DOUBLE = 4;
+	private static final byte VALUE_STRING = 5;
+
+	static TypeStructureCache fInstance = null;
+
+	/**
+	 * The directory the cache files are stored in
+	 */
+	private final File fDirectory;
+
+	/**
+	 * Constructor
+	 *
+	 * @param directory the directory to keep the cache files in
+	 */
+	public TypeStructureCache(File directory) {
+		fDirectory = directory;
+	}
+
+	/**
+	 * Returns the singleton instance of this cache or <code>null</code> if no
+	 * cache is available, i.e. when not running in a framework.
+	 *
+	 * @return the cache or <code>null</code>
+	 */
+	public static synchronized TypeStructureCache getCache() {
+		if (fInstance == null && ApiPlugin.isRunningInFramework()) {
+			File directory = ApiPlugin.getDefault().getStateLocation().append(CACHE_DIRECTORY).toFile();
+			fInstance = new TypeStructureCache(directory);
+		}
+		return fInstance;
+	}
+
+	/**
+	 * Returns the cached type structures for the archive at the given location.
+	 * The returned handle loads the cache file lazily on first access.
+	 *
+	 * @param location the absolute path of the archive
+	 * @return the type structures of the archive, never <code>null</code>
+	 */
+	public ArchiveTypeStructures getArchive(String location) {
+		return new ArchiveTypeStructures(location);
+	}
+
+	/**
+	 * Removes all cache files.
+	 */
+	public void clear() {
+		File[] files = fDirectory.listFiles((dir, name) -> name.endsWith(CACHE_FILE_EXTENSION));
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * The cached type structures of a single archive
+	 */
+	public final class ArchiveTypeStructures {
+
+		private final String fLocation;
+		private Map<String, byte[]> fTypes;
+		private long fCrc;
+		private boolean fDirty;
+
+		ArchiveTypeStructures(String location) {
+			fLocation = location;
+		}
+
+		/**
+		 * Returns the type structure with the given name from the cache or
+		 * <code>null</code> if it is not cached or cannot be read.
+		 *
+		 * @param typeName the fully qualified name of the type
+		 * @param component the API component the type belongs to or
+		 *            <code>null</code>
+		 * @param root the type root the type originates from
+		 * @return the cached type structure or <code>null</code>
+		 */
+		public synchronized IApiType load(String typeName, IApiComponent component, IApiTypeRoot root) {
+			init();
+			byte[] bytes = fTypes.get(typeName);
+			if (bytes == null) {
+				return null;
+			}
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+				return readType(in, component, root);
+			} catch (IOException e) {
+				ApiPlugin.log("Failed to read cached type structure for " + typeName, e); //$NON-NLS-1$
+				fTypes.remove(typeName);
+				return null;
+			}
+		}
+
+		/**
+		 * Adds the given type structure to the cache. It is written to disk
+		 * on the next {@link #save()}.
+		 *
+		 * @param type the type to cache
+		 */
+		public synchronized void store(IApiType type) {
+			init();
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				writeType(out, (ApiType) type);
+			} catch (IOException e) {
+				// not representable (e.g. a signature exceeding the modified
+				// UTF-8 limit), simply do not cache it
+				return;
+			}
+			fTypes.put(type.getName(), bytes.toByteArray());
+			fDirty = true;
+		}
+
+		/**
+		 * Writes the cached type structures to disk if they changed since they
+		 * were loaded and releases the in-memory copy.
+		 */
+		public synchronized void save() {
+			if (fTypes == null) {
+				return;
+			}
+			if (fDirty) {
+				try {
+					write();
+				} catch (IOException e) {
+					ApiPlugin.log("Failed to save type structure cache for " + fLocation, e); //$NON-NLS-1$
+				}
+				fDirty = false;
+			}
+			fTypes = null;
+		}
+
+		private void init() {
+			if (fTypes != null) {
+				return;
+			}
+			fTypes = new HashMap<>();
+			fCrc = computeCrc(fLocation);
+			File file = getCacheFile();
+			if (!file.isFile()) {
+				return;
+			}
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+				if (in.readInt() != MAGIC || in.readShort() != VERSION || in.readLong() != fCrc || !fLocation.equals(in.readUTF())) {
+					// stale or foreign: will be overwritten on the next save
+					return;
+				}
+				int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					String typeName = in.readUTF();
+					byte[] bytes = new byte[in.readInt()];
+					in.readFully(bytes);
+					fTypes.put(typeName, bytes);
+				}
+			} catch (IOException e) {
+				fTypes.clear();
+				if (ApiPlugin.DEBUG_BUILDER) {
+					ApiPlugin.log("Discarding unreadable type structure cache for " + fLocation, e); //$NON-NLS-1$
+				}
+			}
+		}
+
+		private void write() throws IOException {
+			File file = getCacheFile();
+			Files.createDirectories(fDirectory.toPath());
+			Path temp = Files.createTempFile(fDirectory.toPath(), file.getName(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeShort(VERSION);
+					out.writeLong(fCrc);
+					out.writeUTF(fLocation);
+					out.writeInt(fTypes.size());
+					for (Map.Entry<String, byte[]> entry : fTypes.entrySet()) {
+						out.writeUTF(entry.getKey());
+						out.writeInt(entry.getValue().length);
+						out.write(entry.getValue());
+					}
+				}
+				try {
+					Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+		private File getCacheFile() {
+			CRC32 crc = new CRC32();
+			crc.update(fLocation.getBytes(StandardCharsets.UTF_8));
+			return new File(fDirectory, Long.toHexString(crc.getValue()) + '_' + fLocation.length() + CACHE_FILE_EXTENSION);
+		}
+	}
+
+	/**
+	 * Computes the CRC identifying the current state of the archive at the
+	 * given location from its path, size and time stamp.
+	 *
+	 * @param location the absolute path of the archive
+	 * @return the CRC of the archive
+	 */
+	static long computeCrc(String location) {
+		File file = new File(location);
+		CRC32 crc = new CRC32();
+		crc.update(location.getBytes(StandardCharsets.UTF_8));
+		updateCrc(crc, file.length());
+		updateCrc(crc, file.lastModified());
+		return crc.getValue();
+	}
+
+	private static void updateCrc(CRC32 crc, long value) {
+		for (int i = 0; i < 8; i++) {
+			crc.update((int) (value >>> (i * 8)));
+		}
+	}
+
+	static void writeType(DataOutputStream out, ApiType type) throws IOException {
+		out.writeUTF(type.getName());
+		writeString(out, type.getGenericSignature());
+		out.writeInt(type.getModifiers());
+		writeString(out, type.getEnclosingTypeName());
+		writeString(out, type.getSuperclassName());
+		writeStrings(out, type.getSuperInterfaceNames());
+		writeString(out, type.getRawSimpleName());
+		out.writeBoolean(type.isAnonymous());
+		out.writeBoolean(type.isLocal());
+		out.writeBoolean(type.isMemberType());
+		writeString(out, type.getEnclosingMethodName());
+		writeString(out, type.getEnclosingMethodSignature());
+		writeStrings(out, type.getMemberTypeNames());
+		IApiField[] fields = type.getFields();
+		out.writeInt(fields.length);
+		for (IApiField field : fields) {
+			out.writeUTF(field.getName());
+			writeString(out, field.getSignature());
+			writeString(out, field.getGenericSignature());
+			out.writeInt(field.getModifiers());
+			writeValue(out, field.getConstantValue());
+		}
+		IApiMethod[] methods = type.getMethods();
+		out.writeInt(methods.length);
+		for (IApiMethod method : methods) {
+			out.writeUTF(method.getName());
+			out.writeUTF(method.getSignature());
+			writeString(out, method.getGenericSignature());
+			out.writeInt(method.getModifiers());
+			writeStrings(out, method.getExceptionNames());
+			writeString(out, method.getDefaultValue());
+		}
+	}
+
+	static ApiType readType(DataInputStream in, IApiComponent component, IApiTypeRoot root) throws IOException {
+		String name = in.readUTF();
+		String genericSignature = readString(in);
+		int modifiers = in.readInt();
+		String enclosingTypeName = readString(in);
+		String signature = 'L' + name.replace('.', '/') + ';';
+		ApiType type = new ApiType(component, name, signature, genericSignature, modifiers, enclosingTypeName, root);
+		type.setSuperclassName(readString(in));
+		type.setSuperInterfaceNames(readStrings(in));
+		String simpleName = readString(in);
+		if (simpleName != null) {
+			type.setSimpleName(simpleName);
+		}
+		if (in.readBoolean()) {
+			type.setAnonymous();
+		}
+		if (in.readBoolean()) {
+			type.setLocal();
+		}
+		if (in.readBoolean()) {
+			type.setMemberType();
+		}
+		String enclosingMethodName = readString(in);
+		String enclosingMethodSignature = readString(in);
+		if (enclosingMethodName != null) {
+			// the empty string marks a known absence of an enclosing method
+			type.setEnclosingMethodInfo(enclosingMethodName.isEmpty() ? null : enclosingMethodName,
+					enclosingMethodSignature == null || enclosingMethodSignature.isEmpty() ? null : enclosingMethodSignature);
+		}
+		String[] memberTypes = readStrings(in);
+		if (memberTypes != null) {
+			for (String memberType : memberTypes) {
+				type.addMemberType(name + '$' + memberType);
+			}
+		}
+		int fieldCount = in.readInt();
+		for (int i = 0; i < fieldCount; i++) {
+			String fieldName = in.readUTF();
+			String fieldSignature = readString(in);
+			String fieldGenericSignature = readString(in);
+			int fieldModifiers = in.readInt();
+			type.addField(fieldName, fieldSignature, fieldGenericSignature, fieldModifiers, readValue(in));
+		}
+		int methodCount = in.readInt();
+		for (int i = 0; i < methodCount; i++) {
+			String methodName = in.readUTF();
+			String methodSignature = in.readUTF();
+			String methodGenericSignature = readString(in);
+			int methodModifiers = in.readInt();
+			String[] exceptions = readStrings(in);
+			ApiMethod method = type.addMethod(methodName, methodSignature, methodGenericSignature, methodModifiers, exceptions);
+			method.setDefaultValue(readString(in));
+		}
+		return type;
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
+
+	private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+		if (values == null) {
+			out.writeInt(-1);
+			return;
+		}
+		out.writeInt(values.length);
+		for (String value : values) {
+			out.writeUTF(value);
+		}
+	}
+
+	private static String[] readStrings(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		String[] values = new String[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = in.readUTF();
+		}
+		return values;
+	}
+
+	private static void writeValue(DataOutputStream out, Object value) throws IOException {
+		if (value instanceof Integer i) {
+			out.writeByte(VALUE_INT);
+			out.writeInt(i.intValue());
+		} else if (value instanceof Long l) {
+			out.writeByte(VALUE_LONG);
+			out.writeLong(l.longValue());
+		} else if (value instanceof Float f) {
+			out.writeByte(VALUE_FLOAT);
+			out.writeFloat(f.floatValue());
+		} else if (value instanceof Double d) {
+			out.writeByte(VALUE_DOUBLE);
+			out.writeDouble(d.doubleValue());
+		} else if (value instanceof String s) {
+			out.writeByte(VALUE_STRING);
+			out.writeUTF(s);
+		} else if (value == null) {
+			out.writeByte(VALUE_NULL);
+		} else {
+			throw new IOException("Unsupported constant value: " + value.getClass()); //$NON-NLS-1$
+		}
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte kind = in.readByte();
+		return switch (kind) {
+			case VALUE_NULL -> null;
+			case VALUE_INT -> Integer.valueOf(in.readInt());
+			case VALUE_LONG -> Long.valueOf(in.readLong());
+			case VALUE_FLOAT -> Float.valueOf(in.readFloat());
+			case VALUE_DOUBLE -> Double.valueOf(in.readDouble());
+			case VALUE_STRING -> in.readUTF();
+			default -> throw new IOException("Unknown constant value kind: " + kind); //$NON-NLS-1$
+		};
+	}
+}
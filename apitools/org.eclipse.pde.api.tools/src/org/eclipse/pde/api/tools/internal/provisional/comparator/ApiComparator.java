@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2019 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -99,6 +103,35 @@ public class ApiComparator {
 	 * @throws IllegalArgumentException if one of the two baselines is null
 	 */
 	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final IProgressMonitor monitor) {
+		return compare(referenceBaseline, baseline, visibilityModifiers, force, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the difference between the given
+	 * baseline and the reference.
+	 * <p>
+	 * If the given parallelism is greater than one, the API components are
+	 * compared concurrently on a pool with the given number of threads. The
+	 * resulting delta is the same as the one of a sequential comparison, with
+	 * the children in the same order.
+	 * </p>
+	 *
+	 * @param referenceBaseline the given API baseline which is used as the
+	 *            reference
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param parallelism the number of API components to compare concurrently,
+	 *            <code>1</code> or less to compare them sequentially
+	 * @param monitor
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 */
+	public static IDelta compare(final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final int parallelism, final IProgressMonitor monitor) {
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		if (referenceBaseline == null || baseline == null) {
 			throw new IllegalArgumentException("None of the baselines must be null"); //$NON-NLS-1$
@@ -108,41 +141,44 @@ public class ApiComparator {
 		Set<String> apiComponentsIds = new HashSet<>();
 		final Delta globalDelta = new Delta();
 		SubMonitor apiLoopMonitor = localmonitor.split(1).setWorkRemaining(apiComponents.length);
-		for (IApiComponent apiComponentMainLoop : apiComponents) {
-			apiLoopMonitor.split(1);
-			IApiComponent apiComponent = apiComponentMainLoop;
-			if (!apiComponent.isSystemComponent()) {
-				String id = apiComponent.getSymbolicName();
-				IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
-				IDelta delta = null;
-				if (apiComponentBaseline == null) {
-					// report removal of an API component
-					delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
-							null, id, id);
-				} else {
-					apiComponentsIds.add(id);
-					String versionString = apiComponent.getVersion();
-					String versionString2 = apiComponentBaseline.getVersion();
-					IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
-							versionString, versionString2);
-					if (bundleVersionChangesDelta != null) {
-						globalDelta.add(bundleVersionChangesDelta);
-					}
-					if (!versionString.equals(versionString2) || force) {
-						long time = System.currentTimeMillis();
-						try {
-							delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
-									visibilityModifiers, localmonitor.split(1));
-						} finally {
-							if (ApiPlugin.DEBUG_API_COMPARATOR) {
-								System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
-										+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
-							}
+		if (parallelism > 1) {
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				List<ForkJoinTask<Delta>> tasks = new ArrayList<>(apiComponents.length);
+				for (IApiComponent apiComponent : apiComponents) {
+					if (!apiComponent.isSystemComponent()) {
+						String id = apiComponent.getSymbolicName();
+						if (baseline.getApiComponent(id) != null) {
+							apiComponentsIds.add(id);
 						}
+						tasks.add(pool.submit(() -> {
+							Delta componentDelta = new Delta();
+							compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, componentDelta, null);
+							return componentDelta;
+						}));
+					}
+				}
+				// merge in submission order so that the result does not
+				// depend on the scheduling
+				apiLoopMonitor.setWorkRemaining(tasks.size());
+				for (ForkJoinTask<Delta> task : tasks) {
+					for (IDelta delta : task.join().getChildren()) {
+						globalDelta.add(delta);
 					}
+					apiLoopMonitor.split(1);
 				}
-				if (delta != null && delta != NO_DELTA) {
-					globalDelta.add(delta);
+			} finally {
+				pool.shutdownNow();
+			}
+		} else {
+			for (IApiComponent apiComponent : apiComponents) {
+				SubMonitor componentMonitor = apiLoopMonitor.split(1);
+				if (!apiComponent.isSystemComponent()) {
+					String id = apiComponent.getSymbolicName();
+					if (baseline.getApiComponent(id) != null) {
+						apiComponentsIds.add(id);
+					}
+					compareComponent(apiComponent, referenceBaseline, baseline, visibilityModifiers, force, globalDelta, componentMonitor);
 				}
 			}
 		}
@@ -162,6 +198,45 @@ public class ApiComparator {
 		return globalDelta.isEmpty() ? NO_DELTA : globalDelta;
 	}
 
+	/**
+	 * Compares the given API component of the reference baseline with its
+	 * counterpart in the given baseline and adds the resulting deltas to the
+	 * given collector.
+	 */
+	private static void compareComponent(final IApiComponent apiComponent, final IApiBaseline referenceBaseline, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final Delta collector, final IProgressMonitor monitor) {
+		String id = apiComponent.getSymbolicName();
+		IApiComponent apiComponentBaseline = baseline.getApiComponent(id);
+		IDelta delta = null;
+		if (apiComponentBaseline == null) {
+			// report removal of an API component
+			delta = new Delta(null, IDelta.API_BASELINE_ELEMENT_TYPE, IDelta.REMOVED, IDelta.API_COMPONENT,
+					null, id, id);
+		} else {
+			String versionString = apiComponent.getVersion();
+			String versionString2 = apiComponentBaseline.getVersion();
+			IDelta bundleVersionChangesDelta = checkBundleVersionChanges(apiComponentBaseline, id,
+					versionString, versionString2);
+			if (bundleVersionChangesDelta != null) {
+				collector.add(bundleVersionChangesDelta);
+			}
+			if (!versionString.equals(versionString2) || force) {
+				long time = System.currentTimeMillis();
+				try {
+					delta = compare(apiComponent, apiComponentBaseline, referenceBaseline, baseline,
+							visibilityModifiers, monitor);
+				} finally {
+					if (ApiPlugin.DEBUG_API_COMPARATOR) {
+						System.out.println("Time spent for " + id + " " + versionString + " : " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+								+ (System.currentTimeMillis() - time) + "ms"); //$NON-NLS-1$
+					}
+				}
+			}
+		}
+		if (delta != null && delta != NO_DELTA) {
+			collector.add(delta);
+		}
+	}
+
 	/**
 	 * Returns a delta that corresponds to the difference between the given
 	 * component and the reference baseline.
@@ -529,20 +604,59 @@ public class ApiComparator {
 	 *             visited
 	 */
 	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final IProgressMonitor monitor) throws CoreException {
+		return compare(scope, baseline, visibilityModifiers, force, continueOnResolverError, 1, monitor);
+	}
+
+	/**
+	 * Returns a delta that corresponds to the comparison of the two given API
+	 * baselines. Nested API components with the same versions are not compared.
+	 * <p>
+	 * If the given parallelism is greater than one, the API components of the
+	 * scope are compared concurrently on a pool with the given number of
+	 * threads.
+	 * </p>
+	 *
+	 * @param scope the given scope for the comparison
+	 * @param baseline the given API baseline to compare with
+	 * @param visibilityModifiers the given visibility that triggers what
+	 *            visibility should be used for the comparison
+	 * @param force a flag to force the comparison of nested API components with
+	 *            the same versions
+	 * @param continueOnResolverError if <code>true</code> the comparison will
+	 *            continue even if a component in the scope has a resolver error
+	 * @param parallelism the number of API components to compare concurrently,
+	 *            <code>1</code> or less to compare them sequentially
+	 * @param monitor the given progress monitor to report progress
+	 *
+	 * @return a delta, an empty delta if no difference is found or null if the
+	 *         delta detection failed. If set to continue on resolver error a
+	 *         delta, possibly empty, will always be returned
+	 * @throws IllegalArgumentException if one of the two baselines is null
+	 *             CoreException if one of the element in the scope cannot be
+	 *             visited
+	 */
+	public static IDelta compare(final IApiScope scope, final IApiBaseline baseline, final int visibilityModifiers, final boolean force, final boolean continueOnResolverError, final int parallelism, final IProgressMonitor monitor) throws CoreException {
 
 		if (scope == null || baseline == null) {
 			throw new IllegalArgumentException("None of the scope or the baseline must be null"); //$NON-NLS-1$
 		}
 		SubMonitor localmonitor = SubMonitor.convert(monitor, 2);
 		final Set<IDelta> deltas = new HashSet<>();
-		final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force, visibilityModifiers,
-				continueOnResolverError, localmonitor.split(1));
-		scope.accept(visitor);
-
-		// If set to continue on error, return whatever deltas were
-		// collected
-		if (!continueOnResolverError && visitor.containsError()) {
-			return null;
+		ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
+		try {
+			final CompareApiScopeVisitor visitor = new CompareApiScopeVisitor(deltas, baseline, force,
+					visibilityModifiers, continueOnResolverError, pool, localmonitor.split(1));
+			scope.accept(visitor);
+			visitor.joinPendingComparisons();
+			// If set to continue on error, return whatever deltas were
+			// collected
+			if (!continueOnResolverError && visitor.containsError()) {
+				return null;
+			}
+		} finally {
+			if (pool != null) {
+				pool.shutdownNow();
+			}
 		}
 		if (deltas.isEmpty()) {
 			return NO_DELTA;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,11 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.provisional.comparator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.SubMonitor;
@@ -40,20 +44,43 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 	boolean continueOnResolverError = false;
 	boolean containsErrors = false;
 	SubMonitor monitor;
+	/**
+	 * Pool to compare API components on or <code>null</code> to compare them
+	 * while visiting
+	 */
+	ForkJoinPool pool;
+	/**
+	 * Pending component comparisons in visit order, only used with a pool
+	 */
+	List<ForkJoinTask<List<IDelta>>> pendingComparisons = new ArrayList<>();
 
 	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final SubMonitor monitor) {
+		this(deltas, baseline, force, visibilityModifiers, continueOnResolverError, null, monitor);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param pool the pool to compare API components on or <code>null</code>
+	 *            to compare them sequentially while visiting. When a pool is
+	 *            given, {@link #joinPendingComparisons()} must be called once
+	 *            the scope has been visited.
+	 */
+	public CompareApiScopeVisitor(final Set<IDelta> deltas, final IApiBaseline baseline, final boolean force, final int visibilityModifiers, final boolean continueOnResolverError, final ForkJoinPool pool, final SubMonitor monitor) {
 		this.deltas = deltas;
 		this.referenceBaseline = baseline;
 		this.visibilityModifiers = visibilityModifiers;
 		this.force = force;
 		this.continueOnResolverError = continueOnResolverError;
+		this.pool = pool;
 		this.monitor = monitor;
 	}
 
 	@Override
 	public boolean visit(IApiBaseline baseline) throws CoreException {
 		this.monitor.setWorkRemaining(100).split(1);
-		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, null);
+		int parallelism = this.pool != null ? this.pool.getParallelism() : 1;
+		IDelta delta = ApiComparator.compare(this.referenceBaseline, baseline, this.visibilityModifiers, this.force, parallelism, null);
 		if (delta != null) {
 			delta.accept(new DeltaVisitor() {
 				@Override
@@ -109,6 +136,24 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 		}
 
 		subMonitor.split(50);
+		if (this.pool != null) {
+			this.pendingComparisons.add(this.pool.submit(() -> compareComponent(referenceComponent, component)));
+		} else {
+			this.deltas.addAll(compareComponent(referenceComponent, component));
+		}
+		return false;
+	}
+
+	/**
+	 * Compares the given API component with its reference and returns the leaf
+	 * deltas.
+	 *
+	 * @param referenceComponent the reference component or <code>null</code>
+	 *            if the component was added
+	 * @param component the component to compare
+	 * @return the leaf deltas of the comparison
+	 */
+	List<IDelta> compareComponent(IApiComponent referenceComponent, IApiComponent component) {
 		final Delta globalDelta = new Delta();
 		globalDelta.add(ApiComparator.compare(referenceComponent, component, this.visibilityModifiers, null));
 		if (referenceComponent != null) {
@@ -119,15 +164,27 @@ public class CompareApiScopeVisitor extends ApiScopeVisitor {
 				globalDelta.add(bundleVersionChangesDelta);
 			}
 		}
+		final List<IDelta> leaves = new ArrayList<>();
 		globalDelta.accept(new DeltaVisitor() {
 			@Override
 			public void endVisit(IDelta localDelta) {
 				if (localDelta.getChildren().length == 0) {
-					CompareApiScopeVisitor.this.deltas.add(localDelta);
+					leaves.add(localDelta);
 				}
 			}
 		});
-		return false;
+		return leaves;
+	}
+
+	/**
+	 * Waits for the API component comparisons submitted to the pool and
+	 * collects their deltas in visit order. Does nothing if no pool is used.
+	 */
+	public void joinPendingComparisons() {
+		for (ForkJoinTask<List<IDelta>> comparison : this.pendingComparisons) {
+			this.deltas.addAll(comparison.join());
+		}
+		this.pendingComparisons.clear();
 	}
 
 	@Override
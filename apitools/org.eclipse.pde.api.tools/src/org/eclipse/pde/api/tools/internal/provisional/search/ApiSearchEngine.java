@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -235,6 +238,32 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, 1, monitor);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}
+	 * <p>
+	 * If the given parallelism is greater than one and the requestor supports
+	 * concurrent searches (see {@link IApiSearchRequestor#copy()}), the
+	 * elements of the scope are searched concurrently on a pool with the given
+	 * number of threads, each with its own copy of the requestor. The reporter
+	 * is then called from several threads, and
+	 * {@link IApiSearchReporter#reportComplete(IApiElement)} tells it when the
+	 * results of an element are complete.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param parallelism the number of elements to search concurrently,
+	 *            <code>1</code> or less to search them sequentially
+	 * @param monitor the monitor to report progress to
+	 * @throws CoreException if the search fails
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, int parallelism, IProgressMonitor monitor) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -250,31 +279,36 @@ public final class ApiSearchEngine {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
-		for (int i = 0; i < scopeelements.length; i++) {
-			try {
-				taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
-						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
-				localmonitor.setTaskName(taskname);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					loopstart = System.currentTimeMillis();
-					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
-				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
-				localmonitor.setTaskName(taskname);
-				if (localmonitor.isCanceled()) {
-					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
-				}
-				localmonitor.worked(1);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
-							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
-				}
-			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+		if (parallelism > 1 && requestor.copy() != null) {
+			mstatus = searchConcurrently(requestor, reporter, scopeelements, parallelism, localmonitor);
+		} else {
+			for (int i = 0; i < scopeelements.length; i++) {
+				try {
+					taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+							scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
+					localmonitor.setTaskName(taskname);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						loopstart = System.currentTimeMillis();
+						System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+					reporter.reportComplete(scopeelements[i]);
+					localmonitor.setTaskName(taskname);
+					if (localmonitor.isCanceled()) {
+						reporter.reportResults(scopeelements[i], NO_REFERENCES);
+						return;
+					}
+					localmonitor.worked(1);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
+								+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+					}
+				} catch (CoreException ce) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
 				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
 			}
 		}
 		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -285,6 +319,64 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Searches the given elements on a pool with the given number of threads,
+	 * each element with its own copy of the given requestor. Progress is
+	 * reported in the order of the elements.
+	 *
+	 * @return the status of the failed searches or <code>null</code>
+	 */
+	private MultiStatus searchConcurrently(IApiSearchRequestor requestor, IApiSearchReporter reporter, IApiElement[] scopeelements, int parallelism, SubMonitor monitor) {
+		IProgressMonitor cancelmonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return monitor.isCanceled();
+			}
+		};
+		MultiStatus mstatus = null;
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			List<ForkJoinTask<CoreException>> tasks = new ArrayList<>(scopeelements.length);
+			for (IApiElement element : scopeelements) {
+				tasks.add(pool.submit(() -> {
+					if (cancelmonitor.isCanceled()) {
+						return null;
+					}
+					long loopstart = System.currentTimeMillis();
+					try {
+						searchReferences(requestor.copy(), element, reporter, cancelmonitor);
+						reporter.reportComplete(element);
+					} catch (CoreException ce) {
+						return ce;
+					}
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println("Searched " + element.getApiComponent().getSymbolicName() + " in " //$NON-NLS-1$ //$NON-NLS-2$
+								+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < tasks.size(); i++) {
+				monitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext));
+				CoreException ce = tasks.get(i).join();
+				if (ce != null) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
+				}
+				if (monitor.isCanceled()) {
+					break;
+				}
+				monitor.split(2);
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		return mstatus;
+	}
+
 	/**
 	 * Computes the process context (label)
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2011 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,21 @@ public interface IApiSearchReporter {
 	 */
 	public void reportResults(IApiElement element, final IReference[] references);
 
+	/**
+	 * Reports that all results of the given element have been reported. The
+	 * {@link ApiSearchEngine} calls this method once for each element of the
+	 * search scope, possibly from different threads when elements are searched
+	 * concurrently.
+	 * <p>
+	 * By default, does nothing.
+	 * </p>
+	 *
+	 * @param element the element that was searched
+	 */
+	public default void reportComplete(IApiElement element) {
+		// nothing to do
+	}
+
 	/**
 	 * Reports the current listing of objects that were not searched for whatever
 	 * reason.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,4 +131,20 @@ public interface IApiSearchRequestor {
 	 *         otherwise
 	 */
 	public boolean includesIllegalUse();
+
+	/**
+	 * Returns a new requestor with the same settings as this one, used by the
+	 * {@link ApiSearchEngine} to search one element of the scope while other
+	 * elements are searched concurrently. Requestors that keep state while an
+	 * element is searched must return a new instance.
+	 * <p>
+	 * By default, returns <code>null</code>.
+	 * </p>
+	 *
+	 * @return a requestor for a concurrent search, or <code>null</code> if
+	 *         this requestor does not support concurrent searches
+	 */
+	public default IApiSearchRequestor copy() {
+		return null;
+	}
 }
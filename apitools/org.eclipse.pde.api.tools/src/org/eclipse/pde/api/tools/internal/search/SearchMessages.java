@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -172,6 +172,7 @@ public class SearchMessages extends NLS {
 	public static String UseReportConverter_version;
 	public static String UseReportConverter_version_column_description;
 	public static String UseReportConvertor_additional_infos_section;
+	public static String UseScanIndex_InvalidIndex;
 	public static String UseScanManager_InvalidArchive;
 	public static String UseScanManager_InvalidDir;
 	public static String UseScanParser_analyzing_references;
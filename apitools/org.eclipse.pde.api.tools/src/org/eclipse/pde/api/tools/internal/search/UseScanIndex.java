@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IFieldDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMemberDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IMethodDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
+
+/**
+ * A binary index of the references of an API use scan, so that the references
+ * to the types of one component can be looked up without parsing the XML
+ * reports of the scan.
+ * <p>
+ * The index is written once from the XML reports and memory-mapped for
+ * reading. Components and referenced root types are kept in sorted tables
+ * that are searched binary, strings are only decoded when a reference that
+ * uses them is read. The layout (all values are big-endian ints unless noted)
+ * is:
+ * </p>
+ *
+ * <pre>
+ * magic, version, stamp (long), string count, string offset*
+ * component count, (component id, type count, type table offset)*
+ * (root type, reference count, reference offset)*
+ * reference*       fixed size records, see RECORD_SIZE
+ * (length, UTF-8 bytes)*
+ * </pre>
+ */
+public class UseScanIndex {
+
+	/**
+	 * The name of the index file written next to the XML reports of a scan
+	 */
+	public static final String INDEX_FILE_NAME = "usescan.index"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x41505553; // "APUS"
+	private static final int VERSION = 1;
+
+	private static final int STRING_TABLE_OFFSET = 20;
+	private static final int ENTRY_SIZE = 12;
+
+	/**
+	 * Number of ints of a reference: referencing component id and version,
+	 * origin member (element type, type, name, signature), line number,
+	 * referenced component version, referenced member (element type, type,
+	 * name, signature), kind, flags and visibility
+	 */
+	private static final int RECORD_SIZE = 15;
+	private static final int RECORD_BYTES = RECORD_SIZE * 4;
+
+	private final ByteBuffer fBuffer;
+	private final String[] fStrings;
+	private final int fComponentTable;
+	private final int fComponentCount;
+
+	private UseScanIndex(ByteBuffer buffer) {
+		fBuffer = buffer;
+		int stringCount = buffer.getInt(16);
+		fStrings = new String[stringCount];
+		fComponentTable = STRING_TABLE_OFFSET + stringCount * 4 + 4;
+		fComponentCount = buffer.getInt(fComponentTable - 4);
+	}
+
+	/**
+	 * Opens the given index file.
+	 *
+	 * @param file the index file
+	 * @return the index
+	 * @throws IOException if the file can not be read or is not an index
+	 */
+	public static UseScanIndex open(File file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			ByteBuffer buffer = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			if (!isValid(buffer)) {
+				throw new IOException(NLS.bind(SearchMessages.UseScanIndex_InvalidIndex, file.getAbsolutePath()));
+			}
+			return new UseScanIndex(buffer);
+		}
+	}
+
+	/**
+	 * Returns whether the buffer starts with the header of an index and is
+	 * large enough for its string and component tables.
+	 */
+	private static boolean isValid(ByteBuffer buffer) {
+		int limit = buffer.limit();
+		if (limit < STRING_TABLE_OFFSET || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			return false;
+		}
+		long stringCount = buffer.getInt(16);
+		long componentTable = STRING_TABLE_OFFSET + stringCount * 4 + 4;
+		if (stringCount < 0 || componentTable > limit) {
+			return false;
+		}
+		long componentCount = buffer.getInt((int) componentTable - 4);
+		return componentCount >= 0 && componentTable + componentCount * ENTRY_SIZE <= limit;
+	}
+
+	/**
+	 * Returns the stamp of the reports the given index was written from,
+	 * without opening the index.
+	 *
+	 * @param file the index file
+	 * @return the stamp or <code>-1</code> if the file is not a readable index
+	 * @see #computeStamp(File)
+	 */
+	public static long readStamp(File file) {
+		if (!file.isFile()) {
+			return -1;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				return -1;
+			}
+			return input.readLong();
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Computes a stamp of the XML reports of a scan, from the paths, sizes and
+	 * modification times of its report files. An index written next to the
+	 * reports does not change the stamp.
+	 *
+	 * @param xmlLocation the directory containing the XML reports
+	 * @return the stamp
+	 */
+	public static long computeStamp(File xmlLocation) {
+		return computeStamp(xmlLocation, "", 0) & Long.MAX_VALUE; //$NON-NLS-1$
+	}
+
+	private static long computeStamp(File directory, String path, long stamp) {
+		File[] files = directory.listFiles();
+		if (files != null) {
+			// the sum does not depend on the order of the files
+			for (File file : files) {
+				String name = path + file.getName();
+				if (file.isDirectory()) {
+					stamp = computeStamp(file, name + '/', stamp + name.hashCode() * 31L);
+				} else if (!name.startsWith(INDEX_FILE_NAME)) {
+					stamp += (name.hashCode() * 31L) ^ file.lastModified() ^ (file.length() << 40);
+				}
+			}
+		}
+		return stamp;
+	}
+
+	/**
+	 * Writes the index of the XML reports in the given location.
+	 *
+	 * @param xmlLocation the directory containing the XML reports
+	 * @param file the index file to write
+	 * @param monitor progress monitor or <code>null</code>
+	 * @throws Exception if the reports can not be parsed or the index can not
+	 *             be written
+	 */
+	public static void write(String xmlLocation, File file, IProgressMonitor monitor) throws Exception {
+		long stamp = computeStamp(new File(xmlLocation));
+		IndexWriter writer = new IndexWriter();
+		new UseScanParser().parse(xmlLocation, monitor, writer);
+		File parent = file.getAbsoluteFile().getParentFile();
+		if (parent != null) {
+			parent.mkdirs();
+		}
+		File temp = new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+				writer.write(output, stamp);
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	/**
+	 * @return the stamp of the reports this index was written from
+	 */
+	public long getStamp() {
+		return fBuffer.getLong(8);
+	}
+
+	/**
+	 * Adds the references to the given types of the given component to the
+	 * collection. References to member types are added for their top level
+	 * type.
+	 *
+	 * @param componentId the symbolic name of the referenced component
+	 * @param types the qualified names of the referenced top level types, or
+	 *            <code>null</code> or an empty array for all types
+	 * @param references the collection to add the references to
+	 */
+	public void collectReferences(String componentId, String[] types, IReferenceCollection references) {
+		int component = find(fComponentTable, fComponentCount, componentId);
+		if (component < 0) {
+			return;
+		}
+		int typeCount = fBuffer.getInt(component + 4);
+		int typeTable = fBuffer.getInt(component + 8);
+		if (types == null || types.length == 0) {
+			for (int i = 0; i < typeCount; i++) {
+				addReferences(typeTable + i * ENTRY_SIZE, componentId, references);
+			}
+		} else {
+			for (String type : types) {
+				int entry = find(typeTable, typeCount, type);
+				if (entry >= 0) {
+					addReferences(entry, componentId, references);
+				}
+			}
+		}
+	}
+
+	private void addReferences(int entry, String componentId, IReferenceCollection references) {
+		String type = getString(fBuffer.getInt(entry));
+		int count = fBuffer.getInt(entry + 4);
+		int record = fBuffer.getInt(entry + 8);
+		for (int i = 0; i < count; i++, record += RECORD_BYTES) {
+			IComponentDescriptor from = Factory.componentDescriptor(getString(get(record, 0)), getString(get(record, 1)));
+			IComponentDescriptor to = Factory.componentDescriptor(componentId, getString(get(record, 7)));
+			ReferenceDescriptor reference = new ReferenceDescriptor(from, getMember(record, 2), get(record, 6), to, getMember(record, 8), get(record, 12), get(record, 13), get(record, 14), null);
+			references.add(type, reference);
+		}
+	}
+
+	private int get(int record, int index) {
+		return fBuffer.getInt(record + index * 4);
+	}
+
+	private IMemberDescriptor getMember(int record, int index) {
+		IReferenceTypeDescriptor type = Factory.typeDescriptor(getString(get(record, index + 1)));
+		switch (get(record, index)) {
+			case IElementDescriptor.METHOD:
+				return type.getMethod(getString(get(record, index + 2)), getString(get(record, index + 3)));
+			case IElementDescriptor.FIELD:
+				return type.getField(getString(get(record, index + 2)));
+			default:
+				return type;
+		}
+	}
+
+	/**
+	 * Binary search of a sorted table of entries starting with a string id.
+	 *
+	 * @return the offset of the entry or <code>-1</code>
+	 */
+	private int find(int table, int count, String key) {
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int entry = table + mid * ENTRY_SIZE;
+			int result = getString(fBuffer.getInt(entry)).compareTo(key);
+			if (result < 0) {
+				low = mid + 1;
+			} else if (result > 0) {
+				high = mid - 1;
+			} else {
+				return entry;
+			}
+		}
+		return -1;
+	}
+
+	private String getString(int id) {
+		if (id < 0) {
+			return null;
+		}
+		String value = fStrings[id];
+		if (value == null) {
+			int offset = fBuffer.getInt(STRING_TABLE_OFFSET + id * 4);
+			byte[] bytes = new byte[fBuffer.getInt(offset)];
+			fBuffer.get(offset + 4, bytes);
+			value = new String(bytes, StandardCharsets.UTF_8);
+			fStrings[id] = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Collects the references of the parsed reports by referenced component
+	 * and root type
+	 */
+	private static class IndexWriter extends UseScanVisitor {
+		private final Map<String, Integer> fStringIds = new HashMap<>();
+		private final List<String> fStringList = new ArrayList<>();
+		private final Map<String, Map<String, List<int[]>>> fComponents = new TreeMap<>();
+		private IComponentDescriptor fCurrentComponent;
+		private IComponentDescriptor fReferencingComponent;
+		private IMemberDescriptor fCurrentReferencedMember;
+		private List<int[]> fCurrentRecords;
+
+		@Override
+		public boolean visitComponent(IComponentDescriptor target) {
+			fCurrentComponent = target;
+			return true;
+		}
+
+		@Override
+		public boolean visitReferencingComponent(IComponentDescriptor component) {
+			fReferencingComponent = component;
+			return true;
+		}
+
+		@Override
+		public boolean visitMember(IMemberDescriptor referencedMember) {
+			String rootType;
+			if (referencedMember instanceof IReferenceTypeDescriptor) {
+				rootType = ((IReferenceTypeDescriptor) referencedMember).getQualifiedName();
+			} else {
+				rootType = referencedMember.getEnclosingType().getQualifiedName();
+			}
+			if (rootType.indexOf('$') > -1) {
+				rootType = rootType.substring(0, rootType.indexOf('$'));
+			}
+			fCurrentReferencedMember = referencedMember;
+			fCurrentRecords = fComponents.computeIfAbsent(fCurrentComponent.getId(), id -> new TreeMap<>()).computeIfAbsent(rootType, type -> new ArrayList<>());
+			return true;
+		}
+
+		@Override
+		public void visitReference(IReferenceDescriptor reference) {
+			int[] record = new int[RECORD_SIZE];
+			record[0] = id(fReferencingComponent.getId());
+			record[1] = id(fReferencingComponent.getVersion());
+			setMember(record, 2, reference.getMember());
+			record[6] = reference.getLineNumber();
+			record[7] = id(fCurrentComponent.getVersion());
+			setMember(record, 8, fCurrentReferencedMember);
+			record[12] = reference.getReferenceKind();
+			record[13] = reference.getReferenceFlags();
+			record[14] = reference.getVisibility();
+			fCurrentRecords.add(record);
+		}
+
+		private void setMember(int[] record, int index, IMemberDescriptor member) {
+			record[index] = member.getElementType();
+			switch (member.getElementType()) {
+				case IElementDescriptor.METHOD:
+					record[index + 1] = id(member.getEnclosingType().getQualifiedName());
+					record[index + 2] = id(member.getName());
+					record[index + 3] = id(((IMethodDescriptor) member).getSignature());
+					break;
+				case IElementDescriptor.FIELD:
+					record[index + 1] = id(member.getEnclosingType().getQualifiedName());
+					record[index + 2] = id(((IFieldDescriptor) member).getName());
+					record[index + 3] = -1;
+					break;
+				default:
+					record[index + 1] = id(((IReferenceTypeDescriptor) member).getQualifiedName());
+					record[index + 2] = -1;
+					record[index + 3] = -1;
+					break;
+			}
+		}
+
+		private int id(String value) {
+			if (value == null) {
+				return -1;
+			}
+			return fStringIds.computeIfAbsent(value, key -> {
+				fStringList.add(key);
+				return fStringList.size() - 1;
+			});
+		}
+
+		void write(DataOutputStream output, long stamp) throws IOException {
+			int typeCount = 0;
+			int recordCount = 0;
+			for (Map.Entry<String, Map<String, List<int[]>>> component : fComponents.entrySet()) {
+				id(component.getKey());
+				for (Map.Entry<String, List<int[]>> type : component.getValue().entrySet()) {
+					id(type.getKey());
+					typeCount++;
+					recordCount += type.getValue().size();
+				}
+			}
+			byte[][] strings = new byte[fStringList.size()][];
+			for (int i = 0; i < strings.length; i++) {
+				strings[i] = fStringList.get(i).getBytes(StandardCharsets.UTF_8);
+			}
+			int typeTable = STRING_TABLE_OFFSET + strings.length * 4 + 4 + fComponents.size() * ENTRY_SIZE;
+			int recordTable = typeTable + typeCount * ENTRY_SIZE;
+			int offset = recordTable + recordCount * RECORD_BYTES;
+
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			output.writeLong(stamp);
+			output.writeInt(strings.length);
+			for (byte[] bytes : strings) {
+				output.writeInt(offset);
+				offset += 4 + bytes.length;
+			}
+			output.writeInt(fComponents.size());
+			for (Map.Entry<String, Map<String, List<int[]>>> component : fComponents.entrySet()) {
+				output.writeInt(id(component.getKey()));
+				output.writeInt(component.getValue().size());
+				output.writeInt(typeTable);
+				typeTable += component.getValue().size() * ENTRY_SIZE;
+			}
+			for (Map<String, List<int[]>> types : fComponents.values()) {
+				for (Map.Entry<String, List<int[]>> type : types.entrySet()) {
+					output.writeInt(id(type.getKey()));
+					output.writeInt(type.getValue().size());
+					output.writeInt(recordTable);
+					recordTable += type.getValue().size() * RECORD_BYTES;
+				}
+			}
+			for (Map<String, List<int[]>> types : fComponents.values()) {
+				for (List<int[]> records : types.values()) {
+					for (int[] record : records) {
+						for (int value : record) {
+							output.writeInt(value);
+						}
+					}
+				}
+			}
+			for (byte[] bytes : strings) {
+				output.writeInt(bytes.length);
+				output.write(bytes);
+			}
+		}
+	}
+}
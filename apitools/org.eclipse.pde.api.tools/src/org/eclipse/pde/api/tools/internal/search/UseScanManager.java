@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2013 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,8 +17,10 @@ import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -44,6 +46,7 @@ public class UseScanManager {
 	private static UseScanCache fApiComponentCache;
 	private static UseScanManager fUseScanProcessor;
 	private static String tempLocation = "${workspace_loc}/.metadata/.plugins/" + ApiPlugin.PLUGIN_ID + "/ApiUseScans/"; //$NON-NLS-1$ //$NON-NLS-2$
+	private static String indexLocation = "${workspace_loc}/.metadata/.plugins/" + ApiPlugin.PLUGIN_ID + "/ApiUseScanIndexes/"; //$NON-NLS-1$ //$NON-NLS-2$
 
 	public static final String STATE_DELIM = "*"; //$NON-NLS-1$
 	public static final String LOCATION_DELIM = "|"; //$NON-NLS-1$
@@ -88,6 +91,7 @@ public class UseScanManager {
 	}
 
 	private String[] fLocations = null;
+	private final Map<String, UseScanIndex> fIndexes = new HashMap<>();
 
 	/**
 	 * {@link FileFilter} for finding use scan directories
@@ -211,7 +215,12 @@ public class UseScanManager {
 							}
 							throw new Exception(message);
 						}
-						parser.parse(locations[i], iterationMonitor, visitor);
+						UseScanIndex index = apiComponent == null ? null : getIndex(locations[i], iterationMonitor);
+						if (index != null) {
+							index.collectReferences(apiComponent.getSymbolicName(), types, references);
+						} else {
+							parser.parse(locations[i], iterationMonitor, visitor);
+						}
 					} catch (Exception e) {
 						ApiPlugin.log(e); // log the exception and continue with
 											// next location
@@ -229,6 +238,55 @@ public class UseScanManager {
 		}
 	}
 
+	/**
+	 * Returns the binary index of the scan in the given location. The index
+	 * written with the scan is used if it was written from the current reports.
+	 * Otherwise an index is written to the metadata area when the scan is first
+	 * read, and written again when the reports of the scan change.
+	 *
+	 * @param location the location of the XML reports of a scan
+	 * @return the index or <code>null</code> if no index can be read
+	 */
+	private synchronized UseScanIndex getIndex(String location, IProgressMonitor monitor) {
+		File scan = new File(location);
+		File file = new File(scan, UseScanIndex.INDEX_FILE_NAME);
+		UseScanIndex index = fIndexes.get(location);
+		try {
+			long stamp = UseScanIndex.computeStamp(scan);
+			if (index != null && index.getStamp() == stamp) {
+				return index;
+			}
+			if (UseScanIndex.readStamp(file) == stamp) {
+				// the index written with the scan is only used while the
+				// reports are unchanged
+				index = UseScanIndex.open(file);
+				fIndexes.put(location, index);
+				return index;
+			}
+			String indexDir = VariablesPlugin.getDefault().getStringVariableManager().performStringSubstitution(indexLocation);
+			String name = Integer.toHexString(scan.getAbsolutePath().hashCode());
+			File current = new File(indexDir, name + '.' + stamp);
+			file = current;
+			if (UseScanIndex.readStamp(file) != stamp) {
+				// older indexes may still be mapped
+				File[] older = new File(indexDir).listFiles(f -> f.getName().startsWith(name + '.') && !f.equals(current));
+				if (older != null) {
+					for (File old : older) {
+						FileManager.getManager().recordTempFileRoot(old.getAbsolutePath());
+					}
+				}
+				UseScanIndex.write(location, file, monitor);
+			}
+			index = UseScanIndex.open(file);
+			fIndexes.put(location, index);
+			return index;
+		} catch (Exception e) {
+			ApiPlugin.log(e);
+			fIndexes.remove(location);
+			return null;
+		}
+	}
+
 	/**
 	 * Returns the scan
 	 */
@@ -384,5 +442,8 @@ public class UseScanManager {
 			reference.clear();
 		}
 		fApiComponentCache.flush();
+		synchronized (this) {
+			fIndexes.clear();
+		}
 	}
 }
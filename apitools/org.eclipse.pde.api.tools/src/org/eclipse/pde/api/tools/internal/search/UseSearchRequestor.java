@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,26 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 		prepareScope(scope);
 	}
 
+	/**
+	 * Constructor for a requestor with the settings of the given one
+	 *
+	 * @param requestor the requestor to copy the settings from
+	 */
+	private UseSearchRequestor(UseSearchRequestor requestor) {
+		fSearchMask = requestor.fSearchMask;
+		fComponentIds = requestor.fComponentIds;
+		fScope = requestor.fScope;
+		jarPatterns = requestor.jarPatterns;
+		antFilterRoot = requestor.antFilterRoot;
+		fAnalyzer = new ReferenceAnalyzer();
+	}
+
+	@Override
+	public IApiSearchRequestor copy() {
+		// the filter stores and problem detectors are set up per component
+		return new UseSearchRequestor(this);
+	}
+
 	@Override
 	public boolean acceptComponent(IApiComponent component) {
 		try {
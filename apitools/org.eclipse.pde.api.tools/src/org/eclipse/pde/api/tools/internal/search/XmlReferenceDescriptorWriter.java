@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -26,8 +33,12 @@ import java.util.Set;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
 import org.eclipse.pde.api.tools.internal.builder.Reference;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
@@ -65,6 +76,7 @@ public class XmlReferenceDescriptorWriter {
 	private String fLocation = null;
 	private Map<String, Map<String, Map<Integer, Map<Integer, Map<String, Set<IReferenceDescriptor>>>>>> fReferenceMap = null;
 	private DocumentBuilder parser = null;
+	private XMLOutputFactory fOutputFactory = null;
 
 	/**
 	 * Alternate API component where references were unresolved, or
@@ -235,37 +247,28 @@ public class XmlReferenceDescriptorWriter {
 			Map<String, Set<IReferenceDescriptor>> map, int visibility)
 			throws CoreException, IOException {
 		if (parent.exists()) {
+			File out = new File(parent, name + ".xml"); //$NON-NLS-1$
+			if (!out.exists()) {
+				streamGroup(origin, referee, out, name, map, visibility);
+				return;
+			}
 			Document doc = null;
 			Element root = null;
 			int count = 0;
-			File out = new File(parent, name + ".xml"); //$NON-NLS-1$
-			if (out.exists()) {
-				try {
-					try (FileInputStream inputStream = new FileInputStream(out)) {
-						doc = this.parser.parse(inputStream);
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
-					if (doc == null) {
-						return;
-					}
-					root = doc.getDocumentElement();
-					String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
-					count = Integer.parseInt(value);
-				} catch (SAXException se) {
-					se.printStackTrace();
+			try {
+				try (FileInputStream inputStream = new FileInputStream(out)) {
+					doc = this.parser.parse(inputStream);
+				} catch (IOException e) {
+					e.printStackTrace();
 				}
-			} else {
-				doc = Util.newDocument();
-				root = doc.createElement(IApiXmlConstants.REFERENCES);
-				doc.appendChild(root);
-				root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
-				root.setAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
-				root.setAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
-				root.setAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
-				if (alternate != null) {
-					root.setAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+				if (doc == null) {
+					return;
 				}
+				root = doc.getDocumentElement();
+				String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
+				count = Integer.parseInt(value);
+			} catch (SAXException se) {
+				se.printStackTrace();
 			}
 			if (doc == null || root == null) {
 				return;
@@ -299,6 +302,76 @@ public class XmlReferenceDescriptorWriter {
 		}
 	}
 
+	/**
+	 * Writes a new file for a group of references with an
+	 * {@link XMLStreamWriter}, without building a document in memory. Files
+	 * that already exist are merged through a document instead, see
+	 * {@link #writeGroup(String, String, File, String, Map, int)}.
+	 *
+	 * @param origin the name of the bundle that has the references in it
+	 * @param referee the name of the bundle that is referenced
+	 */
+	private void streamGroup(String origin, String referee, File out, String name,
+			Map<String, Set<IReferenceDescriptor>> map, int visibility)
+			throws CoreException, IOException {
+		int count = 0;
+		for (Set<IReferenceDescriptor> refs : map.values()) {
+			count += refs.size();
+		}
+		if (fOutputFactory == null) {
+			fOutputFactory = XMLOutputFactory.newFactory();
+		}
+		try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(out))) {
+			XMLStreamWriter writer = fOutputFactory.createXMLStreamWriter(stream, StandardCharsets.UTF_8.name());
+			try {
+				writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0"); //$NON-NLS-1$
+				writer.writeStartElement(IApiXmlConstants.REFERENCES);
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
+				writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
+				writer.writeAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
+				writer.writeAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
+				if (alternate != null) {
+					writer.writeAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+				}
+				for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
+					writer.writeStartElement(IApiXmlConstants.ELEMENT_TARGET);
+					writer.writeAttribute(IApiXmlConstants.ATTR_NAME, entry.getKey());
+					// set qualified referenced attributes
+					IMemberDescriptor resolved = entry.getValue().iterator().next().getReferencedMember();
+					if (resolved != null) {
+						writeMemberDetails(writer, resolved);
+					}
+					// group by kind, the flags of a kind are the ones of its
+					// first reference
+					Map<Integer, List<IReferenceDescriptor>> kinds = new LinkedHashMap<>();
+					for (IReferenceDescriptor ref : entry.getValue()) {
+						kinds.computeIfAbsent(Integer.valueOf(ref.getReferenceKind()), k -> new ArrayList<>()).add(ref);
+					}
+					for (Entry<Integer, List<IReferenceDescriptor>> kind : kinds.entrySet()) {
+						writer.writeStartElement(IApiXmlConstants.REFERENCE_KIND);
+						writer.writeAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.getKey().intValue()));
+						writer.writeAttribute(IApiXmlConstants.ATTR_KIND, kind.getKey().toString());
+						writer.writeAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(kind.getValue().get(0).getReferenceFlags()));
+						for (IReferenceDescriptor ref : kind.getValue()) {
+							if (ref.getReferencedMember() != null) {
+								writeReference(writer, ref);
+							}
+						}
+						writer.writeEndElement();
+					}
+					writer.writeEndElement();
+				}
+				writer.writeEndElement();
+				writer.writeEndDocument();
+			} finally {
+				writer.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new CoreException(Status.error("Unable to write " + out, e)); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Add member descriptor details to the given element.
 	 *
@@ -306,24 +379,46 @@ public class XmlReferenceDescriptorWriter {
 	 * @param member member to add details for
 	 */
 	private void addMemberDetails(Element element, IMemberDescriptor member) {
-		switch (member.getElementType()) {
-			case IElementDescriptor.TYPE -> element.setAttribute(IApiXmlConstants.ATTR_TYPE,
-					((IReferenceTypeDescriptor) member).getQualifiedName());
-			case IElementDescriptor.FIELD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-			}
-			case IElementDescriptor.METHOD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-				element.setAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
-			}
-			default -> { /**/ }
+		String[] details = getMemberDetails(member);
+		for (int i = 0; i < details.length; i += 2) {
+			element.setAttribute(details[i], details[i + 1]);
+		}
+	}
+
+	/**
+	 * Writes member descriptor details as attributes of the current element.
+	 *
+	 * @param writer XML writer
+	 * @param member member to add details for
+	 */
+	private void writeMemberDetails(XMLStreamWriter writer, IMemberDescriptor member) throws XMLStreamException {
+		String[] details = getMemberDetails(member);
+		for (int i = 0; i < details.length; i += 2) {
+			writer.writeAttribute(details[i], details[i + 1]);
 		}
 	}
 
+	/**
+	 * Returns the attributes describing the given member descriptor.
+	 *
+	 * @param member member to get the details for
+	 * @return the attribute names and values, alternating
+	 */
+	private String[] getMemberDetails(IMemberDescriptor member) {
+		return switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> new String[] {
+					IApiXmlConstants.ATTR_TYPE, ((IReferenceTypeDescriptor) member).getQualifiedName() };
+			case IElementDescriptor.FIELD -> new String[] {
+					IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName(),
+					IApiXmlConstants.ATTR_MEMBER_NAME, member.getName() };
+			case IElementDescriptor.METHOD -> new String[] {
+					IApiXmlConstants.ATTR_TYPE, member.getEnclosingType().getQualifiedName(),
+					IApiXmlConstants.ATTR_MEMBER_NAME, member.getName(),
+					IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature() };
+			default -> new String[0];
+		};
+	}
+
 	/**
 	 * gets the root kind element
 	 */
@@ -387,6 +482,23 @@ public class XmlReferenceDescriptorWriter {
 		}
 	}
 
+	/**
+	 * Writes the attributes from the given {@link IReference} into a new
+	 * element of the given writer.
+	 */
+	private void writeReference(XMLStreamWriter writer, IReferenceDescriptor reference) throws CoreException, XMLStreamException {
+		writer.writeEmptyElement(IApiXmlConstants.ATTR_REFERENCE);
+		IMemberDescriptor member = reference.getMember();
+		writer.writeAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
+		String[] messages = reference.getProblemMessages();
+		if (messages != null) {
+			writer.writeAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
+		}
+		// add detailed information about origin
+		writeMemberDetails(writer, member);
+		writer.writeAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
+	}
+
 	/**
 	 * Gets the {@link String} value of the given array by calling
 	 * {@link #toString()} on each of the elements in the array.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -49,10 +51,17 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private String fLocation = null;
 	private DocumentBuilder parser = null;
 	private boolean debug = false;
+	private boolean stream = false;
 	private int referenceCount = 0;
 	private int illegalCount = 0;
 	private int internalCount = 0;
 
+	/**
+	 * References of the elements being searched in streaming mode, written once
+	 * the results of an element are complete
+	 */
+	private final Map<IApiElement, List<IReferenceDescriptor>> fPending = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor
 	 *
@@ -60,10 +69,31 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	 *            to write the reports to
 	 * @param debug if debugging infos should be written out to the console
 	 */
-	@SuppressWarnings("restriction")
 	public XmlSearchReporter(String location, boolean debug) {
+		this(location, debug, false);
+	}
+
+	/**
+	 * Constructor
+	 * <p>
+	 * In streaming mode, the references of an element are kept until
+	 * {@link #reportComplete(IApiElement)} is called for it and are then
+	 * written at once, instead of merging each reported batch into the XML
+	 * files written so far. This is meant for searches where the elements are
+	 * searched concurrently and the report location is empty.
+	 * </p>
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to write the reports to
+	 * @param debug if debugging infos should be written out to the console
+	 * @param stream if the references should be written once the results of
+	 *            an element are complete
+	 */
+	@SuppressWarnings("restriction")
+	public XmlSearchReporter(String location, boolean debug, boolean stream) {
 		fLocation = location;
 		this.debug = debug;
+		this.stream = stream;
 		try {
 			parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
 			parser.setErrorHandler(new DefaultHandler());
@@ -82,8 +112,10 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
+		int total = 0;
+		int illegal = 0;
+		int internal = 0;
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
 			try {
@@ -92,15 +124,15 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 				// Update counters
 				if (!writtenReferences.contains(descriptor)) {
-					referenceCount++;
+					total++;
 					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
-						illegalCount++;
+						illegal++;
 					}
 					// Though visibility is a bit flag, we want to match the xml
 					// output exactly, which separates into folders by
 					// visibility equality
 					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
-						internalCount++;
+						internal++;
 					}
 					writtenReferences.add(descriptor);
 				}
@@ -109,8 +141,37 @@ public class XmlSearchReporter implements IApiSearchReporter {
 				ApiPlugin.log(e.getStatus());
 			}
 		}
+		addCounts(total, illegal, internal);
+
+		if (stream) {
+			fPending.computeIfAbsent(element, e -> new ArrayList<>()).addAll(descriptors);
+		} else {
+			XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+			writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		}
+	}
+
+	@Override
+	public void reportComplete(IApiElement element) {
+		List<IReferenceDescriptor> descriptors = fPending.remove(element);
+		if (descriptors != null) {
+			XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
+			writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		}
+	}
+
+	private synchronized void addCounts(int total, int illegal, int internal) {
+		referenceCount += total;
+		illegalCount += illegal;
+		internalCount += internal;
+	}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	/**
+	 * @return the number of references reported by this reporter since its
+	 *         creation
+	 */
+	public synchronized int getReferenceCount() {
+		return referenceCount;
 	}
 
 	/**
@@ -174,7 +235,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	}
 
 	@Override
-	public void reportCounts() {
+	public synchronized void reportCounts() {
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
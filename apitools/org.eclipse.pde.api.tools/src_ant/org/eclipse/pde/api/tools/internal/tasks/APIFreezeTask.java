@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -140,7 +140,7 @@ public class APIFreezeTask extends CommonUtilsTask {
 			time = System.currentTimeMillis();
 		}
 		try {
-			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, null);
+			delta = ApiComparator.compare(getScope(currentBaseline), referenceBaseline, VisibilityModifiers.API, true, processUnresolvedBundles, this.parallelism, null);
 		} catch (CoreException e) {
 			// ignore
 		} finally {
@@ -376,6 +376,27 @@ public class APIFreezeTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of API components to compare concurrently.
+	 * <p>
+	 * The value is a positive number, or <code>0</code> to use as many threads
+	 * as there are available processors.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>, API components are compared sequentially.
+	 * </p>
+	 *
+	 * @param value the given parallelism
+	 * @throws BuildException if the given value is not a positive number or
+	 *             <code>0</code>
+	 */
+	public void setParallelism(String value) {
+		this.parallelism = parseParallelism(value);
+		if (this.debug) {
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Modifies the given doc to add a new element under the root element that
 	 * lists all the components that had resolver errors which could affect the
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,11 +33,11 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
-import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
+import org.eclipse.pde.api.tools.internal.search.UseScanIndex;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.internal.util.FilteredElements;
@@ -118,6 +118,11 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * If a binary index of the references should be written with the reports
+	 */
+	private boolean binaryIndex = false;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -182,6 +187,43 @@ public final class ApiUseTask extends CommonUtilsTask {
 		this.reportLocation = reportlocation;
 	}
 
+	/**
+	 * Sets if a binary index of the references should be written to the report
+	 * location, in addition to the XML reports. The index is used instead of the
+	 * XML reports when the scan is used to find missing references.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 *
+	 * @param binaryindex the given value
+	 */
+	public void setBinaryIndex(String binaryindex) {
+		this.binaryIndex = Boolean.toString(true).equals(binaryindex);
+	}
+
+	/**
+	 * Set the number of API components to search concurrently.
+	 * <p>
+	 * The value is a positive number, or <code>0</code> to use as many threads
+	 * as there are available processors. With more than one thread, the
+	 * references of each API component are written to the reports once the
+	 * component has been searched.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>, API components are searched sequentially.
+	 * </p>
+	 *
+	 * @param value the given parallelism
+	 * @throws BuildException if the given value is not a positive number or
+	 *             <code>0</code>
+	 */
+	public void setParallelism(String value) {
+		this.parallelism = parseParallelism(value);
+	}
+
 	/**
 	 * Set the debug value.
 	 * <p>
@@ -295,7 +337,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		XmlSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug, this.parallelism > 1);
 
 		try {
 			Set<String> ids = new HashSet<>();
@@ -319,7 +361,12 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			long start = System.currentTimeMillis();
+			engine.search(baseline, requestor, reporter, this.parallelism, null);
+			long time = Math.max(1, System.currentTimeMillis() - start);
+			System.out.println(NLS.bind(Messages.ApiUseTask_search_summary, new Object[] {
+					Integer.toString(scope.size()), Long.toString(time / 1000), Integer.toString(this.parallelism),
+					Long.toString(scope.size() * 1000L / time), Integer.toString(reporter.getReferenceCount()) }));
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -331,6 +378,13 @@ public final class ApiUseTask extends CommonUtilsTask {
 			reporter.reportMetadata(data);
 			reporter.reportCounts();
 		}
+		if (this.binaryIndex) {
+			try {
+				UseScanIndex.write(this.reportLocation, new File(this.reportLocation, UseScanIndex.INDEX_FILE_NAME), null);
+			} catch (Exception e) {
+				throw new BuildException(Messages.ApiUseTask_index_problem, e);
+			}
+		}
 	}
 
 	/**
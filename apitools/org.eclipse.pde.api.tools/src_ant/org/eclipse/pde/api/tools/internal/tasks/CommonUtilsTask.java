@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -56,6 +56,11 @@ public abstract class CommonUtilsTask extends Task {
 
 	protected String reportLocation;
 
+	/**
+	 * Number of API components to process concurrently
+	 */
+	protected int parallelism = 1;
+
 	/**
 	 * Creates a baseline with the given name and EE file location in the given
 	 * directory. The installLocation will be searched for bundles to add as API
@@ -158,6 +163,31 @@ public abstract class CommonUtilsTask extends Task {
 		}
 	}
 
+	/**
+	 * Parses the given parallelism value. <code>0</code> stands for the number
+	 * of available processors.
+	 *
+	 * @param value the parallelism value
+	 * @return the number of API components to process concurrently
+	 * @throws BuildException if the value is not a positive number or
+	 *             <code>0</code>
+	 */
+	protected static int parseParallelism(String value) throws BuildException {
+		if (value == null) {
+			throw new BuildException(NLS.bind(Messages.invalidParallelism, value));
+		}
+		int result;
+		try {
+			result = Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.invalidParallelism, value));
+		}
+		if (result < 0) {
+			throw new BuildException(NLS.bind(Messages.invalidParallelism, value));
+		}
+		return result == 0 ? Runtime.getRuntime().availableProcessors() : result;
+	}
+
 	/**
 	 * Saves the report with the given name in the report location. If a
 	 * componentID is provided, a child directory using that name will be
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2010 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -142,7 +142,7 @@ public class CompareTask extends CommonUtilsTask {
 			scope.addElement(currentBaseline);
 		}
 		try {
-			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, null);
+			delta = ApiComparator.compare(scope, referenceBaseline, this.visibilityModifiers, false, false, this.parallelism, null);
 		} catch (CoreException e) {
 			// an error occurred during the comparison
 			throw new BuildException(NLS.bind(Messages.illegalElementInScope, e.getMessage()));
@@ -277,6 +277,27 @@ public class CompareTask extends CommonUtilsTask {
 			}
 	}
 
+	/**
+	 * Set the number of API components to compare concurrently.
+	 * <p>
+	 * The value is a positive number, or <code>0</code> to use as many threads
+	 * as there are available processors.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>, API components are compared sequentially.
+	 * </p>
+	 *
+	 * @param value the given parallelism
+	 * @throws BuildException if the given value is not a positive number or
+	 *             <code>0</code>
+	 */
+	public void setParallelism(String value) {
+		this.parallelism = parseParallelism(value);
+		if (this.debug) {
+			System.out.println("Parallelism : " + this.parallelism); //$NON-NLS-1$
+		}
+	}
+
 	/**
 	 * Set the given components that needs to be compared against the baseline.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,7 @@ public class Messages extends NLS {
 	public static String printArguments;
 	public static String errorInComparison;
 	public static String illegalElementInScope;
+	public static String invalidParallelism;
 	public static String errorCreatingParentReportFile;
 	public static String errorCreatingReportDirectory;
 	public static String directoryIsEmpty;
@@ -91,9 +92,11 @@ public class Messages extends NLS {
 	public static String ApiMigrationTask_scan_locatoin_same_as_report_location;
 
 	public static String ApiUseReportConversionTask_conversion_complete;
+	public static String ApiUseTask_index_problem;
 	public static String ApiUseTask_missing_baseline_argument;
 	public static String ApiUseTask_missing_report_location;
 	public static String ApiUseTask_search_engine_problem;
+	public static String ApiUseTask_search_summary;
 	public static String UseTask_no_scan_both_types_not_searched_for;
 
 	public static String AddedElement;
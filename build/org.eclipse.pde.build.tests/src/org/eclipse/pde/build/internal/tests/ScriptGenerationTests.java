@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -24,15 +24,18 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -2452,4 +2455,78 @@ public class ScriptGenerationTests extends PDETestCase {
 		Utils.storeBuildProperties(second, properties);
 		runBuild(second);
 	}
+
+	@Test
+	public void testManifestCache() throws Exception {
+		IFolder buildFolder = newTest("ManifestCache");
+		IFolder bundle = Utils.createFolder(buildFolder, "plugins/a");
+		Utils.generateBundle(bundle, "a", "1.0.0");
+		File manifest = bundle.getFile(JarFile.MANIFEST_NAME).getLocation().toFile();
+		File buildScript = bundle.getFile("build.xml").getLocation().toFile();
+		File cache = buildFolder.getFile("manifests.cache").getLocation().toFile();
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "plugin", "a");
+		properties.put(IBuildPropertiesConstants.PROPERTY_MANIFEST_CACHE, cache.getAbsolutePath());
+		generateScripts(buildFolder, properties);
+		assertTrue(cache.isFile());
+		assertTrue(Files.readString(buildScript.toPath()).contains("<property name=\"bundleVersion\" value=\"1.0.0\"/>"));
+
+		// a manifest of the same size and time is read from the cache
+		long lastModified = manifest.lastModified();
+		Utils.generateBundleManifest(bundle, "a", "1.0.1", null);
+		assertTrue(manifest.setLastModified(lastModified));
+		generateScripts(buildFolder, properties);
+		assertTrue(Files.readString(buildScript.toPath()).contains("<property name=\"bundleVersion\" value=\"1.0.0\"/>"));
+
+		assertTrue(manifest.setLastModified(lastModified + 2000));
+		generateScripts(buildFolder, properties);
+		assertTrue(Files.readString(buildScript.toPath()).contains("<property name=\"bundleVersion\" value=\"1.0.1\"/>"));
+	}
+
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("ParallelScriptGeneration");
+		String[] plugins = new String[8];
+		for (int i = 0; i < plugins.length; i++) {
+			plugins[i] = "b" + i;
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + plugins[i]);
+			Attributes additional = new Attributes();
+			if (i > 0) {
+				additional.put(new Attributes.Name("Require-Bundle"), plugins[i - 1]);
+			}
+			Utils.generateBundleManifest(bundle, plugins[i], "1.0.0", additional);
+			Utils.generatePluginBuildProperties(bundle, null);
+		}
+		Utils.generateFeature(buildFolder, "f", null, plugins);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "f");
+		generateScripts(buildFolder, properties);
+		Map<String, String> sequential = getScripts(buildFolder.getLocation().toFile());
+		assertEquals(plugins.length + 1, sequential.keySet().stream().filter(s -> s.endsWith("/build.xml")).count());
+
+		// remove the scripts so that they are written again
+		for (String script : sequential.keySet()) {
+			new File(buildFolder.getLocation().toFile(), script).delete();
+		}
+		properties.put(IBuildPropertiesConstants.PROPERTY_PARALLEL_SCRIPT_GENERATION, "true");
+		generateScripts(buildFolder, properties);
+		assertEquals(sequential, getScripts(buildFolder.getLocation().toFile()));
+	}
+
+	private static Map<String, String> getScripts(File root) throws IOException {
+		// the assembly scripts at the root and the build scripts of the elements
+		Map<String, String> scripts = new TreeMap<>();
+		for (File file : root.listFiles((FileFilter) f -> f.isFile() && f.getName().endsWith(".xml"))) {
+			scripts.put(file.getName(), Files.readString(file.toPath()));
+		}
+		for (String kind : new String[] { "plugins", "features" }) {
+			for (File element : new File(root, kind).listFiles((FileFilter) File::isDirectory)) {
+				File script = new File(element, "build.xml");
+				if (script.isFile()) {
+					scripts.put(kind + '/' + element.getName() + '/' + script.getName(), Files.readString(script.toPath()));
+				}
+			}
+		}
+		return scripts;
+	}
 }
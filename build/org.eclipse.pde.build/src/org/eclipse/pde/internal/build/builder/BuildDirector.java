@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +23,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -100,7 +105,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null)
 			return element.getPath();
 
@@ -521,6 +526,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			return;
 
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
+		List<ModelBuildScriptGenerator> generators = new ArrayList<>(models.size());
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model))
 				continue;
@@ -532,7 +538,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty())
-				return;
+				break;
 
 			@SuppressWarnings("rawtypes")
 			Iterator entryIter = matchingEntries.iterator();
@@ -553,9 +559,54 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			generator.setSignJars(signJars);
 			generator.setAssociatedEntry(correspondingEntry);
 			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			generators.add(generator);
 		}
+		generateScripts(generators);
+	}
 
+	/**
+	 * Runs the given generators, concurrently if the parallelScriptGeneration
+	 * property is set. The generators only share the resolved state, which is
+	 * not modified anymore at this point, and each one writes the script of
+	 * its own bundle.
+	 */
+	private void generateScripts(List<ModelBuildScriptGenerator> generators) throws CoreException {
+		int threads = Math.min(generators.size(), Runtime.getRuntime().availableProcessors());
+		if (threads < 2 || !AbstractScriptGenerator.getPropertyAsBoolean(PROPERTY_PARALLEL_SCRIPT_GENERATION)) {
+			for (ModelBuildScriptGenerator generator : generators) {
+				generator.generate();
+			}
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> results = new ArrayList<>(generators.size());
+			for (ModelBuildScriptGenerator generator : generators) {
+				results.add(executor.submit(() -> {
+					generator.generate();
+					return null;
+				}));
+			}
+			//Report the failure of the first bundle in build order, as a sequential generation would
+			for (Future<?> result : results) {
+				try {
+					result.get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new CoreException(Status.CANCEL_STATUS);
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException coreException)
+						throw coreException;
+					if (cause instanceof RuntimeException runtimeException)
+						throw runtimeException;
+					throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, cause.getMessage(), cause));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
 	}
 
 	/**
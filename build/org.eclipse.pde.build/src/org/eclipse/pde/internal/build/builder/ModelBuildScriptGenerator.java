@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -14,10 +14,12 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -185,12 +187,33 @@ public class ModelBuildScriptGenerator extends AbstractBuildScriptGenerator {
 			return;
 		}
 
-		openScript(getLocation(model), buildScriptFileName);
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		script = new AntScript(content);
 		try {
 			generateBuildScript();
 		} finally {
 			closeScript();
 		}
+		writeScript(new File(getLocation(model), buildScriptFileName), content.toByteArray());
+	}
+
+	/**
+	 * Writes the generated script unless the existing one has the same content,
+	 * so that the scripts of unchanged bundles keep their timestamp.
+	 */
+	private static void writeScript(File file, byte[] content) throws CoreException {
+		try {
+			if (file.length() == content.length && Arrays.equals(Files.readAllBytes(file.toPath()), content))
+				return;
+		} catch (IOException e) {
+			// write it again
+		}
+		try {
+			Files.write(file.toPath(), content);
+		} catch (IOException e) {
+			String message = NLS.bind(Messages.exception_writingFile, file.getAbsolutePath());
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_WRITING_FILE, message, e));
+		}
 	}
 
 	public static String getNormalizedName(BundleDescription bundle) {
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.jar.JarFile;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.BundleHelper;
+import org.eclipse.pde.internal.build.IPDEBuildConstants;
+import org.eclipse.pde.internal.build.Messages;
+
+/**
+ * The manifests of the bundles added to a {@link PDEState}, persisted across
+ * builds in the file given by the <code>manifestCacheLocation</code> property.
+ * A manifest is reused as long as the modification stamp of the bundle jar or
+ * of its <code>META-INF/MANIFEST.MF</code> is unchanged. Only the manifests read
+ * in the current build are written back, so bundles that are no longer part
+ * of the build are dropped from the cache.
+ */
+class ManifestCache {
+	private static final int VERSION = 1;
+
+	private record Manifest(long stamp, Map<String, String> headers) {
+	}
+
+	private final File location;
+	private final Map<String, Manifest> previous;
+	private final Map<String, Manifest> current = new LinkedHashMap<>();
+
+	private ManifestCache(File location, Map<String, Manifest> previous) {
+		this.location = location;
+		this.previous = previous;
+	}
+
+	/**
+	 * Reads the cache persisted in the given file. A missing or unreadable file
+	 * results in an empty cache.
+	 *
+	 * @param location the file of the cache
+	 * @return the cache
+	 */
+	static ManifestCache load(File location) {
+		Map<String, Manifest> manifests = new HashMap<>();
+		if (location.isFile()) {
+			try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(location)))) {
+				if (input.readInt() == VERSION) {
+					int count = input.readInt();
+					for (int i = 0; i < count; i++) {
+						String bundle = readString(input);
+						long stamp = input.readLong();
+						int headerCount = input.readInt();
+						Map<String, String> headers = new LinkedHashMap<>(headerCount);
+						for (int j = 0; j < headerCount; j++) {
+							headers.put(readString(input), readString(input));
+						}
+						manifests.put(bundle, new Manifest(stamp, headers));
+					}
+				}
+			} catch (IOException e) {
+				// start from an empty cache
+				manifests.clear();
+			}
+		}
+		return new ManifestCache(location, manifests);
+	}
+
+	/**
+	 * Returns a copy of the cached manifest of the given bundle, or
+	 * <code>null</code> if the bundle changed since its manifest was cached.
+	 *
+	 * @param bundleLocation the jar or folder of the bundle
+	 * @return the manifest or <code>null</code>
+	 */
+	synchronized Dictionary<String, String> get(File bundleLocation) {
+		String key = bundleLocation.getAbsolutePath();
+		Manifest manifest = current.get(key);
+		if (manifest == null) {
+			manifest = previous.get(key);
+			if (manifest == null || manifest.stamp() != getStamp(bundleLocation))
+				return null;
+			current.put(key, manifest);
+		}
+		return new Hashtable<>(manifest.headers());
+	}
+
+	/**
+	 * Remembers the manifest read from the given bundle.
+	 *
+	 * @param bundleLocation the jar or folder of the bundle
+	 * @param manifest the manifest as read, before any modification
+	 */
+	synchronized void put(File bundleLocation, Dictionary<String, String> manifest) {
+		long stamp = getStamp(bundleLocation);
+		if (stamp == 0)
+			return;
+		Map<String, String> headers = new LinkedHashMap<>(manifest.size());
+		for (Enumeration<String> keys = manifest.keys(); keys.hasMoreElements();) {
+			String key = keys.nextElement();
+			headers.put(key, manifest.get(key));
+		}
+		current.put(bundleLocation.getAbsolutePath(), new Manifest(stamp, headers));
+	}
+
+	/**
+	 * Persists the manifests read in this build. Failures are logged, they
+	 * only cost the cache.
+	 */
+	synchronized void save() {
+		File parent = location.getParentFile();
+		if (parent != null)
+			parent.mkdirs();
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(location)))) {
+			output.writeInt(VERSION);
+			output.writeInt(current.size());
+			for (Entry<String, Manifest> entry : current.entrySet()) {
+				writeString(output, entry.getKey());
+				output.writeLong(entry.getValue().stamp());
+				Map<String, String> headers = entry.getValue().headers();
+				output.writeInt(headers.size());
+				for (Entry<String, String> header : headers.entrySet()) {
+					writeString(output, header.getKey());
+					writeString(output, header.getValue());
+				}
+			}
+		} catch (IOException e) {
+			location.delete();
+			String message = NLS.bind(Messages.exception_writingFile, location.getAbsolutePath());
+			BundleHelper.getDefault().getLog().log(new Status(IStatus.WARNING, IPDEBuildConstants.PI_PDEBUILD, message, e));
+		}
+	}
+
+	private static long getStamp(File bundleLocation) {
+		File file = bundleLocation.isFile() ? bundleLocation : new File(bundleLocation, JarFile.MANIFEST_NAME);
+		long lastModified = file.lastModified();
+		return lastModified == 0 ? 0 : lastModified ^ (file.length() << 32);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+}
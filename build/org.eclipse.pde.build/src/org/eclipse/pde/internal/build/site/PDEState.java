@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -89,6 +89,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private final Set<Dictionary<String, String>> convertedManifests;
 	private long lastSortingDate = 0L;
 	private String[] eeSources;
+	private ManifestCache manifestCache;
 
 	protected long getNextId() {
 		return ++id;
@@ -108,6 +109,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 			Dictionary<String, String> manifest = loadManifest(new File(bundle.getLocation()));
 			rememberManifestEntries(bundle, manifest, MANIFEST_ENTRIES);
 		}
+		saveManifestCache();
 	}
 
 	public PDEState() {
@@ -120,6 +122,9 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		convertedManifests = new HashSet<>(2);
 		loadPluginTagFile();
 		loadSourceReferences();
+		String cacheLocation = AbstractScriptGenerator.getImmutableAntProperty(PROPERTY_MANIFEST_CACHE);
+		if (cacheLocation != null && cacheLocation.length() > 0)
+			manifestCache = ManifestCache.load(new File(cacheLocation));
 	}
 
 	public StateObjectFactory getFactory() {
@@ -322,6 +327,18 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 
 	//Return a dictionary representing a manifest. The data may result from plugin.xml conversion  
 	private Dictionary<String, String> basicLoadManifest(File bundleLocation) {
+		if (manifestCache != null) {
+			Dictionary<String, String> manifest = manifestCache.get(bundleLocation);
+			if (manifest != null)
+				return manifest;
+		}
+		Dictionary<String, String> manifest = readManifest(bundleLocation);
+		if (manifest != null && manifestCache != null)
+			manifestCache.put(bundleLocation, manifest);
+		return manifest;
+	}
+
+	private Dictionary<String, String> readManifest(File bundleLocation) {
 		try {
 			if ("jar".equalsIgnoreCase(IPath.fromOSString(bundleLocation.getName()).getFileExtension()) && bundleLocation.isFile()) { //$NON-NLS-1$
 				try (ZipFile jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
@@ -383,6 +400,12 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 		for (File bundle : bundles) {
 			addBundle(bundle);
 		}
+		saveManifestCache();
+	}
+
+	private void saveManifestCache() {
+		if (manifestCache != null)
+			manifestCache.save();
 	}
 
 	@SuppressWarnings("deprecation")
@@ -38,6 +38,8 @@ import org.osgi.framework.Bundle;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	BatchProcessingTest.class,
+	RegistrationTest.class,
 })
 public class AllDSAnnotationsTests {
 
@@ -101,7 +103,7 @@ public class AllDSAnnotationsTests {
 		}.schedule();
 	}
 
-	private static void copyResources(Bundle bundle, String srcPath, Path targetPath) throws IOException {
+	static void copyResources(Bundle bundle, String srcPath, Path targetPath) throws IOException {
 		Enumeration<String> projectPaths = bundle.getEntryPaths(srcPath);
 		if (projectPaths == null)
 			return;
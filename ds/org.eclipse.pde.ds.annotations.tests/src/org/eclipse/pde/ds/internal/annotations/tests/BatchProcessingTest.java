@@ -0,0 +1,197 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+
+@SuppressWarnings("restriction")
+public class BatchProcessingTest extends TestBase {
+
+	private static final String PROJECT_NAME = "ds.annotations.batch";
+
+	private static final int COMPONENTS = 4 * DSAnnotationCompilationParticipant.MIN_BATCH_SIZE;
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		final IWorkspace ws = ResourcesPlugin.getWorkspace();
+		final Bundle bundle = Activator.getContext().getBundle();
+		project = ws.getRoot().getProject(PROJECT_NAME);
+		ws.run(monitor -> {
+			Path projectLocation = Paths.get(ws.getRoot().getLocationURI()).resolve(PROJECT_NAME);
+			try {
+				createProjectContent(bundle, projectLocation);
+			} catch (IOException e) {
+				throw new CoreException(Status.error("Error creating test project content.", e));
+			}
+
+			project.create(monitor);
+			project.open(monitor);
+		}, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		System.clearProperty(DSAnnotationCompilationParticipant.PARALLEL_PROCESSING);
+		project.delete(true, true, null);
+	}
+
+	@Test
+	public void batchesGenerateSameFilesAsSingleBatch() throws Exception {
+		assumeTrue("Compilation units are only processed in batches on multiple processors", Runtime.getRuntime().availableProcessors() > 1);
+
+		Map<String, String> batched = build();
+		System.setProperty(DSAnnotationCompilationParticipant.PARALLEL_PROCESSING, Boolean.FALSE.toString());
+		Map<String, String> single = build();
+
+		// all descriptors plus the manifest
+		assertEquals(COMPONENTS + 1, batched.size());
+		assertEquals(single, batched);
+	}
+
+	@Test
+	public void failedBatchIsSkipped() throws Exception {
+		CompletableFuture<String> first = CompletableFuture.completedFuture("first");
+		CompletableFuture<String> failed = CompletableFuture.failedFuture(new IllegalStateException("failed batch"));
+		CompletableFuture<String> last = CompletableFuture.supplyAsync(() -> "last", CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+		List<Future<String>> futures = List.of(first, failed, last);
+		assertEquals(List.of("first", "last"), DSAnnotationCompilationParticipant.getResults(futures));
+	}
+
+	private Map<String, String> build() throws Exception {
+		IFolder folder = project.getFolder("OSGI-INF");
+		if (folder.exists()) {
+			folder.delete(true, null);
+		}
+
+		project.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		IMarker[] markers = project.findMarkers(DS_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE);
+		assertEquals(0, markers.length);
+
+		TreeMap<String, String> files = new TreeMap<>();
+		for (IResource member : folder.members()) {
+			files.put(member.getProjectRelativePath().toString(), readContents((IFile) member));
+		}
+
+		IFile manifest = project.getFile("META-INF/MANIFEST.MF");
+		files.put(manifest.getProjectRelativePath().toString(), readContents(manifest));
+		return files;
+	}
+
+	private static String readContents(IFile file) throws Exception {
+		try (InputStream in = file.getContents()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void createProjectContent(Bundle bundle, Path projectLocation) throws IOException {
+		AllDSAnnotationsTests.copyResources(bundle, "projects/test1/.settings/", Files.createDirectories(projectLocation.resolve(".settings")));
+		try (InputStream src = bundle.getEntry("projects/test1/.classpath").openStream()) {
+			Files.copy(src, projectLocation.resolve(".classpath"));
+		}
+
+		Files.writeString(projectLocation.resolve(".project"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<projectDescription>
+					<name>%s</name>
+					<comment></comment>
+					<projects>
+					</projects>
+					<buildSpec>
+						<buildCommand>
+							<name>org.eclipse.jdt.core.javabuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+						<buildCommand>
+							<name>org.eclipse.pde.ManifestBuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+					</buildSpec>
+					<natures>
+						<nature>org.eclipse.pde.PluginNature</nature>
+						<nature>org.eclipse.jdt.core.javanature</nature>
+					</natures>
+				</projectDescription>
+				""".formatted(PROJECT_NAME));
+
+		Files.createDirectories(projectLocation.resolve("META-INF"));
+		Files.writeString(projectLocation.resolve("META-INF/MANIFEST.MF"), """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-Name: Batch
+				Bundle-SymbolicName: %s
+				Bundle-Version: 1.0.0.qualifier
+				Bundle-RequiredExecutionEnvironment: JavaSE-1.8
+				Import-Package: org.osgi.service.component;version="[1.3.0,2.0.0)"
+				Bundle-ActivationPolicy: lazy
+				""".formatted(PROJECT_NAME));
+
+		Files.writeString(projectLocation.resolve("build.properties"), """
+				source.. = src/
+				output.. = bin/
+				bin.includes = META-INF/,\\
+				               .
+				""");
+
+		// each component references the previous one, so the bindings of
+		// most batches resolve to types processed by another batch
+		Path packageLocation = Files.createDirectories(projectLocation.resolve("src/ds/annotations/batch"));
+		for (int i = 0; i < COMPONENTS; i++) {
+			String name = String.format("Component%03d", i);
+			String reference = i == 0 ? "" : """
+
+						@Reference
+						public void setPrevious(Component%1$03d previous) {
+
+						}
+
+						public void unsetPrevious(Component%1$03d previous) {
+
+						}
+					""".formatted(i - 1);
+			Files.writeString(packageLocation.resolve(name + ".java"), """
+					package ds.annotations.batch;
+
+					import org.osgi.service.component.annotations.Component;
+					import org.osgi.service.component.annotations.Reference;
+
+					@Component(service = %1$s.class)
+					public class %1$s {
+					%2$s}
+					""".formatted(name, reference));
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Bundle;
+
+public class RegistrationTest extends TestBase {
+
+	private static final String PROJECT_NAME = "ds.annotations.registration";
+
+	private static final String PREFS_NODE = "org.eclipse.pde.ds.annotations";
+
+	private static final String PREF_GENERATE_BAPL = "generateBundleActivationPolicyLazy";
+
+	private IProject project;
+
+	@Before
+	public void setUp() throws Exception {
+		final IWorkspace ws = ResourcesPlugin.getWorkspace();
+		final Bundle bundle = Activator.getContext().getBundle();
+		project = ws.getRoot().getProject(PROJECT_NAME);
+		ws.run(monitor -> {
+			Path projectLocation = Paths.get(ws.getRoot().getLocationURI()).resolve(PROJECT_NAME);
+			try {
+				createProjectContent(bundle, projectLocation);
+			} catch (IOException e) {
+				throw new CoreException(Status.error("Error creating test project content.", e));
+			}
+
+			project.create(monitor);
+			project.open(monitor);
+		}, null);
+
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, true, null);
+	}
+
+	@Test
+	public void unchangedFilesAreLeftAlone() throws Exception {
+		Map<String, Long> stamps = getModificationStamps();
+		assertEquals(4, stamps.size());
+		assertTrue(readContents(project.getFile("META-INF/MANIFEST.MF")).contains("Service-Component"));
+
+		touch(project.getFile("src/ds/annotations/registration/Component0.java"));
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		assertEquals(stamps, getModificationStamps());
+	}
+
+	@Test
+	public void activationPolicyIsAddedWhenEnabled() throws Exception {
+		IFile manifest = project.getFile("META-INF/MANIFEST.MF");
+		assertFalse(readContents(manifest).contains("Bundle-ActivationPolicy"));
+
+		IEclipsePreferences prefs = new ProjectScope(project).getNode(PREFS_NODE);
+		prefs.putBoolean(PREF_GENERATE_BAPL, true);
+		prefs.flush();
+
+		touch(project.getFile("src/ds/annotations/registration/Component0.java"));
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		assertTrue(readContents(manifest).contains("Bundle-ActivationPolicy: lazy"));
+	}
+
+	private Map<String, Long> getModificationStamps() throws CoreException {
+		TreeMap<String, Long> stamps = new TreeMap<>();
+		for (IResource member : project.getFolder("OSGI-INF").members()) {
+			stamps.put(member.getProjectRelativePath().toString(), member.getModificationStamp());
+		}
+
+		for (String path : new String[] { "META-INF/MANIFEST.MF", "build.properties" }) {
+			stamps.put(path, project.getFile(path).getModificationStamp());
+		}
+
+		return stamps;
+	}
+
+	private static void touch(IFile file) throws Exception {
+		// a change of the source that leaves the component as it is
+		String contents = readContents(file) + "// touched\n";
+		file.setContents(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, false, null);
+	}
+
+	private static String readContents(IFile file) throws Exception {
+		try (InputStream in = file.getContents()) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	private static void createProjectContent(Bundle bundle, Path projectLocation) throws IOException {
+		Path settings = Files.createDirectories(projectLocation.resolve(".settings"));
+		AllDSAnnotationsTests.copyResources(bundle, "projects/test1/.settings/", settings);
+		Path prefs = settings.resolve(PREFS_NODE + ".prefs");
+		Files.writeString(prefs, Files.readString(prefs).replace(PREF_GENERATE_BAPL + "=true", PREF_GENERATE_BAPL + "=false"));
+		try (InputStream src = bundle.getEntry("projects/test1/.classpath").openStream()) {
+			Files.copy(src, projectLocation.resolve(".classpath"));
+		}
+
+		Files.writeString(projectLocation.resolve(".project"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<projectDescription>
+					<name>%s</name>
+					<comment></comment>
+					<projects>
+					</projects>
+					<buildSpec>
+						<buildCommand>
+							<name>org.eclipse.jdt.core.javabuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+						<buildCommand>
+							<name>org.eclipse.pde.ManifestBuilder</name>
+							<arguments>
+							</arguments>
+						</buildCommand>
+					</buildSpec>
+					<natures>
+						<nature>org.eclipse.pde.PluginNature</nature>
+						<nature>org.eclipse.jdt.core.javanature</nature>
+					</natures>
+				</projectDescription>
+				""".formatted(PROJECT_NAME));
+
+		Files.createDirectories(projectLocation.resolve("META-INF"));
+		Files.writeString(projectLocation.resolve("META-INF/MANIFEST.MF"), """
+				Manifest-Version: 1.0
+				Bundle-ManifestVersion: 2
+				Bundle-Name: Registration
+				Bundle-SymbolicName: %s
+				Bundle-Version: 1.0.0.qualifier
+				Bundle-RequiredExecutionEnvironment: JavaSE-1.8
+				Import-Package: org.osgi.service.component;version="[1.3.0,2.0.0)"
+				""".formatted(PROJECT_NAME));
+
+		Files.writeString(projectLocation.resolve("build.properties"), """
+				source.. = src/
+				output.. = bin/
+				bin.includes = META-INF/,\\
+				               .
+				""");
+
+		Path packageLocation = Files.createDirectories(projectLocation.resolve("src/ds/annotations/registration"));
+		for (int i = 0; i < 2; i++) {
+			String name = "Component" + i;
+			Files.writeString(packageLocation.resolve(name + ".java"), """
+					package ds.annotations.registration;
+
+					import org.osgi.service.component.annotations.Component;
+
+					@Component(service = %1$s.class)
+					public class %1$s {
+					}
+					""".formatted(name));
+		}
+	}
+}
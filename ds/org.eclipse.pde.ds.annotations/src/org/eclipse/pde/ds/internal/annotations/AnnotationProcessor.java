@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,19 @@
  *******************************************************************************/
 package org.eclipse.pde.ds.internal.annotations;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.core.resources.ICommand;
 import org.eclipse.core.resources.IContainer;
@@ -27,12 +36,22 @@ import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.compiler.BuildContext;
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.dom.ASTRequestor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.link.LinkedModeModel;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
 public class AnnotationProcessor extends ASTRequestor {
 
@@ -40,15 +59,50 @@ public class AnnotationProcessor extends ASTRequestor {
 
 	static final Debug debug = Debug.getDebug("ds-annotation-builder/processor"); //$NON-NLS-1$
 
+	/**
+	 * A component description to write.
+	 *
+	 * @param source the file the description was read from, which is moved to
+	 *            the target file if different
+	 * @param file the file of the description
+	 * @param contents the new contents of the file or <code>null</code> if
+	 *            unchanged
+	 */
+	record ModelUpdate(IFile source, IFile file, String contents) {
+	}
+
+	/**
+	 * The outcome of processing a compilation unit, applied to the workspace
+	 * and project state by {@link AnnotationProcessor#apply(Result)}.
+	 */
+	private record Result(String cuKey, ICompilationUnit source, HashMap<String, String> dsKeys,
+			Collection<DSAnnotationProblem> problems, List<ModelUpdate> updates) {
+	}
+
 	private final ProjectContext context;
 
 	private final Map<ICompilationUnit, BuildContext> fileMap;
 
+	private final List<Result> results;
+
 	private boolean hasBuilder;
 
 	public AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap) {
+		this(context, fileMap, false);
+	}
+
+	/**
+	 * @param context the context of the project being built
+	 * @param fileMap the build contexts of the compilation units to process
+	 * @param deferred whether the results are kept until
+	 *            {@link #applyResults()} instead of being applied as each
+	 *            compilation unit is processed, so that processing can run
+	 *            outside the build thread
+	 */
+	AnnotationProcessor(ProjectContext context, Map<ICompilationUnit, BuildContext> fileMap, boolean deferred) {
 		this.context = context;
 		this.fileMap = fileMap;
+		this.results = deferred ? new ArrayList<>() : null;
 	}
 
 	static String getCompilationUnitKey(ICompilationUnit source) {
@@ -65,20 +119,12 @@ public class AnnotationProcessor extends ASTRequestor {
 		// determine CU key
 		String cuKey = getCompilationUnitKey(source);
 
-		context.getUnprocessed().remove(cuKey);
-
 		ProjectState state = context.getState();
 		HashMap<String, String> dsKeys = new HashMap<>();
 		HashSet<DSAnnotationProblem> problems = new HashSet<>();
+		ArrayList<ModelUpdate> updates = new ArrayList<>();
 
-		ast.accept(new AnnotationVisitor(this, state, dsKeys, problems));
-
-		// track abandoned files (may be garbage)
-		Collection<String> oldDSKeys = state.updateMappings(cuKey, dsKeys);
-		if (oldDSKeys != null) {
-			oldDSKeys.removeAll(dsKeys.values());
-			context.getAbandoned().addAll(oldDSKeys);
-		}
+		ast.accept(new AnnotationVisitor(state, dsKeys, problems, updates));
 
 		if (!problems.isEmpty()) {
 			char[] filename = source.getResource().getFullPath().toString().toCharArray();
@@ -88,14 +134,143 @@ public class AnnotationProcessor extends ASTRequestor {
 					problem.setSourceLineNumber(ast.getLineNumber(problem.getSourceStart()));
 				}
 			}
+		}
+
+		Result result = new Result(cuKey, source, dsKeys, problems, updates);
+		if (results == null) {
+			apply(result);
+		} else {
+			results.add(result);
+		}
+	}
+
+	/**
+	 * Applies the results kept by a deferred processor in the order of their
+	 * compilation units. Must be called in the build thread.
+	 */
+	void applyResults() {
+		results.sort(Comparator.comparing(Result::cuKey));
+		for (Result result : results) {
+			apply(result);
+		}
+
+		results.clear();
+	}
+
+	private void apply(Result result) {
+		context.getUnprocessed().remove(result.cuKey());
+
+		for (ModelUpdate update : result.updates()) {
+			try {
+				writeModel(update);
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
+
+		// track abandoned files (may be garbage)
+		Collection<String> oldDSKeys = context.getState().updateMappings(result.cuKey(), result.dsKeys());
+		if (oldDSKeys != null) {
+			oldDSKeys.removeAll(result.dsKeys().values());
+			context.getAbandoned().addAll(oldDSKeys);
+		}
 
-			BuildContext buildContext = fileMap.get(source);
+		Collection<DSAnnotationProblem> problems = result.problems();
+		if (!problems.isEmpty()) {
+			BuildContext buildContext = fileMap.get(result.source());
 			if (buildContext != null) {
 				buildContext.recordNewProblems(problems.toArray(new CategorizedProblem[problems.size()]));
 			}
 		}
 	}
 
+	private void writeModel(ModelUpdate update) throws CoreException {
+		IFile file = update.file();
+		verifyOutputLocation(file);
+
+		// handle file move/rename
+		IFile source = update.source();
+		if (!source.equals(file) && source.exists() && !file.exists()) {
+			try {
+				source.move(file.getFullPath(), true, true, null);
+			} catch (CoreException e) {
+				Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", source.getFullPath(), file.getFullPath()), e)); //$NON-NLS-1$
+			}
+		}
+
+		IPath filePath = file.getFullPath();
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		bufferManager.connect(filePath, LocationKind.IFILE, null);
+		try {
+			ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
+			if (buffer.isDirty()) {
+				buffer.commit(null, true);
+			}
+
+			String contents = update.contents();
+			if (contents == null) {
+				return;
+			}
+
+			if (debug.isDebugging()) {
+				debug.trace(String.format("Saving model: %s", filePath)); //$NON-NLS-1$
+			}
+
+			IDocument document = buffer.getDocument();
+			if (buffer.isSynchronizationContextRequested()) {
+				final CoreException[] ex = new CoreException[1];
+				final CountDownLatch latch = new CountDownLatch(1);
+				bufferManager.execute(() -> {
+					try {
+						performEdit(document, contents);
+					} catch (CoreException e) {
+						ex[0] = e;
+					}
+
+					latch.countDown();
+				});
+
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					if (debug.isDebugging())
+						debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
+				}
+
+				if (ex[0] != null) {
+					throw ex[0];
+				}
+			} else {
+				performEdit(document, contents);
+			}
+
+			buffer.commit(null, true);
+		} finally {
+			bufferManager.disconnect(filePath, LocationKind.IFILE, null);
+		}
+	}
+
+	private void performEdit(IDocument document, String contents) throws CoreException {
+		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
+		// thus we replace the entire content with one edit
+		TextEdit edit = new ReplaceEdit(0, document.getLength(), contents);
+		DocumentRewriteSession session = null;
+		try {
+			if (document instanceof IDocumentExtension4) {
+				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+			}
+
+			LinkedModeModel.closeAllModels(document);
+			edit.apply(document);
+		} catch (MalformedTreeException | BadLocationException e) {
+			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
+		} finally {
+			if (session != null) {
+				((IDocumentExtension4) document).stopRewriteSession(session);
+			}
+		}
+	}
+
 	private void ensureDSProject(IProject project) throws CoreException {
 		IProjectDescription description = project.getDescription();
 		ICommand[] commands = description.getBuildSpec();
@@ -128,7 +303,7 @@ public class AnnotationProcessor extends ASTRequestor {
 		folder.create(true, true, null);
 	}
 
-	void verifyOutputLocation(IFile file) throws CoreException {
+	private void verifyOutputLocation(IFile file) throws CoreException {
 		if (hasBuilder) {
 			return;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Ecliptical Software Inc. and others.
+ * Copyright (c) 2017, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,7 +38,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.CountDownLatch;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -53,7 +52,6 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
-import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
@@ -82,15 +80,11 @@ import org.eclipse.jdt.core.dom.StringLiteral;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.TypeLiteral;
 import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.DocumentRewriteSession;
-import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
-import org.eclipse.jface.text.IDocumentExtension4;
-import org.eclipse.jface.text.link.LinkedModeModel;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.IModelChangedEvent;
 import org.eclipse.pde.core.ModelChangedEvent;
+import org.eclipse.pde.ds.internal.annotations.AnnotationProcessor.ModelUpdate;
 import org.eclipse.pde.internal.core.project.PDEProject;
 import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
 import org.eclipse.pde.internal.core.text.IDocumentElementNode;
@@ -112,8 +106,6 @@ import org.eclipse.pde.internal.ds.core.IDSService;
 import org.eclipse.pde.internal.ds.core.IDSSingleProperty;
 import org.eclipse.pde.internal.ds.core.text.DSModel;
 import org.eclipse.pde.internal.ui.util.TextUtil;
-import org.eclipse.text.edits.MalformedTreeException;
-import org.eclipse.text.edits.MultiTextEdit;
 import org.eclipse.text.edits.ReplaceEdit;
 import org.eclipse.text.edits.TextEdit;
 import org.osgi.framework.BundleContext;
@@ -191,8 +183,6 @@ public class AnnotationVisitor extends ASTVisitor {
 
 	private static final Debug debug = AnnotationProcessor.debug;
 
-	private final AnnotationProcessor processor;
-
 	private final ProjectState state;
 
 	private final DSAnnotationVersion specVersion;
@@ -201,14 +191,16 @@ public class AnnotationVisitor extends ASTVisitor {
 
 	private final Map<String, String> dsKeys;
 
+	private final Collection<ModelUpdate> updates;
+
 	private final ProblemReporter problemReporter;
 
-	public AnnotationVisitor(AnnotationProcessor processor, ProjectState state, Map<String, String> dsKeys, Set<DSAnnotationProblem> problems) {
-		this.processor = processor;
+	public AnnotationVisitor(ProjectState state, Map<String, String> dsKeys, Set<DSAnnotationProblem> problems, Collection<ModelUpdate> updates) {
 		this.state = state;
 		this.specVersion = state.getSpecVersion();
 		this.errorLevel = state.getErrorLevel();
 		this.dsKeys = dsKeys;
+		this.updates = updates;
 		problemReporter = new ProblemReporter(state.getErrorLevel(), problems);
 	}
 
@@ -376,39 +368,32 @@ public class AnnotationVisitor extends ASTVisitor {
 
 		IProject project = typeBinding.getJavaElement().getJavaProject().getProject();
 		IFile file = PDEProject.getBundleRelativeFile(project, path);
-		IPath filePath = file.getFullPath();
 
-		processor.verifyOutputLocation(file);
-
-		// handle file move/rename
+		// handle file move/rename; the model is read from the old file, which
+		// is moved when the update is written
+		IFile source = file;
 		String oldPath = state.getModelFile(implClass);
 		if (oldPath != null && !oldPath.equals(dsKey) && !file.exists()) {
 			IFile oldFile = PDEProject.getBundleRelativeFile(project, IPath.fromPortableString(oldPath));
 			if (oldFile.exists()) {
-				try {
-					oldFile.move(file.getFullPath(), true, true, null);
-				} catch (CoreException e) {
-					Activator.log(Status.warning(String.format("Unable to move model file from '%s' to '%s'.", oldPath, file.getFullPath()), e)); //$NON-NLS-1$
-				}
+				source = oldFile;
 			}
 		}
 
+		IPath sourcePath = source.getFullPath();
 		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
-		bufferManager.connect(filePath, LocationKind.IFILE, null);
-		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(filePath, LocationKind.IFILE);
-		if (buffer.isDirty()) {
-			buffer.commit(null, true);
-		}
+		bufferManager.connect(sourcePath, LocationKind.IFILE, null);
+		ITextFileBuffer buffer = bufferManager.getTextFileBuffer(sourcePath, LocationKind.IFILE);
 
 		IDocument document = buffer.getDocument();
 
 		final DSModel dsModel = new DSModel(document, true);
-		dsModel.setUnderlyingResource(file);
+		dsModel.setUnderlyingResource(source);
 		dsModel.setCharset(StandardCharsets.UTF_8); // $NON-NLS-1$
 		dsModel.load();
 
 		// note: we can't use XMLTextChangeListener because it generates overlapping edits!
-		// thus we replace the entire content with one edit (if changed)
+		// thus the processor replaces the entire content with the new one (if changed)
 		final IDocument fDoc = document;
 		dsModel.addModelChangedListener(new IModelTextChangeListener() {
 
@@ -441,66 +426,19 @@ public class AnnotationVisitor extends ASTVisitor {
 		try {
 			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
-			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
-			if (edits.length > 0) {
-				if (debug.isDebugging()) {
-					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
-				}
-
-				final MultiTextEdit edit = new MultiTextEdit();
-				edit.addChildren(edits);
-
-				if (buffer.isSynchronizationContextRequested()) {
-					final IDocument doc = document;
-					final CoreException[] ex = new CoreException[1];
-					final CountDownLatch latch = new CountDownLatch(1);
-					bufferManager.execute(() -> {
-						try {
-							performEdit(doc, edit);
-						} catch (CoreException e) {
-							ex[0] = e;
-						}
-
-						latch.countDown();
-					});
-
-					try {
-						latch.await();
-					} catch (InterruptedException e) {
-						if (debug.isDebugging())
-							debug.trace("Interrupted while waiting for edits to complete on display thread.", e); //$NON-NLS-1$
-					}
-
-					if (ex[0] != null) {
-						throw ex[0];
-					}
-				} else {
-					performEdit(document, edit);
+			String contents = null;
+			if (dsModel.getLastTextChangeListener().getTextOperations().length > 0) {
+				// the model also reports changes that restore the same content
+				String text = dsModel.getContents();
+				if (!text.equals(document.get())) {
+					contents = text;
 				}
-
-				buffer.commit(null, true);
 			}
-		} finally {
-			dsModel.dispose();
-			bufferManager.disconnect(buffer.getLocation(), LocationKind.IFILE, null);
-		}
-	}
 
-	private void performEdit(IDocument document, TextEdit edit) throws CoreException {
-		DocumentRewriteSession session = null;
-		try {
-			if (document instanceof IDocumentExtension4) {
-				session = ((IDocumentExtension4) document).startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
-			}
-
-			LinkedModeModel.closeAllModels(document);
-			edit.apply(document);
-		} catch (MalformedTreeException | BadLocationException e) {
-			throw new CoreException(Status.error("Error applying changes to component model.", e)); //$NON-NLS-1$
+			updates.add(new ModelUpdate(source, file, contents));
 		} finally {
-			if (session != null) {
-				((IDocumentExtension4) document).stopRewriteSession(session);
-			}
+			dsModel.dispose();
+			bufferManager.disconnect(sourcePath, LocationKind.IFILE, null);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,18 +22,36 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
@@ -64,6 +82,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -94,6 +113,10 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	static final String ANNOTATIONS_PACKAGE = COMPONENT_ANNOTATION.substring(0, COMPONENT_ANNOTATION.lastIndexOf('.'));
 
+	private static final char[] COMPONENT_NAME = COMPONENT_ANNOTATION.substring(ANNOTATIONS_PACKAGE.length() + 1).toCharArray();
+
+	private static final char[] UNICODE_ESCAPE = { '\\', 'u' };
+
 	private static final IPath COMPONENT_ANNOTATION_PATH = IPath.fromOSString(COMPONENT_ANNOTATION.replace('.',  '/'));
 
 	private static final Pattern ACCESS_RULE_PATTERN = Pattern.compile("(\\*\\*)|\\*|\\?"); //$NON-NLS-1$
@@ -106,6 +129,22 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
 
+	/**
+	 * System property to disable the concurrent processing of large numbers of
+	 * compilation units
+	 */
+	public static final String PARALLEL_PROCESSING = "pde.ds.parallelProcessing"; //$NON-NLS-1$
+
+	/**
+	 * The minimum number of compilation units processed by a thread
+	 */
+	public static final int MIN_BATCH_SIZE = 32;
+
+	/**
+	 * The threads processing batches of compilation units, shared by all builds
+	 */
+	private static ExecutorService executor;
+
 	private final Map<IJavaProject, ProjectContext> processingContext = Collections.synchronizedMap(new HashMap<IJavaProject, ProjectContext>());
 
 	@Override
@@ -366,14 +405,6 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(e);
 			}
 
-			if (projectContext.isChanged()) {
-				try {
-					saveState(project.getProject(), state);
-				} catch (IOException e) {
-					Activator.log(Status.error("Error saving file mappings.", e)); //$NON-NLS-1$
-				}
-			}
-
 			// delete all abandoned files
 			ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
 			for (String dsKey : abandoned) {
@@ -397,8 +428,28 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(new MultiStatus(Activator.PLUGIN_ID, 0, deleteStatuses.toArray(new IStatus[deleteStatuses.size()]), "Error deleting generated files.", null)); //$NON-NLS-1$
 			}
 
+			// the manifest and build.properties are left alone if they are
+			// unchanged since the same DS files were last registered in them
 			if (!retained.isEmpty() || !abandoned.isEmpty()) {
-				updateProject(project.getProject(), retained, abandoned);
+				String registrationHash = getRegistrationHash(project.getProject(), retained);
+				if (!abandoned.isEmpty() || registrationHash == null || !registrationHash.equals(state.getRegistrationHash())) {
+					updateProject(project.getProject(), retained, abandoned);
+					registrationHash = getRegistrationHash(project.getProject(), retained);
+				} else if (debug.isDebugging()) {
+					debug.trace(String.format("DS files of project %s already registered.", project.getElementName())); //$NON-NLS-1$
+				}
+
+				state.setRegistrationHash(registrationHash);
+			} else {
+				state.setRegistrationHash(null);
+			}
+
+			if (projectContext.isChanged()) {
+				try {
+					saveState(project.getProject(), state);
+				} catch (IOException e) {
+					Activator.log(Status.error("Error saving file mappings.", e)); //$NON-NLS-1$
+				}
 			}
 		}
 
@@ -407,6 +458,35 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	private static String getRegistrationHash(IProject project, Collection<String> retained) {
+		StringBuilder buf = new StringBuilder();
+		retained.stream().sorted().forEach(dsKey -> buf.append(dsKey).append('\n'));
+		// the activation policy header is only added if enabled
+		buf.append(isGenerateBAPL(project)).append('\n');
+		ITextFileBufferManager bufferManager = FileBuffers.getTextFileBufferManager();
+		for (IFile file : new IFile[] { PDEProject.getManifest(project), PDEProject.getBuildProperties(project) }) {
+			ITextFileBuffer buffer = bufferManager.getTextFileBuffer(file.getFullPath(), LocationKind.IFILE);
+			if (buffer != null && buffer.isDirty()) {
+				// modified in an editor, the saved file may differ
+				return null;
+			}
+
+			buf.append(file.getModificationStamp()).append('\n');
+		}
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(buf.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static boolean isGenerateBAPL(IProject project) {
+		return Platform.getPreferencesService().getBoolean(Activator.PLUGIN_ID, Activator.PREF_GENERATE_BAPL, true,
+				new IScopeContext[] { new ProjectScope(project), InstanceScope.INSTANCE });
+	}
+
 	private boolean matches(IPath path, IPath pattern) {
 		if (pattern.hasTrailingSeparator()) {
 			pattern = pattern.append("**"); //$NON-NLS-1$
@@ -495,10 +575,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		// note: contrary to javadoc, setting header value to null does *not* remove it; setting it to empty string does
 		bundleModel.getBundle().setHeader(DS_MANIFEST_KEY, value);
 
-		boolean generateBAPL = Platform.getPreferencesService().getBoolean(Activator.PLUGIN_ID,
-				Activator.PREF_GENERATE_BAPL, true,
-				new IScopeContext[] { new ProjectScope(project.getProject()), InstanceScope.INSTANCE });
-		if (generateBAPL) {
+		if (isGenerateBAPL(project)) {
 			if (debug.isDebugging()) {
 				debug.trace(String.format("Setting manifest header in %s to %s: %s", //$NON-NLS-1$
 						model.getUnderlyingResource().getFullPath(), AP_MANIFEST_KEY, "lazy")); //$NON-NLS-1$
@@ -630,7 +707,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if (!mayContainComponent(file) || canSkipFile(cu)) {
 				markAsAbandoned(cu);
 				continue;
 			}
@@ -654,6 +731,18 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Checks the source of a compilation unit for the simple name of the
+	 * component annotation, which any reference to it must contain. Only the
+	 * units that do are checked through the Java model and parsed.
+	 */
+	private static boolean mayContainComponent(BuildContext file) {
+		char[] contents = file.getContents();
+		return CharOperation.indexOf(COMPONENT_NAME, contents, true) >= 0
+				// identifiers may contain unicode escapes
+				|| CharOperation.indexOf(UNICODE_ESCAPE, contents, true) >= 0;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
@@ -701,19 +790,108 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
+		ProjectContext projectContext = processingContext.get(javaProject);
+		ProjectState state = projectContext.getState();
+
+		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
+		int batches = getBatchCount(cuArr.length);
+		if (batches <= 1) {
+			createParser(javaProject, state).createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+			return;
+		}
+
+		// each batch is parsed with its own parser; the workers only read the
+		// project state, so their results are applied in the build thread in
+		// the order of the compilation units once all batches are done
+		Arrays.sort(cuArr, Comparator.comparing(AnnotationProcessor::getCompilationUnitKey));
+
+		if (debug.isDebugging())
+			debug.trace(String.format("Processing %d compilation units in %d batches.", cuArr.length, batches)); //$NON-NLS-1$
+
+		ExecutorService executor = getExecutor();
+		ArrayList<Future<AnnotationProcessor>> futures = new ArrayList<>(batches);
+		for (int i = 0; i < batches; i++) {
+			ICompilationUnit[] batch = Arrays.copyOfRange(cuArr, i * cuArr.length / batches, (i + 1) * cuArr.length / batches);
+			futures.add(executor.submit(() -> {
+				AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap, true);
+				createParser(javaProject, state).createASTs(batch, new String[0], processor, null);
+				return processor;
+			}));
+		}
+
+		try {
+			// the mappings of the compilation units of a failed batch are left
+			// unchanged
+			for (AnnotationProcessor processor : getResults(futures)) {
+				processor.applyResults();
+			}
+		} catch (InterruptedException e) {
+			futures.forEach(future -> future.cancel(true));
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Waits for all of the given tasks to complete and returns the results of
+	 * the successful ones in the order of the tasks. Failed tasks are logged.
+	 *
+	 * @param futures the tasks to wait for
+	 * @return the results of the tasks that completed normally
+	 * @throws InterruptedException if the current thread was interrupted while
+	 *             waiting
+	 */
+	public static <T> List<T> getResults(List<? extends Future<T>> futures) throws InterruptedException {
+		ArrayList<T> results = new ArrayList<>(futures.size());
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+				Activator.log(Status.error("Error processing component annotations.", e.getCause())); //$NON-NLS-1$
+			}
+		}
+
+		return results;
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			AtomicInteger count = new AtomicInteger();
+			int threads = Runtime.getRuntime().availableProcessors();
+			ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "DS Annotation Processing " + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			pool.allowCoreThreadTimeOut(true);
+			executor = pool;
+		}
+
+		return executor;
+	}
+
+	static synchronized void dispose() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private static ASTParser createParser(IJavaProject javaProject, ProjectState state) {
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setResolveBindings(true);
 		parser.setBindingsRecovery(true);
 		parser.setProject(javaProject);
 		parser.setKind(ASTParser.K_COMPILATION_UNIT);
-
-		ProjectContext projectContext = processingContext.get(javaProject);
-		ProjectState state = projectContext.getState();
-
 		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
+		return parser;
+	}
 
-		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+	private static int getBatchCount(int units) {
+		if (!Boolean.parseBoolean(System.getProperty(PARALLEL_PROCESSING, "true"))) { //$NON-NLS-1$
+			return 1;
+		}
+
+		return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), units / MIN_BATCH_SIZE));
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,9 @@ public class ProjectState implements Serializable, Cloneable {
 	// fully-qualified component type to plugin-root-relative (portable) path of corresponding generated DS file
 	private Map<String, String> files;
 
+	// hash of the registered DS files and of the manifest and build.properties they were last registered in
+	private String registrationHash;
+
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
@@ -165,6 +168,14 @@ public class ProjectState implements Serializable, Cloneable {
 		this.missingUnbindMethodLevel = missingUnbindMethodLevel;
 	}
 
+	public String getRegistrationHash() {
+		return registrationHash;
+	}
+
+	public void setRegistrationHash(String registrationHash) {
+		this.registrationHash = registrationHash;
+	}
+
 	private Map<String, Collection<String>> getTypes() {
 		if (types == null) {
 			types = new HashMap<>();
@@ -227,7 +238,8 @@ public class ProjectState implements Serializable, Cloneable {
 				&& missingUnbindMethodLevel == o.missingUnbindMethodLevel
 				&& mappings.equals(o.mappings)
 				&& (files == null ? o.files == null : files.equals(o.files))
-				&& (types == null ? o.types == null : types.equals(o.types));
+				&& (types == null ? o.types == null : types.equals(o.types))
+				&& (registrationHash == null ? o.registrationHash == null : registrationHash.equals(o.registrationHash));
 	}
 
 	@Override
@@ -236,7 +248,8 @@ public class ProjectState implements Serializable, Cloneable {
 		buf.append(path).append(";mappings="); //$NON-NLS-1$
 		buf.append(mappings).append(";types="); //$NON-NLS-1$
 		buf.append(types).append(";files="); //$NON-NLS-1$
-		buf.append(files).append(";errorLevel="); //$NON-NLS-1$
+		buf.append(files).append(";registrationHash="); //$NON-NLS-1$
+		buf.append(registrationHash).append(";errorLevel="); //$NON-NLS-1$
 		buf.append(specVersion).append(";specVersion="); //$NON-NLS-1$
 		buf.append(errorLevel).append(";missingUnbindMethodLevel="); //$NON-NLS-1$
 		buf.append(missingUnbindMethodLevel).append(";formatVersion="); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,36 +16,48 @@
 
 package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.lang.reflect.InvocationTargetException;
-import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
+import java.util.zip.ZipFile;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.ILog;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
@@ -73,6 +85,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Label;
+import org.osgi.framework.FrameworkUtil;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 
@@ -80,17 +93,29 @@ import org.w3c.dom.NodeList;
  * A contribution collector encompassing the current target platform.<br />
  * Uses filter for bundle, package, and location filtering.<br />
  * This implementation finds resources based on file names, not by parsing file
- * contents.
+ * contents.<br />
+ * The index of the target bundles is persisted across sessions, and only the
+ * bundles and workspace projects that changed are indexed again.
  *
  * @author Steven Spungin
  */
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	private static final int INDEX_VERSION = 1;
+
+	/**
+	 * The entries of each indexed install location, i.e. of each workspace
+	 * project and target bundle, keyed by the install location
+	 */
+	private final Map<String, Location> locations = new ConcurrentSkipListMap<>();
+	/**
+	 * The locations of the workspace projects with files added or removed since
+	 * they were indexed
+	 */
+	private final Set<String> changedProjects = ConcurrentHashMap.newKeySet();
+	private volatile boolean upToDate;
+	private boolean indexLoaded;
 	private Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
@@ -104,6 +129,30 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		String pakage;
 	}
 
+	/**
+	 * The entries found in an install location. Target bundles are only
+	 * indexed again when their stamp changes, the stamp of workspace projects
+	 * is 0.
+	 */
+	static class Location {
+		final String installLocation;
+		final String bundleSymName;
+		final long stamp;
+		final List<Entry> entries = new ArrayList<>();
+		final Map<String, List<Entry>> packages = new HashMap<>();
+
+		Location(String installLocation, String bundleSymName, long stamp) {
+			this.installLocation = installLocation;
+			this.bundleSymName = bundleSymName;
+			this.stamp = stamp;
+		}
+
+		void add(Entry e) {
+			entries.add(e);
+			packages.computeIfAbsent(e.pakage, p -> new ArrayList<>()).add(e);
+		}
+	}
+
 	@SuppressWarnings("unused")
 	private TargetPlatformContributionCollector() {
 	}
@@ -112,6 +161,9 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 
 		this.cacheName = cacheName;
 		patternFile = getFilePattern();
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this::workspaceChanged,
+				IResourceChangeEvent.POST_CHANGE);
+		PDECore.getDefault().getModelManager().addPluginModelListener(delta -> upToDate = false);
 
 		addContributor(new IClassContributionProvider() {
 
@@ -130,9 +182,16 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				int found = 0;
 				boolean more = false;
 
+				final List<String> projectNames = new ArrayList<>();
+				if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE) && filter.project != null) {
+					for (final IProject project : filter.project.getWorkspace().getRoot().getProjects()) {
+						projectNames.add(project.getName());
+					}
+				}
+
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
-					if (stopFiltering) {
+				for (final Location location : locations.values()) {
+					if (stopFiltering || more) {
 						break;
 					}
 					final IProgressMonitor monitor = filter.getProgressMonitor();
@@ -142,23 +201,18 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							break;
 						}
 						monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
-								+ " " + e.installLocation); //$NON-NLS-1$
+								+ " " + location.installLocation); //$NON-NLS-1$
 					}
 
 					if (E.notEmpty(filter.getBundles())) {
-						if (!filter.getBundles().contains(e.bundleSymName)) {
-							continue;
-						}
-					}
-					if (E.notEmpty(filter.getPackages())) {
-						if (!filter.getPackages().contains(e.pakage)) {
+						if (!filter.getBundles().contains(location.bundleSymName)) {
 							continue;
 						}
 					}
 					if (E.notEmpty(filter.getLocations())) {
 						boolean locationFound = false;
-						for (final String location : filter.getLocations()) {
-							if (e.installLocation.startsWith(location)) {
+						for (final String installLocation : filter.getLocations()) {
+							if (location.installLocation.startsWith(installLocation)) {
 								locationFound = true;
 								break;
 							}
@@ -168,19 +222,15 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 					}
 					if (filter.isIncludeNonBundles() == false) {
-						if (e.bundleSymName == null) {
+						if (location.bundleSymName == null) {
 							continue;
 						}
 					}
 					if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE)) {
 						if (filter.project != null) {
-							final IWorkspace workspace = filter.project.getWorkspace();
 							boolean fnd = false;
-							for (final IProject project : workspace.getRoot().getProjects()) {
-								// String path =
-								// project.getLocationURI().getPath();
-								final String path = project.getName();
-								if (e.installLocation.contains(path)) {
+							for (final String path : projectNames) {
+								if (location.installLocation.contains(path)) {
 									fnd = true;
 									break;
 								}
@@ -191,17 +241,28 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 					}
 
-					final Matcher m = patternName.matcher(e.name);
-					if (m.find()) {
-						found++;
-						if (found > maxResults) {
-							more = true;
-							handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
-							break;
+					Collection<Entry> entries = location.entries;
+					if (E.notEmpty(filter.getPackages())) {
+						entries = new ArrayList<>();
+						for (final String pakage : filter.getPackages()) {
+							final List<Entry> packageEntries = location.packages.get(pakage);
+							if (packageEntries != null) {
+								entries.addAll(packageEntries);
+							}
+						}
+					}
+					for (final Entry e : entries) {
+						final Matcher m = patternName.matcher(e.name);
+						if (m.find()) {
+							found++;
+							if (found > maxResults) {
+								more = true;
+								handler.moreResults(ContributionResultHandler.MORE_UNKNOWN, filter);
+								break;
+							}
+							handler.result(makeData(e));
 						}
-						handler.result(makeData(e));
 					}
-
 				}
 				if (!more) {
 					if (stopFiltering) {
@@ -224,10 +285,9 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
+				locations.clear();
+				changedProjects.clear();
+				upToDate = false;
 				outputDirectories.clear();
 			}
 		});
@@ -253,7 +313,13 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		final HashSet<String> ret = new HashSet<>();
+		for (final Location location : locations.values()) {
+			if (location.bundleSymName != null && !location.entries.isEmpty()) {
+				ret.add(location.bundleSymName);
+			}
+		}
+		return new ArrayList<>(ret);
 	}
 
 	/**
@@ -262,7 +328,11 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		final HashSet<String> ret = new HashSet<>();
+		for (final Location location : locations.values()) {
+			ret.addAll(location.packages.keySet());
+		}
+		return new ArrayList<>(ret);
 	}
 
 	/**
@@ -271,26 +341,64 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		final HashSet<String> ret = new HashSet<>();
+		for (final Location location : locations.values()) {
+			if (!location.entries.isEmpty()) {
+				ret.add(location.installLocation);
+			}
+		}
+		return new ArrayList<>(ret);
+	}
+
+	private void workspaceChanged(IResourceChangeEvent event) {
+		final IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		for (final IResourceDelta projectDelta : delta.getAffectedChildren()) {
+			if (projectDelta.getKind() != IResourceDelta.CHANGED
+					|| (projectDelta.getFlags() & IResourceDelta.OPEN) != 0 || hasAddedOrRemovedFiles(projectDelta)) {
+				final IPath location = projectDelta.getResource().getLocation();
+				if (location != null) {
+					changedProjects.add(location.toOSString());
+				}
+				upToDate = false;
+			}
+		}
+	}
+
+	// only the names of the files are indexed, changed contents do not matter
+	private boolean hasAddedOrRemovedFiles(IResourceDelta delta) {
+		for (final IResourceDelta child : delta.getAffectedChildren()) {
+			if (child.getResource() instanceof IFile file) {
+				if (child.getKind() != IResourceDelta.CHANGED && patternFile.matcher(file.getName()).matches()) {
+					return true;
+				}
+			} else if (child.getKind() != IResourceDelta.CHANGED || hasAddedOrRemovedFiles(child)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
-	 * Ensures the cache is loaded. By default it is loaded on first access, and
-	 * kept static until forced to reloaded.
+	 * Ensures the cache is up to date. By default it is loaded on first access,
+	 * and then only the workspace projects and target bundles that changed
+	 * since are indexed again.
 	 *
 	 * @param force
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
+		if (!upToDate || force) {
+			upToDate = true;
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
-			outputDirectories.clear();
+			if (force) {
+				locations.clear();
+				outputDirectories.clear();
+			}
 
 			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
 
@@ -303,6 +411,9 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
 
+					final Map<String, Location> persisted = loadIndex();
+					final Set<String> current = new HashSet<>();
+					boolean changed = false;
 					for (final IProject pj : projects) {
 						if (monitor.isCanceled()) {
 							break;
@@ -310,9 +421,19 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						final String rootDirectory = pj.getLocation().toOSString();
 						monitor.subTask(rootDirectory);
 						monitor.worked(1);
-						TargetPlatformContributionCollector.this
-						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
+						current.add(rootDirectory);
+						if (!changedProjects.remove(rootDirectory) && locations.containsKey(rootDirectory)) {
+							continue;
+						}
+						outputDirectories.remove(rootDirectory);
+						final Location location = new Location(rootDirectory,
+								FilteredContributionDialog.getBundle(rootDirectory), 0);
+						visit(monitor, location, new File(rootDirectory));
+						if (monitor.isCanceled()) {
+							changedProjects.add(rootDirectory);
+							break;
+						}
+						locations.put(rootDirectory, location);
 					}
 
 					// load target platform bundles
@@ -324,76 +445,61 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 
 						final IPluginBase pluginBase = pluginModelBase.getPluginBase();
-						if (pluginBase == null) {
+						final String installLocation = pluginModelBase.getInstallLocation();
+						if (pluginBase == null || installLocation == null) {
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
-						try {
-							final String installLocation = pluginModelBase.getInstallLocation();
-							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
-									}
-								}
-							} else {
-								// not a jar file
-								final String bundle = getBundle(new File(installLocation));
-								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
-								}
+						current.add(installLocation);
+						final File file = new File(installLocation);
+						final long stamp = getStamp(file);
+						Location location = locations.get(installLocation);
+						if (location == null) {
+							location = persisted.get(installLocation);
+						}
+						if (isIndexed(location, stamp)) {
+							locations.put(installLocation, location);
+							continue;
+						}
+						changed = true;
+						if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
+							location = new Location(installLocation, pluginBase.getId(), stamp);
+							try {
+								indexJar(location);
+							} catch (final IOException e) {
+								// not persisted with the stamp of the jar, so
+								// that it is indexed again
+								ILog.of(TargetPlatformContributionCollector.class)
+								.error("Could not index " + installLocation, e); //$NON-NLS-1$
+								locations.remove(installLocation);
+								continue;
 							}
-						} catch (final MalformedURLException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
-						} catch (final IOException e) {
-							// TODO Auto-generated catch block
-							e.printStackTrace();
+						} else {
+							// not a jar file
+							final String bundle = getBundle(file);
+							if (bundle == null) {
+								continue;
+							}
+							location = new Location(installLocation, bundle, stamp);
+							visit(monitor, location, file);
+						}
+						if (monitor.isCanceled()) {
+							break;
 						}
+						locations.put(installLocation, location);
 					}
 					monitor.done();
 					if (monitor.isCanceled()) {
+						upToDate = false;
 						if (providerStatusCallback != null) {
 							providerStatusCallback.onStatusChanged(ProviderStatus.CANCELLED);
 						}
 						return Status.CANCEL_STATUS;
 					}
+					changed |= locations.keySet().retainAll(current);
+					if (changed) {
+						saveIndex();
+					}
 					if (providerStatusCallback != null) {
 						providerStatusCallback.onStatusChanged(ProviderStatus.READY);
 					}
@@ -505,58 +611,192 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
-		for (final File fChild : file.listFiles()) {
+	protected void visit(IProgressMonitor monitor, Location location, File file) {
+		final File[] children = file.listFiles();
+		if (children == null) {
+			return;
+		}
+		for (final File fChild : children) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, location, fChild);
 			} else {
-				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
-				name2 = stripOutputDirectory(name2, installLocation);
+				String name2 = fChild.getAbsolutePath().substring(location.installLocation.length() + 1);
+				name2 = stripOutputDirectory(name2, location.installLocation);
 				if (shouldIgnore(name2)) {
 					continue;
 				}
 				final Matcher m = patternFile.matcher(name2);
 				if (m.matches()) {
-					final Entry e = new Entry();
-					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
-					e.name = m.group(2);
-					if (e.name.contains("$")) { //$NON-NLS-1$
+					if (m.group(2).contains("$")) { //$NON-NLS-1$
 						continue;
 					}
-					e.path = m.group(1);
-					if (e.path != null) {
-						e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-						if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(1);
-						}
-						if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-						}
-					} else {
-						e.pakage = ""; //$NON-NLS-1$
-					}
-					if (e.path == null) {
-						e.path = ""; //$NON-NLS-1$
-					}
-					e.relativePath = IPath
-							.fromOSString(file.getAbsolutePath().replace(e.installLocation, "")).makeRelative().toOSString(); //$NON-NLS-1$
-
-					e.bundleSymName = bundleName;
+					final String relativePath = IPath
+							.fromOSString(file.getAbsolutePath().replace(location.installLocation, "")).makeRelative().toOSString(); //$NON-NLS-1$
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
+					location.add(createEntry(location, m.group(1), m.group(2), relativePath));
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Indexes a jar from its central directory.
+	 */
+	private void indexJar(Location location) throws IOException {
+		try (ZipFile zip = new ZipFile(location.installLocation)) {
+			final Enumeration<? extends ZipEntry> entries = zip.entries();
+			while (entries.hasMoreElements()) {
+				final String name2 = entries.nextElement().getName();
+				if (shouldIgnore(name2)) {
+					continue;
+				}
+				final Matcher m = patternFile.matcher(name2);
+				if (m.matches()) {
+					location.add(createEntry(location, m.group(1), m.group(2), null));
+				}
+			}
+		}
+	}
+
+	static Entry createEntry(Location location, String path, String name, String relativePath) {
+		final Entry e = new Entry();
+		e.installLocation = location.installLocation;
+		e.bundleSymName = location.bundleSymName;
+		e.name = name;
+		e.path = path != null ? path : ""; //$NON-NLS-1$
+		e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+		if (e.pakage.startsWith(".")) { //$NON-NLS-1$
+			e.pakage = e.pakage.substring(1);
+		}
+		if (e.pakage.endsWith(".")) { //$NON-NLS-1$
+			e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
+		}
+		e.relativePath = relativePath;
+		return e;
+	}
+
+	/**
+	 * Returns the stamp of a target bundle, computed from its jar or from the
+	 * manifest of a bundle folder, or 0 if the bundle does not exist.
+	 */
+	static long getStamp(File bundle) {
+		final File file = bundle.isDirectory() ? new File(bundle, "META-INF/MANIFEST.MF") : bundle; //$NON-NLS-1$
+		final long lastModified = file.lastModified();
+		return lastModified == 0 ? 0 : lastModified ^ (file.length() << 32);
+	}
+
+	/**
+	 * Returns whether the given location indexes the target bundle with the
+	 * given stamp, i.e. whether the bundle did not change since.
+	 */
+	static boolean isIndexed(Location location, long stamp) {
+		return location != null && stamp != 0 && location.stamp == stamp;
+	}
+
+	private File getIndexFile() {
+		return Platform.getStateLocation(FrameworkUtil.getBundle(TargetPlatformContributionCollector.class))
+				.append(getClass().getSimpleName() + ".index").toFile(); //$NON-NLS-1$
+	}
+
+	/**
+	 * Reads the index of the target bundles persisted by a previous session,
+	 * once per session.
+	 *
+	 * @return the persisted locations, empty if they were already read
+	 */
+	private Map<String, Location> loadIndex() {
+		if (indexLoaded) {
+			return new HashMap<>();
+		}
+		indexLoaded = true;
+		return readIndex(getIndexFile());
+	}
+
+	/**
+	 * Persists the index of the target bundles. The workspace projects are not
+	 * persisted, there is no stamp to tell whether they changed.
+	 */
+	private void saveIndex() {
+		final File file = getIndexFile();
+		try {
+			writeIndex(file, locations.values());
+		} catch (final IOException e) {
+			file.delete();
+			ILog.of(TargetPlatformContributionCollector.class).error("Could not save the index to " + file, e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Reads an index written by {@link #writeIndex(File, Collection)}.
+	 *
+	 * @return the indexed locations, empty if the file does not exist or can
+	 *         not be read
+	 */
+	static Map<String, Location> readIndex(File file) {
+		final Map<String, Location> ret = new HashMap<>();
+		if (!file.isFile()) {
+			return ret;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() == INDEX_VERSION) {
+				final int count = in.readInt();
+				for (int i = 0; i < count; i++) {
+					final Location location = new Location(in.readUTF(), readNullable(in), in.readLong());
+					final int entries = in.readInt();
+					for (int j = 0; j < entries; j++) {
+						location.add(createEntry(location, in.readUTF(), in.readUTF(), readNullable(in)));
 					}
+					ret.put(location.installLocation, location);
+				}
+			}
+		} catch (final IOException e) {
+			// index the target again
+			ret.clear();
+		}
+		return ret;
+	}
+
+	/**
+	 * Writes the given locations that have a stamp, i.e. the target bundles.
+	 */
+	static void writeIndex(File file, Collection<Location> locations) throws IOException {
+		final List<Location> bundles = new ArrayList<>();
+		for (final Location location : locations) {
+			if (location.stamp != 0) {
+				bundles.add(location);
+			}
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+			out.writeInt(INDEX_VERSION);
+			out.writeInt(bundles.size());
+			for (final Location location : bundles) {
+				out.writeUTF(location.installLocation);
+				writeNullable(out, location.bundleSymName);
+				out.writeLong(location.stamp);
+				out.writeInt(location.entries.size());
+				for (final Entry e : location.entries) {
+					out.writeUTF(e.path);
+					out.writeUTF(e.name);
+					writeNullable(out, e.relativePath);
 				}
 			}
 		}
+	}
+
+	private static String readNullable(DataInputStream in) throws IOException {
+		return in.readBoolean() ? in.readUTF() : null;
+	}
 
+	private static void writeNullable(DataOutputStream out, String value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeUTF(value);
+		}
 	}
 
 	static private String stripOutputDirectory(String path, String installLocation) {
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Location;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TargetPlatformIndexTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testIndexIsReadAsWritten() throws IOException {
+		final Location bundle = new Location("/target/a.jar", "a", 42); //$NON-NLS-1$ //$NON-NLS-2$
+		bundle.add(TargetPlatformContributionCollector.createEntry(bundle, "a/b/", "Type", null)); //$NON-NLS-1$ //$NON-NLS-2$
+		bundle.add(TargetPlatformContributionCollector.createEntry(bundle, null, "Default", "lib")); //$NON-NLS-1$ //$NON-NLS-2$
+		final Location project = new Location("/workspace/p", "p", 0); //$NON-NLS-1$ //$NON-NLS-2$
+		project.add(TargetPlatformContributionCollector.createEntry(project, "p/", "Type", "src")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+		final File file = folder.newFile("index"); //$NON-NLS-1$
+		TargetPlatformContributionCollector.writeIndex(file, List.of(bundle, project));
+		final Map<String, Location> index = TargetPlatformContributionCollector.readIndex(file);
+
+		// workspace projects have no stamp and are not persisted
+		assertEquals(Set.of("/target/a.jar"), index.keySet()); //$NON-NLS-1$
+		final Location read = index.get("/target/a.jar"); //$NON-NLS-1$
+		assertEquals("a", read.bundleSymName); //$NON-NLS-1$
+		assertEquals(42, read.stamp);
+		assertEquals(2, read.entries.size());
+		assertEquals(Set.of("a.b", ""), read.packages.keySet()); //$NON-NLS-1$ //$NON-NLS-2$
+		for (int i = 0; i < bundle.entries.size(); i++) {
+			final Entry expected = bundle.entries.get(i);
+			final Entry actual = read.entries.get(i);
+			assertEquals(expected.installLocation, actual.installLocation);
+			assertEquals(expected.bundleSymName, actual.bundleSymName);
+			assertEquals(expected.path, actual.path);
+			assertEquals(expected.pakage, actual.pakage);
+			assertEquals(expected.name, actual.name);
+			assertEquals(expected.relativePath, actual.relativePath);
+		}
+		assertNull(read.entries.get(0).relativePath);
+	}
+
+	@Test
+	public void testUnreadableIndexIsIgnored() throws IOException {
+		assertTrue(TargetPlatformContributionCollector.readIndex(new File(folder.getRoot(), "missing")).isEmpty()); //$NON-NLS-1$
+
+		final Location bundle = new Location("/target/a.jar", "a", 42); //$NON-NLS-1$ //$NON-NLS-2$
+		bundle.add(TargetPlatformContributionCollector.createEntry(bundle, "a/", "Type", null)); //$NON-NLS-1$ //$NON-NLS-2$
+		final File file = folder.newFile("index"); //$NON-NLS-1$
+		TargetPlatformContributionCollector.writeIndex(file, List.of(bundle));
+		final byte[] content = Files.readAllBytes(file.toPath());
+
+		Files.write(file.toPath(), Arrays.copyOf(content, content.length - 4));
+		assertTrue(TargetPlatformContributionCollector.readIndex(file).isEmpty());
+
+		// another version of the index
+		content[3]++;
+		Files.write(file.toPath(), content);
+		assertTrue(TargetPlatformContributionCollector.readIndex(file).isEmpty());
+
+		assertThrows(IOException.class,
+				() -> TargetPlatformContributionCollector.writeIndex(folder.getRoot(), List.of(bundle)));
+	}
+
+	@Test
+	public void testChangedJarIsIndexedAgain() throws IOException {
+		final File jar = folder.newFile("a.jar"); //$NON-NLS-1$
+		Files.write(jar.toPath(), new byte[10]);
+		final long stamp = TargetPlatformContributionCollector.getStamp(jar);
+		final Location location = new Location(jar.getAbsolutePath(), "a", stamp); //$NON-NLS-1$
+		assertTrue(TargetPlatformContributionCollector.isIndexed(location, stamp));
+		assertFalse(TargetPlatformContributionCollector.isIndexed(null, stamp));
+
+		final long lastModified = jar.lastModified();
+		Files.write(jar.toPath(), new byte[20]);
+		assertTrue(jar.setLastModified(lastModified));
+		assertFalse(TargetPlatformContributionCollector.isIndexed(location,
+				TargetPlatformContributionCollector.getStamp(jar)));
+
+		Files.write(jar.toPath(), new byte[10]);
+		assertTrue(jar.setLastModified(lastModified + 2000));
+		assertFalse(TargetPlatformContributionCollector.isIndexed(location,
+				TargetPlatformContributionCollector.getStamp(jar)));
+
+		assertTrue(jar.delete());
+		assertEquals(0, TargetPlatformContributionCollector.getStamp(jar));
+		assertFalse(TargetPlatformContributionCollector.isIndexed(new Location(jar.getAbsolutePath(), "a", 0), 0)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testBundleFolderIsIndexedAgainWhenItsManifestChanges() throws IOException {
+		final File bundle = folder.newFolder("a"); //$NON-NLS-1$
+		final File manifest = new File(bundle, "META-INF/MANIFEST.MF"); //$NON-NLS-1$
+		assertTrue(manifest.getParentFile().mkdir());
+		Files.writeString(manifest.toPath(), "Bundle-SymbolicName: a\n"); //$NON-NLS-1$
+		final long stamp = TargetPlatformContributionCollector.getStamp(bundle);
+		assertNotEquals(0, stamp);
+		final Location location = new Location(bundle.getAbsolutePath(), "a", stamp); //$NON-NLS-1$
+
+		// only the manifest is checked
+		Files.writeString(new File(bundle, "plugin.xml").toPath(), "<plugin/>"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertTrue(TargetPlatformContributionCollector.isIndexed(location,
+				TargetPlatformContributionCollector.getStamp(bundle)));
+
+		assertTrue(manifest.setLastModified(manifest.lastModified() + 2000));
+		assertFalse(TargetPlatformContributionCollector.isIndexed(location,
+				TargetPlatformContributionCollector.getStamp(bundle)));
+	}
+}
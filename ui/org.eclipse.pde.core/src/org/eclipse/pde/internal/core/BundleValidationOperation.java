@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -36,9 +43,25 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * The state of the last validation, used as the base of the next one. It
+	 * is softly referenced since it keeps the validated bundles reachable.
+	 */
+	private static SoftReference<ValidationState> fgLastValidation;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
-	private State fState;
+	private Set<String> fSymbolicNames;
+	private Map<Object, Object[]> fResolverErrors;
+	private boolean fHasErrors;
+
+	/**
+	 * A resolved validation state together with the bundle descriptions it was
+	 * created from, mapped to their copies in the state.
+	 */
+	private record ValidationState(State state, Map<BundleDescription, BundleDescription> copies,
+			Dictionary<String, String>[] properties) {
+	}
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -50,34 +73,143 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		fProperties = properties;
 	}
 
+	/**
+	 * Validates the bundles of the models. If only a few bundles differ from the
+	 * previous validation with the same platform properties, the state of that
+	 * validation is updated and resolved incrementally instead of creating and
+	 * resolving a new one. The state is never exposed, the results of an
+	 * operation are computed when it is run so they are not affected by the
+	 * state being reused later on.
+	 */
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
 		if (FACTORY == null) {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
+		Set<BundleDescription> bundles = new LinkedHashSet<>();
+		Set<String> symbolicNames = new HashSet<>();
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				bundles.add(bundle);
+				symbolicNames.add(bundle.getSymbolicName());
 			}
+		}
+		fSymbolicNames = symbolicNames;
+		synchronized (BundleValidationOperation.class) {
+			ValidationState base = fgLastValidation != null ? fgLastValidation.get() : null;
+			State state;
+			if (base != null && Arrays.equals(base.properties(), fProperties) && isIncremental(base, bundles)) {
+				state = updateState(base, bundles, subMonitor);
+			} else {
+				Map<BundleDescription, BundleDescription> copies = new HashMap<>();
+				state = FACTORY.createState(true);
+				for (BundleDescription bundle : bundles) {
+					BundleDescription copy = FACTORY.createBundleDescription(bundle);
+					state.addBundle(copy);
+					copies.put(bundle, copy);
+					subMonitor.split(1);
+				}
+				state.setPlatformProperties(fProperties);
+				state.resolve(false);
+				fgLastValidation = new SoftReference<>(new ValidationState(state, copies, fProperties));
+			}
+			subMonitor.setWorkRemaining(1);
+			fResolverErrors = computeResolverErrors(state);
+			fHasErrors = computeHasErrors(state);
 			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
-		subMonitor.split(1);
 	}
 
+	/**
+	 * Returns whether the given base state differs from the given bundles by
+	 * few enough bundles to be updated instead of being recreated. As an
+	 * incremental resolution keeps the resolved singletons of the base state,
+	 * it is only used if no added or removed singleton shares its symbolic
+	 * name with another bundle, so that its results match those of a full
+	 * resolution.
+	 */
+	private static boolean isIncremental(ValidationState base, Set<BundleDescription> bundles) {
+		int limit = Math.max(16, bundles.size() / 10);
+		Set<BundleDescription> changed = new HashSet<>();
+		for (BundleDescription bundle : bundles) {
+			if (!base.copies().containsKey(bundle) && changed.add(bundle) && changed.size() > limit) {
+				return false;
+			}
+		}
+		for (BundleDescription bundle : base.copies().keySet()) {
+			if (!bundles.contains(bundle) && changed.add(bundle) && changed.size() > limit) {
+				return false;
+			}
+		}
+		Set<String> singletons = new HashSet<>();
+		for (BundleDescription bundle : changed) {
+			if (bundle.isSingleton()) {
+				singletons.add(bundle.getSymbolicName());
+			}
+		}
+		if (!singletons.isEmpty()) {
+			Set<BundleDescription> named = new HashSet<>();
+			for (Set<BundleDescription> candidates : List.of(bundles, base.copies().keySet())) {
+				for (BundleDescription bundle : candidates) {
+					if (singletons.contains(bundle.getSymbolicName()) && named.add(bundle)
+							&& named.size() > singletons.size()) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	private static State updateState(ValidationState base, Set<BundleDescription> bundles, SubMonitor monitor) {
+		State state = base.state();
+		Map<BundleDescription, BundleDescription> copies = base.copies();
+		boolean changed = false;
+		for (Iterator<Entry<BundleDescription, BundleDescription>> iterator = copies.entrySet().iterator(); iterator
+				.hasNext();) {
+			Entry<BundleDescription, BundleDescription> entry = iterator.next();
+			if (!bundles.contains(entry.getKey())) {
+				state.removeBundle(entry.getValue());
+				iterator.remove();
+				changed = true;
+			}
+		}
+		for (BundleDescription bundle : bundles) {
+			if (!copies.containsKey(bundle)) {
+				BundleDescription copy = FACTORY.createBundleDescription(bundle);
+				state.addBundle(copy);
+				copies.put(bundle, copy);
+				changed = true;
+			}
+			monitor.split(1);
+		}
+		if (changed) {
+			state.resolve(true);
+		}
+		return state;
+	}
+
+	/**
+	 * Returns the resolver errors and duplicate singletons found by this
+	 * validation. The returned map may be modified by the caller.
+	 *
+	 * @return the bundles with errors mapped to their problems
+	 */
 	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,18 +224,37 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
-	public State getState() {
-		return fState;
+	/**
+	 * Returns whether no bundles were validated.
+	 *
+	 * @return <code>true</code> if there were no bundles to validate
+	 */
+	public boolean isEmpty() {
+		return fSymbolicNames.isEmpty();
+	}
+
+	/**
+	 * Returns whether a bundle with the given symbolic name was validated.
+	 *
+	 * @param symbolicName the symbolic name of the bundle
+	 * @return <code>true</code> if a bundle with the symbolic name was validated
+	 */
+	public boolean containsBundle(String symbolicName) {
+		return fSymbolicNames.contains(symbolicName);
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
+		return fHasErrors;
+	}
+
+	private static boolean computeHasErrors(State state) {
+		if (state.getHighestBundleId() > -1) {
+			BundleDescription[] bundles = state.getBundles();
 			for (BundleDescription bundle : bundles) {
 				if (!bundle.isResolved()) {
 					return true;
 				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+					BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 					if (dups.length > 1) {
 						// more than one singleton
 						return true;
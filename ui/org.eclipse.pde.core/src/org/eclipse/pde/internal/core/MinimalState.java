@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -177,16 +177,29 @@ public class MinimalState {
 
 	public BundleDescription addBundle(Map<String, String> manifest, File bundleLocation, long bundleId)
 			throws CoreException {
+		BundleDescription descriptor = createBundleDescription(manifest, bundleLocation,
+				bundleId == -1 ? getNextId() : bundleId);
+		// new bundle
+		if (descriptor != null && (bundleId == -1 || !fState.updateBundle(descriptor))) {
+			fState.addBundle(descriptor);
+		}
+		return descriptor;
+	}
+
+	/**
+	 * Creates the description of a bundle without adding it to the state. May
+	 * be called concurrently as long as the state is not modified.
+	 *
+	 * @return the bundle description or <code>null</code> if the manifest is
+	 *         invalid
+	 */
+	protected BundleDescription createBundleDescription(Map<String, String> manifest, File bundleLocation,
+			long bundleId) throws CoreException {
 		try {
 			// OSGi requires a dictionary over any map
 			Dictionary<String, String> dictionaryManifest = FrameworkUtil.asDictionary(manifest);
-			BundleDescription descriptor = stateObjectFactory.createBundleDescription(fState, dictionaryManifest,
-					bundleLocation.getAbsolutePath(), bundleId == -1 ? getNextId() : bundleId);
-			// new bundle
-			if (bundleId == -1 || !fState.updateBundle(descriptor)) {
-				fState.addBundle(descriptor);
-			}
-			return descriptor;
+			return stateObjectFactory.createBundleDescription(fState, dictionaryManifest,
+					bundleLocation.getAbsolutePath(), bundleId);
 		} catch (BundleException e) {
 			// A stack trace isn't helpful here, but need to list the plug-in
 			// location causing the issue
@@ -210,6 +223,15 @@ public class MinimalState {
 		TargetWeaver.weaveManifest(manifest, bundleLocation);
 
 		BundleDescription desc = addBundle(manifest, bundleLocation, bundleId);
+		addBundleData(desc, manifest);
+		return desc;
+	}
+
+	/**
+	 * Records the data of a bundle that was added to the state with the given
+	 * manifest.
+	 */
+	protected void addBundleData(BundleDescription desc, Map<String, String> manifest) {
 		if (desc != null && manifest != null && "true".equals(manifest.get(ICoreConstants.ECLIPSE_SYSTEM_BUNDLE))) { //$NON-NLS-1$
 			// if this is the system bundle then
 			// indicate that the javaProfile has changed since the new system
@@ -220,7 +242,6 @@ public class MinimalState {
 		if (desc != null) {
 			addAuxiliaryData(desc, manifest, true);
 		}
-		return desc;
 	}
 
 	protected void addAuxiliaryData(BundleDescription desc, Map<String, String> manifest, boolean hasBundleStructure) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2012 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,7 @@ public class PDEAuxiliaryState {
 	private static String ATTR_PROJECT = "project"; //$NON-NLS-1$
 	private static String ATTR_PROVIDER = "provider"; //$NON-NLS-1$
 	private static String ATTR_BUNDLE_SOURCE = "bundleSource"; //$NON-NLS-1$
+	private static String ATTR_EXTERNAL_ANNOTATIONS = "externalAnnotations"; //$NON-NLS-1$
 
 	private static String ELEMENT_BUNDLE = "bundle"; //$NON-NLS-1$
 	private static String ELEMENT_LIB = "library"; //$NON-NLS-1$
@@ -126,6 +127,7 @@ public class PDEAuxiliaryState {
 		if (element.hasAttribute(ATTR_BUNDLE_SOURCE)) {
 			info.bundleSourceEntry = element.getAttribute(ATTR_BUNDLE_SOURCE);
 		}
+		info.exportsExternalAnnotations = "true".equals(element.getAttribute(ATTR_EXTERNAL_ANNOTATIONS)); //$NON-NLS-1$
 
 		NodeList libs = element.getChildNodes();
 		ArrayList<String> list = new ArrayList<>(libs.getLength());
@@ -234,6 +236,9 @@ public class PDEAuxiliaryState {
 				if (info.bundleSourceEntry != null) {
 					element.setAttribute(ATTR_BUNDLE_SOURCE, info.bundleSourceEntry);
 				}
+				if (info.exportsExternalAnnotations) {
+					element.setAttribute(ATTR_EXTERNAL_ANNOTATIONS, "true"); //$NON-NLS-1$
+				}
 				if (info.libraries != null) {
 					for (String library : info.libraries) {
 						Element lib = doc.createElement(ELEMENT_LIB);
@@ -387,6 +392,14 @@ public class PDEAuxiliaryState {
 		fPluginInfos.put(Long.toString(desc.getBundleId()), info);
 	}
 
+	/**
+	 * Removes the auxiliary data stored for the given bundle.
+	 * @param bundleID id of the bundle
+	 */
+	protected void removeAuxiliaryData(long bundleID) {
+		fPluginInfos.remove(Long.toString(bundleID));
+	}
+
 	/**
 	 * Retrieves the classpath entries from the manifest dictionary
 	 * @param manifest dictionary containing manifest headers
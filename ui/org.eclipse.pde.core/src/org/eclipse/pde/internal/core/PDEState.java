@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,17 @@ import java.io.File;
 import java.net.URI;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IWorkspaceRoot;
@@ -36,6 +42,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.core.plugin.ExternalFragmentModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModel;
 import org.eclipse.pde.internal.core.plugin.ExternalPluginModelBase;
@@ -45,9 +52,22 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	private static final AtomicLong GENERATIONS = new AtomicLong();
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
+	/**
+	 * Stamps of the target locations the state was created from keyed by
+	 * absolute path, including locations that are not bundles
+	 */
+	private final Map<String, Long> fTargetStamps = new HashMap<>();
+
+	/**
+	 * Distinguishes this state from the states created before in this session
+	 */
+	private final long fGeneration = GENERATIONS.incrementAndGet();
+
 	/**
 	 * Creates a new PDE State containing bundles from the given URLs.
 	 *
@@ -57,11 +77,42 @@ public class PDEState extends MinimalState {
 	 * @param monitor progress monitor
 	 */
 	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, IProgressMonitor monitor) {
+		this(target, addResolver, removeDuplicates, null, monitor);
+	}
+
+	/**
+	 * Creates a new PDE State containing bundles from the given URLs. If a
+	 * snapshot location is given, the state is restored from the snapshot
+	 * stored there and only the bundles that were added, changed or removed
+	 * since are read again. The snapshot is updated afterwards.
+	 *
+	 * @param target urls of target bundles
+	 * @param addResolver whether to add a resolver to the state
+	 * @param removeDuplicates whether to remove duplicate conflicting bundles from the state
+	 * @param snapshotLocation directory of the state snapshot or <code>null</code> to
+	 *            always read all bundles
+	 * @param monitor progress monitor
+	 */
+	public PDEState(URI[] target, boolean addResolver, boolean removeDuplicates, File snapshotLocation,
+			IProgressMonitor monitor) {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		PDEStateSnapshot snapshot = null;
+		if (snapshotLocation != null) {
+			snapshot = PDEStateSnapshot.read(snapshotLocation, stateObjectFactory, fAuxiliaryState);
+		}
+		boolean changed = true;
+		if (snapshot != null) {
+			changed = restoreTargetState(addResolver, snapshot, target, monitor);
+		} else {
+			createNewTargetState(addResolver, target, monitor);
+		}
+		if (snapshotLocation != null && changed) {
+			// duplicates are removed afterwards as they are read again anyway
+			PDEStateSnapshot.write(snapshotLocation, stateObjectFactory, fState, fAuxiliaryState, fTargetStamps,
+					fId, fSystemBundle);
+		}
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -79,29 +130,167 @@ public class PDEState extends MinimalState {
 	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
 		fState = stateObjectFactory.createState(resolve);
 		if (resolve) {
-			final String systemBSN = getSystemBundle();
-			Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
-					.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
-					.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
-			fState.getResolver().setSelectionPolicy(policy);
+			setSelectionPolicy();
 		}
-		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
-				uris.length);
+		List<File> files = new ArrayList<>(uris.length);
+		for (URI uri : uris) {
+			File file = toFile(uri);
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		addTargetBundles(files, monitor);
+	}
+
+	/**
+	 * Restores the state from the given snapshot, reading again the bundles
+	 * whose stamp changed and removing the bundles that are no longer part of
+	 * the target.
+	 *
+	 * @return whether the state differs from the snapshot
+	 */
+	private boolean restoreTargetState(boolean resolve, PDEStateSnapshot snapshot, URI[] uris,
+			IProgressMonitor monitor) {
+		fState = snapshot.state;
+		if (resolve) {
+			fState.setResolver(BundleHelper.getPlatformAdmin().createResolver());
+			setSelectionPolicy();
+		}
+		fId = snapshot.lastId;
+		fSystemBundle = snapshot.systemBundle;
+		Map<String, BundleDescription> snapshotBundles = new HashMap<>();
+		for (BundleDescription desc : fState.getBundles()) {
+			snapshotBundles.put(desc.getLocation(), desc);
+		}
+		List<File> changedFiles = new ArrayList<>();
 		for (URI uri : uris) {
 			File file = toFile(uri);
 			if (file == null) {
 				continue;
 			}
-			try {
-				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+			String location = file.getAbsolutePath();
+			Long stamp = snapshot.stamps.get(location);
+			BundleDescription desc = snapshotBundles.remove(location);
+			if (stamp != null && stamp.longValue() == PDEStateSnapshot.getStamp(file)) {
+				fTargetStamps.put(location, stamp);
+			} else {
+				if (desc != null) {
+					removeTargetBundle(desc);
 				}
+				changedFiles.add(file);
+			}
+		}
+		// bundles that are no longer part of the target
+		snapshotBundles.values().forEach(this::removeTargetBundle);
+		addTargetBundles(changedFiles, monitor);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Restored state from snapshot, read " + changedFiles.size() + " bundles and removed " //$NON-NLS-1$ //$NON-NLS-2$
+					+ snapshotBundles.size() + " bundles"); //$NON-NLS-1$
+		}
+		return !changedFiles.isEmpty() || !snapshotBundles.isEmpty()
+				|| fTargetStamps.size() != snapshot.stamps.size();
+	}
+
+	/**
+	 * Bundle description of a target location with the manifest it was created
+	 * from, or the failure to create it, and the time taken to read the
+	 * manifest and to create the description
+	 */
+	private record TargetLocation(File file, long stamp, Map<String, String> manifest, BundleDescription desc,
+			CoreException exception, long readNanos, long createNanos) {
+	}
+
+	/**
+	 * Adds the bundles at the given locations to the state, recording the
+	 * stamps of the locations. The manifests are read and the bundle
+	 * descriptions created in parallel on a dedicated pool, the bundles are then
+	 * added to the state one after the other in the given order. Bundle ids are
+	 * assigned in the given order up-front, so they are deterministic.
+	 *
+	 * @return the descriptions of the added bundles
+	 */
+	private List<BundleDescription> addTargetBundles(List<File> files, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
+				2 * files.size());
+		long start = System.currentTimeMillis();
+		long[] ids = new long[files.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = getNextId();
+		}
+		TargetLocation[] bundles;
+		ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+		try {
+			bundles = pool.submit(() -> IntStream.range(0, ids.length).parallel()
+					.mapToObj(i -> readTargetLocation(files.get(i), ids[i])).toArray(TargetLocation[]::new)).join();
+		} finally {
+			pool.shutdown();
+		}
+		subMonitor.worked(files.size());
+		long created = System.currentTimeMillis();
+		List<BundleDescription> added = new ArrayList<>(bundles.length);
+		for (TargetLocation bundle : bundles) {
+			File file = bundle.file();
+			subMonitor.subTask(file.getName());
+			fTargetStamps.put(file.getAbsolutePath(), Long.valueOf(bundle.stamp()));
+			if (bundle.exception() != null) {
+				if (bundle.exception().getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+					PDECore.log(bundle.exception());
+				}
+			} else if (bundle.desc() != null) {
+				fState.addBundle(bundle.desc());
+				addBundleData(bundle.desc(), bundle.manifest());
+				added.add(bundle.desc());
 			}
 			subMonitor.split(1);
 		}
+		if (PDECore.DEBUG_MODEL) {
+			long readNanos = 0;
+			long createNanos = 0;
+			for (TargetLocation bundle : bundles) {
+				readNanos += bundle.readNanos();
+				createNanos += bundle.createNanos();
+			}
+			// the times of the parallel tasks are summed up
+			System.out.println("Read " + files.size() + " manifests in " + readNanos / 1_000_000 //$NON-NLS-1$ //$NON-NLS-2$
+					+ " ms and created their bundle descriptions in " + createNanos / 1_000_000 //$NON-NLS-1$
+					+ " ms of task time, " + (created - start) + " ms elapsed, added bundles to state in " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - created) + " ms"); //$NON-NLS-1$
+		}
+		return added;
+	}
+
+	private TargetLocation readTargetLocation(File file, long id) {
+		// stamp before reading so that concurrent changes are detected next time
+		long stamp = PDEStateSnapshot.getStamp(file);
+		long start = System.nanoTime();
+		Map<String, String> manifest;
+		try {
+			manifest = ManifestUtils.loadManifest(file);
+			// update for development mode
+			TargetWeaver.weaveManifest(manifest, file);
+		} catch (CoreException e) {
+			return new TargetLocation(file, stamp, null, null, e, System.nanoTime() - start, 0);
+		}
+		long read = System.nanoTime();
+		try {
+			BundleDescription desc = createBundleDescription(manifest, file, id);
+			return new TargetLocation(file, stamp, manifest, desc, null, read - start, System.nanoTime() - read);
+		} catch (CoreException e) {
+			return new TargetLocation(file, stamp, null, null, e, read - start, System.nanoTime() - read);
+		}
+	}
+
+	private void setSelectionPolicy() {
+		final String systemBSN = getSystemBundle();
+		Comparator<BaseDescription> policy = systemBundlesFirst(systemBSN)
+				.thenComparing(BaseDescription::getVersion, HIGHER_VERSION_FIRST)
+				.thenComparing(BaseDescription::getSupplier, HIGHER_LOCAL_VERSION_FIRST);
+		fState.getResolver().setSelectionPolicy(policy);
+	}
+
+	private void removeTargetBundle(BundleDescription desc) {
+		fState.removeBundle(desc);
+		fAuxiliaryState.removeAuxiliaryData(desc.getBundleId());
 	}
 
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
@@ -160,7 +349,7 @@ public class PDEState extends MinimalState {
 	 * @return File object or {@code null} if URI can't be converted to file. In
 	 *         the later case an error is logged.
 	 */
-	private static File toFile(URI uri) {
+	static File toFile(URI uri) {
 		IPath path = URIUtil.toPath(uri);
 		if (path != null) {
 			return path.toFile();
@@ -185,16 +374,32 @@ public class PDEState extends MinimalState {
 		// TODO This shouldn't be required if the target is removing duplicates, but test workspace shows some duplicates still
 		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription desc : bundles) {
-			String id = desc.getSymbolicName();
-			BundleDescription[] conflicts = state.getBundles(id);
-			if (conflicts.length > 1) {
-				for (BundleDescription conflict : conflicts) {
-					if (desc.getVersion().equals(conflict.getVersion()) && desc.getBundleId() != conflict.getBundleId()) {
-						fState.removeBundle(desc);
-					}
+			if (hasDuplicate(state, desc, false)) {
+				fState.removeBundle(desc);
+			}
+		}
+	}
+
+	/**
+	 * Returns whether the state contains another bundle with the same ID and
+	 * version as the given bundle.
+	 *
+	 * @param state state to search for duplicates in
+	 * @param desc the bundle to search duplicates of
+	 * @param targetOnly whether only bundles of target locations count as
+	 *            duplicates
+	 */
+	private boolean hasDuplicate(State state, BundleDescription desc, boolean targetOnly) {
+		BundleDescription[] conflicts = state.getBundles(desc.getSymbolicName());
+		if (conflicts.length > 1) {
+			for (BundleDescription conflict : conflicts) {
+				if (desc.getVersion().equals(conflict.getVersion()) && desc.getBundleId() != conflict.getBundleId()
+						&& (!targetOnly || fTargetStamps.containsKey(conflict.getLocation()))) {
+					return true;
 				}
 			}
 		}
+		return false;
 	}
 
 	private IPluginModelBase[] createTargetModels(BundleDescription[] bundleDescriptions) {
@@ -227,6 +432,77 @@ public class PDEState extends MinimalState {
 		return fTargetModels.toArray(new IPluginModelBase[fTargetModels.size()]);
 	}
 
+	/**
+	 * Returns the generation of this state, which is unique among the states
+	 * created in this session. Together with the time stamp of the resolver
+	 * state it identifies the content of this state.
+	 *
+	 * @return the generation of this state
+	 */
+	public long getGeneration() {
+		return fGeneration;
+	}
+
+	/**
+	 * Returns the stamps of the target locations of this state, including
+	 * locations that are not bundles.
+	 *
+	 * @return the stamps keyed by the absolute path of the location
+	 */
+	public Map<String, Long> getTargetStamps() {
+		return Collections.unmodifiableMap(fTargetStamps);
+	}
+
+	/**
+	 * Adds the bundles at the given target locations to the state and creates
+	 * their target models.
+	 *
+	 * @param locations the target locations to add
+	 * @param removeDuplicates whether to remove added bundles from the state
+	 *            that duplicate other target bundles, as when creating the
+	 *            state
+	 * @param monitor progress monitor
+	 * @return the target models of the added bundles
+	 */
+	public IPluginModelBase[] addTargetModels(List<File> locations, boolean removeDuplicates,
+			IProgressMonitor monitor) {
+		List<BundleDescription> added = addTargetBundles(locations, monitor);
+		List<IPluginModelBase> models = new ArrayList<>(added.size());
+		for (BundleDescription desc : added) {
+			if (removeDuplicates && hasDuplicate(fState, desc, true)) {
+				removeTargetBundle(desc);
+				continue;
+			}
+			IPluginModelBase model = createExternalModel(desc);
+			fTargetModels.add(model);
+			models.add(model);
+		}
+		return models.toArray(new IPluginModelBase[models.size()]);
+	}
+
+	/**
+	 * Removes the given target location and its bundle from the state.
+	 *
+	 * @param location the absolute path of the target location
+	 * @return the target model of the removed bundle or <code>null</code> if
+	 *         the location is not a bundle of this state
+	 */
+	public IPluginModelBase removeTargetLocation(String location) {
+		fTargetStamps.remove(location);
+		for (Iterator<IPluginModelBase> iterator = fTargetModels.iterator(); iterator.hasNext();) {
+			IPluginModelBase model = iterator.next();
+			if (location.equals(model.getInstallLocation())) {
+				iterator.remove();
+				BundleDescription desc = model.getBundleDescription();
+				if (desc != null) {
+					removeTargetBundle(desc);
+				}
+				return model;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * In previous releases the state was saved to the PDE .metadata directory.  If
 	 * any of these states are still around we should delete them.
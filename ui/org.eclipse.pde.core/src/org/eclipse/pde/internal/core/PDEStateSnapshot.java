@@ -0,0 +1,195 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+
+/**
+ * A snapshot of the target {@link PDEState} persisted in the PDE metadata
+ * directory. Besides the OSGi state and the auxiliary plug-in data it stores
+ * the stamps of the bundle locations the state was created from, so that the
+ * next session only has to re-read the bundles that were added or changed.
+ */
+final class PDEStateSnapshot {
+
+	/**
+	 * System property to disable the snapshot of the target state
+	 */
+	private static final String DISABLE_PROPERTY = "pde.disableStateSnapshot"; //$NON-NLS-1$
+
+	private static final String SNAPSHOT_DIRECTORY = "target.snapshot"; //$NON-NLS-1$
+	private static final String STAMPS_FILE = ".stamps"; //$NON-NLS-1$
+	private static final int VERSION = 1;
+
+	/**
+	 * The restored OSGi state
+	 */
+	final State state;
+
+	/**
+	 * Stamps of the bundle locations keyed by absolute path
+	 */
+	final Map<String, Long> stamps;
+
+	/**
+	 * Last bundle id handed out by the state
+	 */
+	final long lastId;
+
+	/**
+	 * Symbolic name of the system bundle of the state
+	 */
+	final String systemBundle;
+
+	private PDEStateSnapshot(State state, Map<String, Long> stamps, long lastId, String systemBundle) {
+		this.state = state;
+		this.stamps = stamps;
+		this.lastId = lastId;
+		this.systemBundle = systemBundle;
+	}
+
+	/**
+	 * Returns the directory of the snapshot of the target state or
+	 * <code>null</code> if the target state must not be persisted. Snapshots
+	 * are not used when running in development mode since the manifests are
+	 * then woven with the dev.properties of the running platform.
+	 *
+	 * @return the snapshot directory or <code>null</code>
+	 */
+	static File getTargetSnapshotLocation() {
+		if (Boolean.getBoolean(DISABLE_PROPERTY) || Platform.inDevelopmentMode()) {
+			return null;
+		}
+		return PDECore.getDefault().getStateLocation().append(SNAPSHOT_DIRECTORY).toFile();
+	}
+
+	/**
+	 * Computes the stamp of the bundle at the given location. For a jar the
+	 * stamp is based on its size and modification time, for a directory on the
+	 * modification time of its manifest files, like
+	 * {@link PDERegistryStrategy#getContributionsTimestamp()}.
+	 *
+	 * @param location bundle location
+	 * @return the stamp of the bundle location
+	 */
+	static long getStamp(File location) {
+		if (location.isFile()) {
+			return location.lastModified() ^ (location.length() << 32);
+		}
+		long stamp = location.lastModified();
+		for (String descriptor : new String[] { ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+				ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR }) {
+			File manifest = new File(location, descriptor);
+			stamp = 31 * stamp + manifest.lastModified();
+		}
+		return stamp;
+	}
+
+	/**
+	 * Reads the snapshot from the given directory, filling the given auxiliary
+	 * state with the persisted plug-in data.
+	 *
+	 * @param dir snapshot directory
+	 * @param factory factory to read the OSGi state with
+	 * @param auxiliaryState auxiliary state to fill
+	 * @return the snapshot or <code>null</code> if there is no valid snapshot
+	 */
+	@SuppressWarnings("deprecation")
+	static PDEStateSnapshot read(File dir, StateObjectFactory factory, PDEAuxiliaryState auxiliaryState) {
+		File stampsFile = new File(dir, STAMPS_FILE);
+		if (!stampsFile.isFile() || !auxiliaryState.exists(dir)) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(stampsFile)))) {
+			if (in.readInt() != VERSION) {
+				return null;
+			}
+			long lastId = in.readLong();
+			String systemBundle = in.readUTF();
+			int count = in.readInt();
+			Map<String, Long> stamps = new HashMap<>((4 * count) / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				String location = in.readUTF();
+				stamps.put(location, Long.valueOf(in.readLong()));
+			}
+			State state = factory.readState(dir);
+			if (state == null || !auxiliaryState.readPluginInfoCache(dir)) {
+				auxiliaryState.clear();
+				return null;
+			}
+			return new PDEStateSnapshot(state, stamps, lastId, systemBundle);
+		} catch (IOException | RuntimeException e) {
+			// a corrupt snapshot is simply discarded
+			auxiliaryState.clear();
+			if (PDECore.DEBUG_MODEL) {
+				System.out.println("Discarding target state snapshot: " + e); //$NON-NLS-1$
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Writes a snapshot of the given state to the given directory. The stamps
+	 * are written last so that an interrupted write leaves no valid snapshot.
+	 *
+	 * @param dir snapshot directory
+	 * @param factory factory to write the OSGi state with
+	 * @param state the state to persist
+	 * @param auxiliaryState the auxiliary plug-in data of the state
+	 * @param stamps stamps of the bundle locations keyed by absolute path
+	 * @param lastId last bundle id handed out by the state
+	 * @param systemBundle symbolic name of the system bundle of the state
+	 */
+	@SuppressWarnings("deprecation")
+	static void write(File dir, StateObjectFactory factory, State state, PDEAuxiliaryState auxiliaryState,
+			Map<String, Long> stamps, long lastId, String systemBundle) {
+		try {
+			CoreUtility.deleteContent(dir);
+			if (!dir.mkdirs()) {
+				return;
+			}
+			factory.writeState(state, dir);
+			auxiliaryState.savePluginInfo(dir);
+			try (DataOutputStream out = new DataOutputStream(
+					new BufferedOutputStream(new FileOutputStream(new File(dir, STAMPS_FILE))))) {
+				out.writeInt(VERSION);
+				out.writeLong(lastId);
+				out.writeUTF(systemBundle);
+				out.writeInt(stamps.size());
+				for (Entry<String, Long> entry : stamps.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeLong(entry.getValue().longValue());
+				}
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+			CoreUtility.deleteContent(dir);
+		}
+	}
+}
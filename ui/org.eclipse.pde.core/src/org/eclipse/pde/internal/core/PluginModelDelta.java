@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -69,6 +69,23 @@ public class PluginModelDelta {
 		kind |= type;
 	}
 
+	/**
+	 * Drops the removed entry with the given id, so that an entry replaced
+	 * within the same delta can be reported as changed instead.
+	 *
+	 * @param id the id of the entry
+	 * @return <code>true</code> if an entry with that id was removed
+	 */
+	boolean clearRemovedEntry(String id) {
+		if (removed == null || !removed.removeIf(entry -> id.equals(entry.getId()))) {
+			return false;
+		}
+		if (removed.isEmpty()) {
+			kind &= ~REMOVED;
+		}
+		return true;
+	}
+
 	private ArrayList<ModelEntry> addEntry(ArrayList<ModelEntry> list, ModelEntry entry) {
 		if (list == null) {
 			list = new ArrayList<>();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,9 +21,11 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
@@ -62,6 +64,7 @@ import org.eclipse.pde.core.plugin.ModelEntry;
 import org.eclipse.pde.core.target.ITargetDefinition;
 import org.eclipse.pde.core.target.LoadTargetDefinitionJob;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.core.natures.PluginProject;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.osgi.resource.Resource;
@@ -77,8 +80,11 @@ public class PluginModelManager implements IModelProviderListener {
 	 */
 	class UpdateClasspathsJob extends Job {
 
-		private final List<IJavaProject> fProjects = new ArrayList<>();
-		private final List<IClasspathContainer> fContainers = new ArrayList<>();
+		/**
+		 * Queued containers by project, a project queued again before the job
+		 * runs only has its latest container computed
+		 */
+		private final Map<IJavaProject, IClasspathContainer> fContainers = new LinkedHashMap<>();
 
 		/**
 		 * Constructs a new job.
@@ -99,17 +105,21 @@ public class PluginModelManager implements IModelProviderListener {
 			try {
 				boolean more = false;
 				do {
-					IJavaProject[] projects = null;
-					IClasspathContainer[] containers = null;
-					synchronized (fProjects) {
-						projects = fProjects.toArray(new IJavaProject[fProjects.size()]);
-						containers = fContainers.toArray(new IClasspathContainer[fContainers.size()]);
-						fProjects.clear();
+					Map<IJavaProject, IClasspathContainer> queued;
+					synchronized (fContainers) {
+						queued = new LinkedHashMap<>(fContainers);
 						fContainers.clear();
 					}
+					// sort outside of the lock, finding the models needs the
+					// lock of the master table
+					IJavaProject[] projects = sortByDependencies(queued.keySet());
+					IClasspathContainer[] containers = new IClasspathContainer[projects.length];
+					for (int i = 0; i < projects.length; i++) {
+						containers[i] = queued.get(projects[i]);
+					}
 					JavaCore.setClasspathContainer(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH, projects, containers, monitor);
-					synchronized (fProjects) {
-						more = !fProjects.isEmpty();
+					synchronized (fContainers) {
+						more = !fContainers.isEmpty();
 					}
 				} while (more);
 
@@ -123,12 +133,38 @@ public class PluginModelManager implements IModelProviderListener {
 		 * Queues more projects/containers.
 		 */
 		void add(IJavaProject project, IClasspathContainer container) {
-			synchronized (fProjects) {
-				fProjects.add(project);
-				fContainers.add(container);
+			synchronized (fContainers) {
+				fContainers.put(project, container);
 			}
 		}
 
+		/**
+		 * Sorts the given projects such that the prerequisites of a plug-in
+		 * come before the plug-in. Projects without bundle description keep
+		 * their order at the end.
+		 */
+		private IJavaProject[] sortByDependencies(Collection<IJavaProject> projects) {
+			Map<BundleDescription, IJavaProject> bundles = new LinkedHashMap<>();
+			List<IJavaProject> others = new ArrayList<>();
+			for (IJavaProject project : projects) {
+				IPluginModelBase model = findModel(project.getProject());
+				BundleDescription desc = model == null ? null : model.getBundleDescription();
+				if (desc != null && !bundles.containsKey(desc)) {
+					bundles.put(desc, project);
+				} else {
+					others.add(project);
+				}
+			}
+			BundleDescription[] descs = bundles.keySet().toArray(BundleDescription[]::new);
+			BundleHelper.getPlatformAdmin().getStateHelper().sortBundles(descs);
+			List<IJavaProject> sorted = new ArrayList<>(projects.size());
+			for (BundleDescription desc : descs) {
+				sorted.add(bundles.get(desc));
+			}
+			sorted.addAll(others);
+			return sorted.toArray(IJavaProject[]::new);
+		}
+
 	}
 
 	/**
@@ -508,15 +544,124 @@ public class PluginModelManager implements IModelProviderListener {
 	}
 
 	/**
-	 * Clears all existing models and recreates them
+	 * Updates the models to the bundles of the reloaded target. If only a few
+	 * target bundles were added, changed or removed, these changes are applied
+	 * to the existing state, otherwise all existing models are cleared and
+	 * recreated.
 	 */
 	public void targetReloaded(IProgressMonitor monitor) {
 		synchronized (fEntriesSynchronizer) {
+			if (fEntries != null && fState != null && !fCancelled && reloadTargetIncrementally(monitor)) {
+				return;
+			}
 			fEntries = null;
 			initializeTable(monitor);
 		}
 	}
 
+	/**
+	 * Compares the locations and stamps of the bundles of the reloaded target
+	 * with those of the current state and applies the differences to the
+	 * state and the master table. Has to be called synchronized with
+	 * fEntriesSynchronizer.
+	 *
+	 * @param monitor progress monitor
+	 * @return <code>false</code> if the target changed too much or needs a
+	 *         full reload for other reasons, in which case nothing was changed
+	 */
+	private boolean reloadTargetIncrementally(IProgressMonitor monitor) {
+		long startTime = System.currentTimeMillis();
+		SubMonitor subMon = SubMonitor.convert(monitor, PDECoreMessages.PluginModelManager_InitializingPluginModels, 100);
+		try {
+			ITargetDefinition unresolvedRepoBasedtarget = TargetPlatformHelper.getUnresolvedRepositoryBasedWorkspaceTarget();
+			if (unresolvedRepoBasedtarget != null && !P2TargetUtils.isProfileValid(unresolvedRepoBasedtarget)) {
+				return false;
+			}
+		} catch (CoreException e) {
+			return false;
+		}
+		URI[] externalUris = getExternalBundles(subMon.split(40));
+		if (subMon.isCanceled()) {
+			return false;
+		}
+
+		// compare the target locations with those of the state
+		Map<String, Long> stamps = fState.getTargetStamps();
+		Set<String> removed = new HashSet<>(stamps.keySet());
+		List<File> added = new ArrayList<>();
+		for (URI uri : externalUris) {
+			File file = PDEState.toFile(uri);
+			if (file == null) {
+				continue;
+			}
+			String location = file.getAbsolutePath();
+			Long stamp = stamps.get(location);
+			if (stamp != null && stamp.longValue() == PDEStateSnapshot.getStamp(file)) {
+				removed.remove(location);
+			} else {
+				added.add(file);
+			}
+		}
+		int changes = removed.size() + added.size();
+		if (changes * 4 > externalUris.length + stamps.size()) {
+			// rebuilding the state is cheaper than applying many changes
+			return false;
+		}
+
+		PluginModelDelta delta = new PluginModelDelta();
+		for (String location : removed) {
+			IPluginModelBase model = fState.removeTargetLocation(location);
+			String id = model == null ? null : model.getPluginBase().getId();
+			if (id != null) {
+				handleRemove(id, model, delta);
+			}
+		}
+		IPluginModelBase[] models = fState.addTargetModels(added, true, subMon.split(30));
+		PDEPreferencesManager prefs = PDECore.getDefault().getPreferencesManager();
+		boolean preferWorkspaceBundle = prefs.getBoolean(ICoreConstants.WORKSPACE_PLUGINS_OVERRIDE_TARGET);
+		for (IPluginModelBase model : models) {
+			String id = model.getPluginBase().getId();
+			if (id == null) {
+				continue;
+			}
+			LocalModelEntry entry = fEntries.get(id);
+			if (entry == null) {
+				entry = new LocalModelEntry(id);
+				fEntries.put(id, entry);
+				// a bundle replaced by another version changes its entry
+				delta.addEntry(entry, delta.clearRemovedEntry(id) ? PluginModelDelta.CHANGED : PluginModelDelta.ADDED);
+			} else {
+				delta.addEntry(entry, PluginModelDelta.CHANGED);
+			}
+			entry.addModel(model);
+			// workspace bundles replace their target counterparts in the state
+			if (entry.hasWorkspaceModels() && preferWorkspaceBundle) {
+				fState.removeBundleDescription(model.getBundleDescription());
+			}
+		}
+		fExternalManager.setModels(fState.getTargetModels());
+		saveExternalPluginList(externalUris);
+
+		StateDelta stateDelta = fState.resolveState(true);
+		subMon.split(20);
+		if (changes > 0) {
+			// flush the extension registry cache since target bundles have changed
+			PDECore.getDefault().getExtensionsRegistry().targetReloaded();
+		}
+		updateAffectedEntries(stateDelta);
+		// unlike a full reload, only the projects depending on the changed
+		// bundles are rebuilt, as found by the listeners in the state delta
+		fireStateDelta(stateDelta);
+		fireDelta(delta);
+		subMon.split(10);
+
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Target reloaded incrementally, " + added.size() + " locations added or changed and " //$NON-NLS-1$ //$NON-NLS-2$
+					+ removed.size() + " removed in " + (System.currentTimeMillis() - startTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
 	/**
 	 * Allow access to the table only through this getter.
 	 * It always calls initialize to make sure the table is initialized.
@@ -580,7 +725,9 @@ public class PluginModelManager implements IModelProviderListener {
 			fCancelled = true;
 		}
 
-		fState = new PDEState(externalUris, true, true, subMon.split(15));
+		// don't replace the snapshot by the state of a cancelled target resolution
+		File snapshotLocation = fCancelled ? null : PDEStateSnapshot.getTargetSnapshotLocation();
+		fState = new PDEState(externalUris, true, true, snapshotLocation, subMon.split(15));
 		fExternalManager.setModels(fState.getTargetModels());
 		addToTable(entries, fExternalManager.getAllModels());
 
@@ -609,7 +756,11 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 
 		// Resolve the state for all external and workspace models
+		long startResolve = System.currentTimeMillis();
 		fState.resolveState(true);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("State resolved in " + (System.currentTimeMillis() - startResolve) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 		subMon.split(5);
 
 		fEntries = entries;
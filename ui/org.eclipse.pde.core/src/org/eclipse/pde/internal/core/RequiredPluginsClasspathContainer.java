@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,10 +17,12 @@ package org.eclipse.pde.internal.core;
 import static org.eclipse.pde.internal.core.DependencyManager.Options.INCLUDE_OPTIONAL_DEPENDENCIES;
 
 import java.io.File;
+import java.lang.ref.WeakReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +32,7 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -50,6 +53,7 @@ import org.eclipse.osgi.service.resolver.BundleSpecification;
 import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
+import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateHelper;
 import org.eclipse.pde.core.IClasspathContributor;
 import org.eclipse.pde.core.build.IBuild;
@@ -79,6 +83,24 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 			"junit-jupiter-api", // BSN of the bundle from Maven-Central
 			"org.junit.jupiter.api"); // BSN of the bundle from Eclipse-Orbit
 
+	/**
+	 * Packages visible to the bundles of one state, grouped by exporter and
+	 * computed for the given time stamp of the state
+	 */
+	private static record VisiblePackages(WeakReference<State> state, long stateTimeStamp,
+			Map<BundleDescription, Map<BundleDescription, List<Rule>>> packages) {
+
+		boolean isFor(State s) {
+			return state.get() == s && stateTimeStamp == s.getTimeStamp();
+		}
+	}
+
+	/**
+	 * Visible packages shared by all containers of one resolution of the
+	 * state, replaced as soon as a container of another resolution is computed
+	 */
+	private static VisiblePackages visiblePackages;
+
 	private final IPluginModelBase fModel;
 	private IBuild fBuild;
 
@@ -314,16 +336,56 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 	}
 
 	private Map<BundleDescription, List<Rule>> retrieveVisiblePackagesFromState(BundleDescription desc) {
-		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
-		StateHelper helper = BundleHelper.getPlatformAdmin().getStateHelper();
-		addVisiblePackagesFromState(helper, desc, visiblePackages);
-		if (desc.getHost() != null) {
-			addVisiblePackagesFromState(helper, (BundleDescription) desc.getHost().getSupplier(), visiblePackages);
+		Map<BundleDescription, List<Rule>> visiblePackages = getVisiblePackages(desc);
+		BundleDescription host = desc.getHost() != null ? (BundleDescription) desc.getHost().getSupplier() : null;
+		if (host == null) {
+			return visiblePackages;
+		}
+		// merge the packages visible to the host
+		Map<BundleDescription, List<Rule>> merged = new HashMap<>();
+		visiblePackages.forEach((exporter, rules) -> merged.put(exporter, new ArrayList<>(rules)));
+		getVisiblePackages(host).forEach((exporter, rules) -> {
+			List<Rule> list = merged.computeIfAbsent(exporter, e -> new ArrayList<>());
+			for (Rule rule : rules) {
+				if (!list.contains(rule)) {
+					list.add(rule);
+				}
+			}
+		});
+		return merged;
+	}
+
+	/**
+	 * Returns the packages visible to the given bundle grouped by exporter.
+	 * The result is shared by all containers computed until the state of the
+	 * bundle is modified again, e.g. by the next resolution.
+	 */
+	public static Map<BundleDescription, List<Rule>> getVisiblePackages(BundleDescription desc) {
+		State state = desc.getContainingState();
+		if (state == null) {
+			return computeVisiblePackages(desc);
 		}
-		return visiblePackages;
+		return getVisiblePackages(state).packages().computeIfAbsent(desc,
+				RequiredPluginsClasspathContainer::computeVisiblePackages);
+	}
+
+	private static synchronized VisiblePackages getVisiblePackages(State state) {
+		VisiblePackages cache = visiblePackages;
+		if (cache == null || !cache.isFor(state)) {
+			cache = new VisiblePackages(new WeakReference<>(state), state.getTimeStamp(), new ConcurrentHashMap<>());
+			visiblePackages = cache;
+		}
+		return cache;
+	}
+
+	private static Map<BundleDescription, List<Rule>> computeVisiblePackages(BundleDescription desc) {
+		Map<BundleDescription, List<Rule>> visiblePackages = new HashMap<>();
+		addVisiblePackagesFromState(BundleHelper.getPlatformAdmin().getStateHelper(), desc, visiblePackages);
+		visiblePackages.replaceAll((exporter, rules) -> List.copyOf(rules));
+		return Collections.unmodifiableMap(visiblePackages);
 	}
 
-	private void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
+	private static void addVisiblePackagesFromState(StateHelper helper, BundleDescription desc,
 			Map<BundleDescription, List<Rule>> visiblePackages) {
 		if (desc == null) {
 			return;
@@ -342,7 +404,7 @@ public class RequiredPluginsClasspathContainer extends PDEClasspathContainer imp
 		}
 	}
 
-	private Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
+	private static Rule getRule(StateHelper helper, BundleDescription desc, ExportPackageDescription export) {
 		boolean discouraged = helper.getAccessCode(desc, export) == StateHelper.ACCESS_DISCOURAGED;
 		String name = export.getName();
 		IPath path = name.equals(".") ? IPath.fromOSString("*") : IPath.fromOSString(name.replace('.', '/') + "/*"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023, 2024 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.pde.internal.core.bnd;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +65,8 @@ public class BndBuilder extends IncrementalProjectBuilder {
 		return true;
 	};
 
+	private static final ClasspathJarCache CLASSPATH_CACHE = new ClasspathJarCache();
+
 	private final Map<IProject, Job> buildJobMap = new ConcurrentHashMap<>();
 
 	public static final String BUILDER_ID = "org.eclipse.pde.BndBuilder";//$NON-NLS-1$
@@ -136,7 +139,19 @@ public class BndBuilder extends IncrementalProjectBuilder {
 			if (monitor.isCanceled()) {
 				return;
 			}
+			CLASSPATH_CACHE.beginBuild();
 			try (Project bnd = bndProject.get(); ProjectBuilder builder = new ProjectBuilder(bnd) {
+				@Override
+				public void addClasspath(File cp) throws IOException {
+					// reuse the jars opened by previous builds
+					Jar jar = CLASSPATH_CACHE.getJar(cp);
+					if (jar == null) {
+						super.addClasspath(cp);
+					} else {
+						addClasspath(jar);
+					}
+				}
+
 				@Override
 				public void addClasspath(aQute.bnd.osgi.Jar jar) {
 					try {
@@ -188,6 +203,8 @@ public class BndBuilder extends IncrementalProjectBuilder {
 						}
 					}
 				}
+			} finally {
+				CLASSPATH_CACHE.endBuild();
 			}
 			if (monitor.isCanceled()) {
 				return;
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.bnd;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import aQute.bnd.osgi.Jar;
+
+/**
+ * Keeps the classpath jars opened by the {@link BndBuilder} across builds, so
+ * that the entries of unchanged jars are not read again for every build. A
+ * jar is reused as long as its file has the same modification time and
+ * length.
+ * <p>
+ * Builders only get views of the cached jars, which they may close as usual.
+ * Jars that changed or were not used for a number of builds are closed once
+ * no build is running.
+ * </p>
+ */
+final class ClasspathJarCache {
+
+	/**
+	 * Number of builds after which an unused jar is closed
+	 */
+	private static final int MAX_IDLE_BUILDS = 32;
+
+	private static final class CachedJar {
+		private final Jar jar;
+		private final long lastModified;
+		private final long length;
+		private long lastUsed;
+
+		CachedJar(Jar jar, long lastModified, long length) {
+			this.jar = jar;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+	}
+
+	private final Map<File, CachedJar> jars = new HashMap<>();
+	private final List<Jar> stale = new ArrayList<>();
+	private long generation;
+	private int activeBuilds;
+
+	/**
+	 * Marks the start of a build, must be followed by a call to
+	 * {@link #endBuild()}.
+	 */
+	synchronized void beginBuild() {
+		generation++;
+		if (activeBuilds++ > 0) {
+			return;
+		}
+		for (Iterator<CachedJar> iterator = jars.values().iterator(); iterator.hasNext();) {
+			CachedJar cached = iterator.next();
+			if (generation - cached.lastUsed > MAX_IDLE_BUILDS) {
+				iterator.remove();
+				stale.add(cached.jar);
+			}
+		}
+		stale.forEach(Jar::close);
+		stale.clear();
+	}
+
+	synchronized void endBuild() {
+		activeBuilds--;
+	}
+
+	/**
+	 * Returns a view of the cached jar of the given classpath file, opening
+	 * the jar if it is not cached or changed since it was opened.
+	 *
+	 * @param file a classpath entry
+	 * @return a view of the jar or <code>null</code> if the file is not a jar
+	 *         file
+	 * @throws IOException if the jar can not be read
+	 */
+	synchronized Jar getJar(File file) throws IOException {
+		if (!file.isFile()) {
+			return null;
+		}
+		long lastModified = file.lastModified();
+		long length = file.length();
+		CachedJar cached = jars.get(file);
+		if (cached != null && (cached.lastModified != lastModified || cached.length != length)) {
+			// other builds may still read it
+			jars.remove(file);
+			stale.add(cached.jar);
+			cached = null;
+		}
+		if (cached == null) {
+			cached = new CachedJar(new Jar(file), lastModified, length);
+			jars.put(file, cached);
+		}
+		cached.lastUsed = generation;
+		Jar view = new Jar(cached.jar.getName());
+		view.addAll(cached.jar);
+		return view;
+	}
+}
@@ -6,6 +6,7 @@ public class Messages extends NLS {
 	private static final String BUNDLE_NAME = Messages.class.getPackageName() + ".messages"; //$NON-NLS-1$
 	public static String BndProjectManager_WorkspaceDescription;
 	public static String BndProjectManager_WorkspaceName;
+	public static String TargetRepository_computeContent;
 	static {
 		// initialize resource bundle
 		NLS.initializeMessages(BUNDLE_NAME, Messages.class);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2023 Christoph Läubrich and others.
+ *  Copyright (c) 2023, 2026 Christoph Läubrich and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -24,9 +24,11 @@ import java.nio.file.Path;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.HexFormat;
 import java.util.List;
@@ -42,6 +44,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginLibrary;
@@ -49,7 +53,14 @@ import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.ClasspathUtilCore;
 import org.eclipse.pde.internal.core.PDECore;
+import org.osgi.framework.Constants;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.ExecutionEnvironmentNamespace;
+import org.osgi.framework.namespace.HostNamespace;
+import org.osgi.framework.namespace.IdentityNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
 import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
 import org.osgi.resource.Requirement;
 import org.osgi.resource.Resource;
 import org.osgi.service.repository.ContentNamespace;
@@ -67,6 +78,8 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	private static final TargetRepository instance = new TargetRepository();
 	private static final Map<File, ContentCapabilityCache> contentCapabilityMap = new ConcurrentHashMap<>();
 
+	private volatile CapabilityIndex index;
+
 	private TargetRepository() {
 	}
 
@@ -170,11 +183,36 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 	}
 
 	public List<Capability> findProvider(Requirement requirement) {
-		String namespace = requirement.getNamespace();
-		return bundles(null).map(r -> new BundleDescriptionRepositoryResource(this, r))
-				.flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace))
-				.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
-				.collect(ResourceUtils.toCapabilities());
+		CapabilityIndex capabilityIndex = getCapabilityIndex();
+		if (capabilityIndex == null) {
+			return List.of();
+		}
+		return capabilityIndex.findProvider(requirement);
+	}
+
+	/**
+	 * Returns the capability index of the current target platform state,
+	 * building it if the state has changed since the index was built.
+	 *
+	 * @return the index or <code>null</code> if there is no state
+	 */
+	private CapabilityIndex getCapabilityIndex() {
+		Optional<State> state = getTargetPlatformState();
+		if (state.isEmpty()) {
+			return null;
+		}
+		CapabilityIndex capabilityIndex = index;
+		if (capabilityIndex == null || !capabilityIndex.isValid(state.get())) {
+			synchronized (this) {
+				capabilityIndex = index;
+				if (capabilityIndex == null || !capabilityIndex.isValid(state.get())) {
+					capabilityIndex = new CapabilityIndex(this, state.get());
+					index = capabilityIndex;
+					capabilityIndex.computeContentCapabilities();
+				}
+			}
+		}
+		return capabilityIndex;
 	}
 
 	/**
@@ -240,6 +278,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 		private final BundleDescription bundle;
 		private final Repository repository;
+		private List<Capability> bundleCapabilities;
 
 		public BundleDescriptionRepositoryResource(Repository repository, BundleDescription bundle) {
 			this.repository = repository;
@@ -262,7 +301,22 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 		}
 
 		private Stream<Capability> bundleRequirements(String namespace) {
-			return bundle.getCapabilities(namespace).stream().map(original -> new Capability() {
+			List<Capability> capabilities = getBundleCapabilities();
+			if (namespace == null) {
+				return capabilities.stream();
+			}
+			return capabilities.stream().filter(capability -> namespace.equals(capability.getNamespace()));
+		}
+
+		private synchronized List<Capability> getBundleCapabilities() {
+			if (bundleCapabilities == null) {
+				bundleCapabilities = bundle.getCapabilities(null).stream().map(this::wrap).toList();
+			}
+			return bundleCapabilities;
+		}
+
+		private Capability wrap(Capability original) {
+			return new Capability() {
 
 				@Override
 				public Resource getResource() {
@@ -288,7 +342,7 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 				public String toString() {
 					return original.toString();
 				}
-			});
+			};
 		}
 
 		@Override
@@ -340,6 +394,159 @@ public class TargetRepository extends BaseRepository implements RepositoryPlugin
 
 	}
 
+	/**
+	 * Index of the capabilities of all bundles of one target platform state by
+	 * namespace and by the value of the attribute that identifies a capability
+	 * in its namespace, e.g. the package name. The index is valid until the
+	 * state is modified.
+	 */
+	private static final class CapabilityIndex {
+
+		/**
+		 * The namespace of service capabilities
+		 */
+		private static final String SERVICE_NAMESPACE = "osgi.service"; //$NON-NLS-1$
+
+		/**
+		 * The attribute that requirements usually match by equality, per
+		 * namespace
+		 */
+		private static final Map<String, String> KEY_ATTRIBUTES = Map.of( //
+				PackageNamespace.PACKAGE_NAMESPACE, PackageNamespace.PACKAGE_NAMESPACE, //
+				BundleNamespace.BUNDLE_NAMESPACE, BundleNamespace.BUNDLE_NAMESPACE, //
+				HostNamespace.HOST_NAMESPACE, HostNamespace.HOST_NAMESPACE, //
+				IdentityNamespace.IDENTITY_NAMESPACE, IdentityNamespace.IDENTITY_NAMESPACE, //
+				ExecutionEnvironmentNamespace.EXECUTION_ENVIRONMENT_NAMESPACE,
+				ExecutionEnvironmentNamespace.EXECUTION_ENVIRONMENT_NAMESPACE, //
+				SERVICE_NAMESPACE, Constants.OBJECTCLASS);
+
+		private final State state;
+		private final long timeStamp;
+		private final List<BundleDescriptionRepositoryResource> resources;
+		private final Map<String, List<Capability>> byNamespace = new HashMap<>();
+		private final Map<String, Map<Object, List<Capability>>> byKey = new HashMap<>();
+
+		CapabilityIndex(Repository repository, State state) {
+			this.state = state;
+			this.timeStamp = state.getTimeStamp();
+			this.resources = Arrays.stream(state.getBundles())
+					.map(bundle -> new BundleDescriptionRepositoryResource(repository, bundle)).toList();
+			for (BundleDescriptionRepositoryResource resource : resources) {
+				resource.bundleRequirements(null).forEach(capability -> {
+					String namespace = capability.getNamespace();
+					byNamespace.computeIfAbsent(namespace, n -> new ArrayList<>()).add(capability);
+					String attribute = KEY_ATTRIBUTES.get(namespace);
+					if (attribute == null) {
+						return;
+					}
+					Map<Object, List<Capability>> keys = byKey.computeIfAbsent(namespace, n -> new HashMap<>());
+					Object value = capability.getAttributes().get(attribute);
+					if (value instanceof Collection<?> values) {
+						values.forEach(v -> keys.computeIfAbsent(String.valueOf(v), k -> new ArrayList<>())
+								.add(capability));
+					} else if (value != null) {
+						keys.computeIfAbsent(String.valueOf(value), k -> new ArrayList<>()).add(capability);
+					}
+				});
+			}
+		}
+
+		boolean isValid(State current) {
+			return state == current && timeStamp == current.getTimeStamp();
+		}
+
+		List<Capability> findProvider(Requirement requirement) {
+			String namespace = requirement.getNamespace();
+			Stream<Capability> candidates;
+			if (ContentNamespace.CONTENT_NAMESPACE.equals(namespace)) {
+				candidates = resources.stream().flatMap(resource -> ResourceUtils.capabilityStream(resource, namespace));
+			} else {
+				String attribute = KEY_ATTRIBUTES.get(namespace);
+				String value = attribute == null ? null
+						: getEqualityValue(requirement.getDirectives().get(Namespace.REQUIREMENT_FILTER_DIRECTIVE),
+								attribute);
+				if (value != null) {
+					candidates = byKey.getOrDefault(namespace, Map.of()).getOrDefault(value, List.of()).stream();
+				} else {
+					candidates = byNamespace.getOrDefault(namespace, List.of()).stream();
+				}
+			}
+			return candidates.filter(ResourceUtils.matcher(requirement, ResourceUtils::filterPredicate))
+					.collect(ResourceUtils.toCapabilities());
+		}
+
+		/**
+		 * Returns the value the given attribute must be equal to for the
+		 * given filter to match, if the filter is a simple equality or a
+		 * conjunction containing one. Filters using wildcards, escapes or
+		 * alternatives are not analyzed.
+		 *
+		 * @return the value or <code>null</code> if all capabilities of the
+		 *         namespace must be matched against the filter
+		 */
+		static String getEqualityValue(String filter, String attribute) {
+			if (filter == null || filter.indexOf('\\') >= 0) {
+				return null;
+			}
+			String trimmed = filter.strip();
+			if (!trimmed.startsWith("(&")) { //$NON-NLS-1$
+				return getEqualityValueOf(trimmed, attribute);
+			}
+			if (!trimmed.endsWith(")")) { //$NON-NLS-1$
+				return null;
+			}
+			// check the direct operands of the conjunction
+			int depth = 0;
+			int start = -1;
+			for (int i = 2; i < trimmed.length() - 1; i++) {
+				char c = trimmed.charAt(i);
+				if (c == '(') {
+					if (depth++ == 0) {
+						start = i;
+					}
+				} else if (c == ')' && --depth == 0) {
+					String value = getEqualityValueOf(trimmed.substring(start, i + 1), attribute);
+					if (value != null) {
+						return value;
+					}
+				}
+			}
+			return null;
+		}
+
+		private static String getEqualityValueOf(String operand, String attribute) {
+			String prefix = '(' + attribute + '=';
+			if (!operand.startsWith(prefix) || !operand.endsWith(")")) { //$NON-NLS-1$
+				return null;
+			}
+			String value = operand.substring(prefix.length(), operand.length() - 1);
+			if (value.isEmpty() || value.indexOf('*') >= 0 || value.indexOf('(') >= 0 || value.indexOf(')') >= 0) {
+				return null;
+			}
+			return value;
+		}
+
+		/**
+		 * Computes the content capabilities, i.e. the SHA-256 of all bundle
+		 * files, in the background so that the first match does not have to.
+		 */
+		void computeContentCapabilities() {
+			Job job = Job.create(Messages.TargetRepository_computeContent, monitor -> {
+				SubMonitor subMonitor = SubMonitor.convert(monitor, resources.size());
+				for (BundleDescriptionRepositoryResource resource : resources) {
+					if (subMonitor.isCanceled() || !isValid(state)) {
+						return;
+					}
+					resource.getCapabilities(ContentNamespace.CONTENT_NAMESPACE);
+					subMonitor.worked(1);
+				}
+			});
+			job.setSystem(true);
+			job.setPriority(Job.DECORATE);
+			job.schedule();
+		}
+	}
+
 	private static final class ContentCapabilityCache {
 
 		private final File file;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2020 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -110,5 +110,19 @@ public abstract class ErrorReporter {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the content without updating the markers of the file. The
+	 * problems found are applied to the file by calling
+	 * {@link IncrementalErrorReporter#applyMarkers()} on the returned
+	 * reporter, which must happen while holding the workspace rule.
+	 *
+	 * @param monitor progress monitor
+	 * @return the problems found in the content
+	 */
+	final IncrementalErrorReporter validateProblems(IProgressMonitor monitor) {
+		validate(monitor);
+		return fErrorReporter;
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 }
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.QualifiedName;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.builders.IncrementalErrorReporter.VirtualMarker;
+
+/**
+ * The problems found in the <code>extension</code> and
+ * <code>extension-point</code> elements of a plugin.xml or fragment.xml by the
+ * last validation of the file, keyed by a hash of the source of each element,
+ * and the results of the Java type lookups made for them. The problems are
+ * stored relative to their element, so that they can be reported again for an
+ * unchanged element that moved within the file.
+ * <p>
+ * A cache is kept as a session property of the validated file and is only
+ * valid for the environment it was computed in, i.e. the PDE state, the
+ * resolved classpath of the project and the plug-in of the file.
+ * </p>
+ */
+final class ExtensionValidationCache {
+
+	private static final QualifiedName PROPERTY = new QualifiedName(PDECore.PLUGIN_ID, "extensionValidation"); //$NON-NLS-1$
+
+	/**
+	 * A problem of an element
+	 *
+	 * @param attributes the attributes of the marker, without line number and
+	 *            location path
+	 * @param line the line of the marker relative to the line of the element
+	 * @param locationPath the location path of the marker relative to the one
+	 *            of the element, or <code>null</code> if the marker has none
+	 */
+	private record Problem(Map<String, Object> attributes, int line, String locationPath) {
+	}
+
+	private final String fEnvironment;
+	private final Map<String, List<Problem>> fElements = new HashMap<>();
+	private final Map<String, Boolean> fTypes = new HashMap<>();
+
+	ExtensionValidationCache(String environment) {
+		fEnvironment = environment;
+	}
+
+	/**
+	 * Returns the cache stored for the given file if it was computed for the
+	 * given environment.
+	 *
+	 * @param file the validated file
+	 * @param environment the current environment
+	 * @return the cache or <code>null</code>
+	 */
+	static ExtensionValidationCache get(IFile file, String environment) {
+		try {
+			if (file.getSessionProperty(PROPERTY) instanceof ExtensionValidationCache cache
+					&& cache.fEnvironment.equals(environment)) {
+				return cache;
+			}
+		} catch (CoreException e) {
+			// file is not accessible
+		}
+		return null;
+	}
+
+	/**
+	 * Stores this cache as the one of the given file, replacing the previous
+	 * one.
+	 *
+	 * @param file the validated file
+	 */
+	void store(IFile file) {
+		try {
+			file.setSessionProperty(PROPERTY, this);
+		} catch (CoreException e) {
+			// file is not accessible
+		}
+	}
+
+	/**
+	 * Computes the key of an element from its source and everything else its
+	 * problems depend on that is not part of the environment.
+	 *
+	 * @param content the content to hash
+	 * @return the key of the element
+	 */
+	static String computeKey(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * @param key the key of an element
+	 * @return whether problems are known for the element
+	 */
+	boolean contains(String key) {
+		return fElements.containsKey(key);
+	}
+
+	/**
+	 * Reports the problems of an unchanged element again and remembers them in
+	 * the given cache.
+	 *
+	 * @param key the key of the element
+	 * @param line the current line of the element
+	 * @param locationPath the current location path of the element
+	 * @param reporter the reporter of the validation
+	 * @param next the cache of the validation
+	 */
+	void reportProblems(String key, int line, String locationPath, XMLErrorReporter reporter,
+			ExtensionValidationCache next) {
+		List<Problem> problems = fElements.get(key);
+		for (Problem problem : problems) {
+			VirtualMarker marker = new VirtualMarker();
+			problem.attributes().forEach(marker::setAttribute);
+			marker.setAttribute(IMarker.LINE_NUMBER, line + problem.line());
+			if (problem.locationPath() != null) {
+				marker.setAttribute(PDEMarkerFactory.MPK_LOCATION_PATH, locationPath + problem.locationPath());
+			}
+			reporter.addMarker(marker);
+		}
+		next.fElements.put(key, problems);
+	}
+
+	/**
+	 * Remembers the problems found for an element.
+	 *
+	 * @param key the key of the element
+	 * @param line the line of the element
+	 * @param locationPath the location path of the element
+	 * @param markers the markers reported for the element
+	 */
+	void putProblems(String key, int line, String locationPath, List<VirtualMarker> markers) {
+		List<Problem> problems = new ArrayList<>(markers.size());
+		for (VirtualMarker marker : markers) {
+			Map<String, Object> attributes = new HashMap<>(marker.getAttributes());
+			Object markerLine = attributes.remove(IMarker.LINE_NUMBER);
+			Object markerPath = attributes.remove(PDEMarkerFactory.MPK_LOCATION_PATH);
+			String relativePath = null;
+			if (markerPath instanceof String path) {
+				if (!path.startsWith(locationPath)) {
+					// not located within the element, can not be relocated
+					return;
+				}
+				relativePath = path.substring(locationPath.length());
+			}
+			int relativeLine = markerLine instanceof Integer value ? value.intValue() - line : 0;
+			problems.add(new Problem(attributes, relativeLine, relativePath));
+		}
+		fElements.put(key, problems);
+	}
+
+	/**
+	 * Copies the results of the Java type lookups of the given cache.
+	 *
+	 * @param previous the cache of the previous validation
+	 */
+	void putTypes(ExtensionValidationCache previous) {
+		fTypes.putAll(previous.fTypes);
+	}
+
+	/**
+	 * @param key the key of the lookup
+	 * @return the result of the lookup or <code>null</code> if it was not made
+	 */
+	Boolean getType(String key) {
+		return fTypes.get(key);
+	}
+
+	void putType(String key, boolean result) {
+		fTypes.put(key, Boolean.valueOf(result));
+	}
+}
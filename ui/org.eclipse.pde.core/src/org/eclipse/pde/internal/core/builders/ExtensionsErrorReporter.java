@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,8 +28,10 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.build.IBuild;
@@ -49,16 +51,14 @@ import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
-import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
-import org.eclipse.pde.internal.core.ischema.ISchemaObject;
-import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
 import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
 import org.eclipse.pde.internal.core.ischema.ISchemaRootElement;
 import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
-import org.eclipse.pde.internal.core.ischema.ISchemaType;
 import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.ElementInfo;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.core.util.IdUtil;
@@ -79,8 +79,37 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	private final IPluginModelBase fModel;
 	private IBuild fBuildModel;
 
+	/**
+	 * Whether the problems of unchanged extensions and extension points may be
+	 * taken from the previous validation of the file
+	 */
+	private final boolean fIncremental;
+
+	/**
+	 * Problems and type lookups of this validation, stored for the next one
+	 */
+	private ExtensionValidationCache fCache = new ExtensionValidationCache(""); //$NON-NLS-1$
+
+	/**
+	 * Whether the problems of the element being validated only depend on its
+	 * source and the validation environment
+	 */
+	private boolean fCacheable;
+
 	public ExtensionsErrorReporter(IFile file) {
+		this(file, false);
+	}
+
+	/**
+	 * @param file the plugin.xml or fragment.xml to validate
+	 * @param incremental whether only the changed extensions and extension
+	 *            points need to be validated, because neither the manifest,
+	 *            its localization nor the structure of the project changed
+	 *            since the last validation
+	 */
+	ExtensionsErrorReporter(IFile file, boolean incremental) {
 		super(file);
+		fIncremental = incremental;
 		fModel = PluginRegistry.findModel(file.getProject());
 		try {
 			if (fModel != null && fModel.getUnderlyingResource() != null) {
@@ -112,6 +141,20 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				}
 			}
 
+			// problems of a file with syntax errors are not cached
+			String environment = getMarkerCount() == 0 ? getValidationEnvironment() : null;
+			ExtensionValidationCache previous = null;
+			if (environment != null) {
+				fCache = new ExtensionValidationCache(environment);
+				if (fIncremental) {
+					previous = ExtensionValidationCache.get(fFile, environment);
+					if (previous != null) {
+						fCache.putTypes(previous);
+					}
+				}
+			}
+
+			int reused = 0;
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
 				if (monitor.isCanceled()) {
@@ -120,11 +163,11 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				Element child = (Element) children.item(i);
 				String name = child.getNodeName();
 				switch (name) {
-					case "extension": //$NON-NLS-1$
-					validateExtension(child);
-					break;
+				case "extension": //$NON-NLS-1$
 				case "extension-point": //$NON-NLS-1$
-					validateExtensionPoint(child);
+					if (validateCached(child, environment != null, previous)) {
+						reused++;
+					}
 					break;
 				default:
 					if (!name.equals("runtime") && !name.equals("requires")) { //$NON-NLS-1$ //$NON-NLS-2$
@@ -142,6 +185,14 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				}
 			}
 
+			if (environment != null && !monitor.isCanceled()) {
+				fCache.store(fFile);
+			}
+			if (PDECore.DEBUG_VALIDATION && previous != null) {
+				System.out.println("Reused problems of " + reused + " of " + children.getLength() + " elements of " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ fFile.getFullPath());
+			}
+
 			if (fModel != null) {
 			IExtensions extensions = fModel.getExtensions();
 			if (extensions != null && extensions.getExtensions().length == 0 && extensions.getExtensionPoints().length == 0) {
@@ -151,6 +202,92 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
+	/**
+	 * Validates an extension or extension point, or reports the problems found
+	 * by the previous validation again if neither its source nor its schema
+	 * changed since.
+	 *
+	 * @param element the extension or extension point
+	 * @param cacheable whether the problems of the element may be cached
+	 * @param previous the cache of the previous validation or
+	 *            <code>null</code>
+	 * @return whether the problems of the previous validation were reused
+	 */
+	private boolean validateCached(Element element, boolean cacheable, ExtensionValidationCache previous) {
+		boolean isExtension = "extension".equals(element.getNodeName()); //$NON-NLS-1$
+		String key = cacheable ? getCacheKey(element, isExtension) : null;
+		if (key == null) {
+			if (isExtension) {
+				validateExtension(element);
+			} else {
+				validateExtensionPoint(element);
+			}
+			return false;
+		}
+		int line = getLine(element);
+		String locationPath = getLocationPath(element);
+		if (previous != null && previous.contains(key)) {
+			previous.reportProblems(key, line, locationPath, this, fCache);
+			return true;
+		}
+		int first = getMarkerCount();
+		fCacheable = true;
+		if (isExtension) {
+			validateExtension(element);
+		} else {
+			validateExtensionPoint(element);
+		}
+		if (fCacheable) {
+			fCache.putProblems(key, line, locationPath, getMarkers(first));
+		}
+		return false;
+	}
+
+	private String getCacheKey(Element element, boolean isExtension) {
+		String source = getSource(element);
+		if (source == null) {
+			return null;
+		}
+		StringBuilder content = new StringBuilder(source);
+		if (isExtension) {
+			// the problems depend on the schema the extension is validated with
+			String pointID = element.getAttribute("point"); //$NON-NLS-1$
+			content.append('\n').append(pointID);
+			if (PDECore.getDefault().getExtensionsRegistry().hasExtensionPoint(pointID)) {
+				CompiledSchema schema = PDECore.getDefault().getSchemaRegistry().getCompiledSchema(pointID);
+				content.append(':').append(schema != null ? System.identityHashCode(schema) : 0);
+			}
+		}
+		return ExtensionValidationCache.computeKey(content.toString());
+	}
+
+	/**
+	 * Returns the environment the problems of the extensions are valid for, or
+	 * <code>null</code> if it can not be determined. Types that are added to or
+	 * removed from other projects without changing the resolved classpath of
+	 * this project are only noticed in the next full validation.
+	 */
+	private String getValidationEnvironment() {
+		StringBuilder environment = new StringBuilder();
+		environment.append(PDECore.getDefault().getModelManager().getState().getState().getTimeStamp()).append('\n');
+		environment.append(getSchemaVersion()).append('\n');
+		if (fModel != null && fModel.getPluginBase() != null) {
+			environment.append(fModel.getPluginBase().getId());
+		}
+		environment.append('\n');
+		IJavaProject javaProject = JavaCore.create(fProject);
+		if (javaProject.isOpen()) {
+			try {
+				for (IClasspathEntry entry : javaProject.getResolvedClasspath(true)) {
+					environment.append(entry.getEntryKind()).append(entry.getPath()).append('\n');
+				}
+			} catch (JavaModelException e) {
+				return null;
+			}
+		}
+		return ExtensionValidationCache.computeKey(environment.toString());
+	}
+
 	protected void validateExtension(Element element) {
 		if (!assertAttributeDefined(element, "point", CompilerFlags.ERROR)) { //$NON-NLS-1$
 			return;
@@ -164,7 +301,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			SchemaRegistry reg = PDECore.getDefault().getSchemaRegistry();
-			ISchema schema = reg.getSchema(pointID);
+			CompiledSchema schema = reg.getCompiledSchema(pointID);
 			if (schema != null) {
 				validateElement(element, schema, true);
 			}
@@ -187,9 +324,20 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		addMarkerAttribute(marker, PDEMarkerFactory.compilerKey,  CompilerFlags.P_UNKNOWN_ELEMENT);
 	}
 
+	/**
+	 * Validates the element against a schema that is compiled first. Prefer
+	 * {@link #validateElement(Element, CompiledSchema, boolean)} with a schema
+	 * from {@link SchemaRegistry#getCompiledSchema(String)}, which is compiled
+	 * once.
+	 */
 	protected void validateElement(Element element, ISchema schema, boolean isTopLevel) {
+		validateElement(element, CompiledSchema.compile(schema), isTopLevel);
+	}
+
+	protected void validateElement(Element element, CompiledSchema schema, boolean isTopLevel) {
 		String elementName = element.getNodeName();
-		ISchemaElement schemaElement = schema.findElement(elementName);
+		ElementInfo elementInfo = schema.findElement(elementName);
+		ISchemaElement schemaElement = elementInfo != null ? elementInfo.getElement() : null;
 
 		// Validate element occurrence violations
 		if ((schemaElement != null) && (schemaElement.getType() instanceof ISchemaComplexType)) {
@@ -197,7 +345,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			validateMinElementMult(element, schemaElement);
 		}
 
-		ISchemaElement parentSchema = null;
+		ElementInfo parentSchema = null;
 		if (!"extension".equals(elementName)) { //$NON-NLS-1$
 			Node parent = element.getParentNode();
 			parentSchema = schema.findElement(parent.getNodeName());
@@ -216,9 +364,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		if (parentSchema != null) {
 			int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ELEMENT);
 			if (severity != CompilerFlags.IGNORE) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(parentSchema.getType(), allowedElements);
-				if (!allowedElements.contains(elementName)) {
+				if (!parentSchema.getAllowedChildren().contains(elementName)) {
 					reportIllegalElement(element, severity);
 					return;
 				}
@@ -235,8 +381,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 			}
 		} else {
 			if (schemaElement != null) {
-				validateRequiredExtensionAttributes(element, schemaElement);
-				validateExistingExtensionAttributes(element, element.getAttributes(), schemaElement);
+				validateRequiredExtensionAttributes(element, elementInfo);
+				validateExistingExtensionAttributes(element, element.getAttributes(), elementInfo);
 				validateInternalExtensionAttribute(element, schemaElement);
 				if (schemaElement.isDeprecated()) {
 					if (schemaElement instanceof ISchemaRootElement) {
@@ -249,7 +395,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					validateTranslatableElementContent(element);
 				}
 				// Bug 213457 - look up elements based on the schema in which the parent is found
-				schema = schemaElement.getSchema();
+				schema = elementInfo.getOwner();
 			}
 			NodeList children = element.getChildNodes();
 			for (int i = 0; i < children.getLength(); i++) {
@@ -309,70 +455,35 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		}
 	}
 
-	private void computeAllowedElements(ISchemaType type, HashSet<String> elementSet) {
-		if (type instanceof ISchemaComplexType complexType) {
-			ISchemaCompositor compositor = complexType.getCompositor();
-			if (compositor != null) {
-				computeAllowedElements(compositor, elementSet);
-			}
-
-			ISchemaAttribute[] attrs = complexType.getAttributes();
-			for (ISchemaAttribute attr : attrs) {
-				if (attr.getKind() == IMetaAttribute.JAVA) {
-					elementSet.add(attr.getName());
-				}
-			}
-		}
-	}
-
-	private void computeAllowedElements(ISchemaCompositor compositor, HashSet<String> elementSet) {
-		ISchemaObject[] children = compositor.getChildren();
-		for (ISchemaObject child : children) {
-			if (child instanceof ISchemaObjectReference ref) {
-				ISchemaElement refElement = (ISchemaElement) ref.getReferencedObject();
-				if (refElement != null) {
-					elementSet.add(refElement.getName());
-				}
-			} else if (child instanceof ISchemaCompositor) {
-				computeAllowedElements((ISchemaCompositor) child, elementSet);
-			}
-		}
-	}
-
-	private void validateRequiredExtensionAttributes(Element element, ISchemaElement schemaElement) {
+	private void validateRequiredExtensionAttributes(Element element, ElementInfo elementInfo) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_NO_REQUIRED_ATT);
 		if (severity == CompilerFlags.IGNORE) {
 			return;
 		}
 
-		ISchemaAttribute[] attInfos = schemaElement.getAttributes();
-		for (ISchemaAttribute attInfo : attInfos) {
-			if (attInfo.getUse() == ISchemaAttribute.REQUIRED) {
-				boolean found = element.getAttributeNode(attInfo.getName()) != null;
-				if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
-					NodeList children = element.getChildNodes();
-					for (int j = 0; j < children.getLength(); j++) {
-						if (attInfo.getName().equals(children.item(j).getNodeName())) {
-							found = true;
-							break;
-						}
+		for (ISchemaAttribute attInfo : elementInfo.getRequiredAttributes()) {
+			boolean found = element.getAttributeNode(attInfo.getName()) != null;
+			if (!found && attInfo.getKind() == IMetaAttribute.JAVA) {
+				NodeList children = element.getChildNodes();
+				for (int j = 0; j < children.getLength(); j++) {
+					if (attInfo.getName().equals(children.item(j).getNodeName())) {
+						found = true;
+						break;
 					}
 				}
-				if (!found) {
-					reportMissingRequiredAttribute(element, attInfo.getName(), severity);
-				}
+			}
+			if (!found) {
+				reportMissingRequiredAttribute(element, attInfo.getName(), severity);
 			}
 		}
 	}
 
-	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ISchemaElement schemaElement) {
+	private void validateExistingExtensionAttributes(Element element, NamedNodeMap attrs, ElementInfo elementInfo) {
 		for (int i = 0; i < attrs.getLength(); i++) {
 			Attr attr = (Attr) attrs.item(i);
-			ISchemaAttribute attInfo = schemaElement.getAttribute(attr.getName());
+			ISchemaAttribute attInfo = elementInfo.getAttribute(attr.getName());
 			if (attInfo == null) {
-				HashSet<String> allowedElements = new HashSet<>();
-				computeAllowedElements(schemaElement.getType(), allowedElements);
-				if (allowedElements.contains(attr.getName())) {
+				if (elementInfo.getAllowedChildren().contains(attr.getName())) {
 					validateJavaAttribute(element, attr);
 				} else {
 					int flag = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_ATTRIBUTE);
@@ -381,12 +492,12 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 					}
 				}
 			} else {
-				validateExtensionAttribute(element, attr, attInfo);
+				validateExtensionAttribute(element, attr, attInfo, elementInfo);
 			}
 		}
 	}
 
-	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo) {
+	private void validateExtensionAttribute(Element element, Attr attr, ISchemaAttribute attInfo, ElementInfo elementInfo) {
 		ISchemaSimpleType type = attInfo.getType();
 
 		int kind = attInfo.getKind();
@@ -397,9 +508,9 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		} else if (kind == IMetaAttribute.IDENTIFIER) {
 			validateIdentifierAttribute(element, attr, attInfo);
 		} else if (kind == IMetaAttribute.STRING) {
-			ISchemaRestriction restriction = type.getRestriction();
-			if (restriction != null) {
-				validateRestrictionAttribute(element, attr, restriction);
+			// only rejected values go through the enumeration of the restriction
+			if (!elementInfo.isAllowedValue(attr.getName(), attr.getValue())) {
+				validateRestrictionAttribute(element, attr, type.getRestriction());
 			}
 		} else if (type.getName().equals("boolean")) { //$NON-NLS-1$
 			validateBoolean(element, attr);
@@ -456,6 +567,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		Attr attr = element.getAttributeNode(IPluginExtensionPoint.P_SCHEMA);
 		// Only validate the attribute if it was defined
 		if (attr != null) {
+			// the schema may be added or removed without touching this file
+			fCacheable = false;
 			String schemaValue = attr.getValue();
 			IResource res = getFile().getProject().findMember(schemaValue);
 			String errorMessage = null;
@@ -519,7 +632,12 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 
 	protected void validateResourceAttribute(Element element, Attr attr) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_RESOURCE);
-		if (severity != CompilerFlags.IGNORE && !resourceExists(attr.getValue())) {
+		if (severity == CompilerFlags.IGNORE) {
+			return;
+		}
+		// the resource may be added or removed without touching this file
+		fCacheable = false;
+		if (!resourceExists(attr.getValue())) {
 			VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_resource, (new String[] {attr.getValue(), attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.CAT_OTHER);
 			addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_RESOURCE);
 		}
@@ -613,7 +731,7 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 		boolean onClasspath = true;
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_CLASS);
 		if (severity != CompilerFlags.IGNORE && javaProject.isOpen()) {
-			onClasspath = PDEJavaHelper.isOnClasspath(value, javaProject);
+			onClasspath = isOnClasspath(value, javaProject);
 			if (!onClasspath) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_class, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.P_UNKNOWN_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_FATAL);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_UNKNOWN_CLASS);
@@ -630,13 +748,32 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 				return;
 			}
 			// only check if we're discouraged if there is something on the classpath
-			if (onClasspath && PDEJavaHelper.isDiscouraged(value, javaProject, desc)) {
+			if (onClasspath && isDiscouraged(value, javaProject, desc)) {
 				VirtualMarker marker = report(NLS.bind(PDECoreMessages.Builders_Manifest_discouragedClass, (new String[] {value, attr.getName()})), getLine(element, attr.getName()), severity, PDEMarkerFactory.M_DISCOURAGED_CLASS, element, attr.getName() + F_ATT_VALUE_PREFIX + attr.getValue(), PDEMarkerFactory.CAT_OTHER);
 				addMarkerAttribute(marker, PDEMarkerFactory.compilerKey, CompilerFlags.P_DISCOURAGED_CLASS);
 			}
 		}
 	}
 
+	private boolean isOnClasspath(String className, IJavaProject javaProject) {
+		Boolean result = fCache.getType(className);
+		if (result == null) {
+			result = Boolean.valueOf(PDEJavaHelper.isOnClasspath(className, javaProject));
+			fCache.putType(className, result.booleanValue());
+		}
+		return result.booleanValue();
+	}
+
+	private boolean isDiscouraged(String className, IJavaProject javaProject, BundleDescription desc) {
+		String key = F_ATT_VALUE_PREFIX + className;
+		Boolean result = fCache.getType(key);
+		if (result == null) {
+			result = Boolean.valueOf(PDEJavaHelper.isDiscouraged(className, javaProject, desc));
+			fCache.putType(key, result.booleanValue());
+		}
+		return result.booleanValue();
+	}
+
 	protected void validateRestrictionAttribute(Element element, Attr attr, ISchemaRestriction restriction) {
 		Object[] children = restriction.getChildren();
 		String value = attr.getValue();
@@ -653,6 +790,8 @@ public class ExtensionsErrorReporter extends ManifestErrorReporter {
 	private void validateIdentifierAttribute(Element element, Attr attr, ISchemaAttribute attInfo) {
 		int severity = CompilerFlags.getFlag(fProject, CompilerFlags.P_UNKNOWN_IDENTIFIER);
 		if (severity != CompilerFlags.IGNORE) {
+			// the identifiers may be declared by any other extension
+			fCacheable = false;
 			String value = attr.getValue();
 			String basedOn = attInfo.getBasedOn();
 			// only validate if we have a valid value and basedOn value
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Julian Honnen
+ *  Copyright (c) 2018, 2026 Julian Honnen and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,9 @@
 package org.eclipse.pde.internal.core.builders;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IMarker;
@@ -28,7 +28,7 @@ public class IncrementalErrorReporter {
 
 	private final IResource fResource;
 	private final String fMarkerID;
-	private final Collection<VirtualMarker> fReportedMarkers = new ArrayList<>();
+	private final List<VirtualMarker> fReportedMarkers = new ArrayList<>();
 	private int fErrorCount;
 
 	public IncrementalErrorReporter(IResource file) {
@@ -62,6 +62,32 @@ public class IncrementalErrorReporter {
 		return marker;
 	}
 
+	/**
+	 * Reports a marker again that was created by an earlier validation of the
+	 * resource.
+	 *
+	 * @param marker the marker
+	 */
+	void addMarker(VirtualMarker marker) {
+		if (Integer.valueOf(IMarker.SEVERITY_ERROR).equals(marker.getAttributes().get(IMarker.SEVERITY))) {
+			fErrorCount++;
+		}
+		fReportedMarkers.add(marker);
+	}
+
+	int getMarkerCount() {
+		return fReportedMarkers.size();
+	}
+
+	/**
+	 * @param fromIndex index of the first marker to return
+	 * @return the markers reported since the given number of markers was
+	 *         reported
+	 */
+	List<VirtualMarker> getMarkers(int fromIndex) {
+		return new ArrayList<>(fReportedMarkers.subList(fromIndex, fReportedMarkers.size()));
+	}
+
 	public void applyMarkers() {
 		IMarker[] existingMarkers;
 		try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,10 @@ package org.eclipse.pde.internal.core.builders;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.core.resources.IFile;
@@ -51,6 +53,16 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 	private static final int EXTENSIONS = 0x2;
 	private static final int BUILD = 0x4;
 	private static final int STRUCTURE = 0x8;
+	/**
+	 * Only the extensions changed, the problems of the unchanged extensions
+	 * can be reused
+	 */
+	private static final int INCREMENTAL_EXTENSIONS = 0x10;
+	/**
+	 * Validation of all files of a project, as computed ahead of the build by
+	 * {@link ManifestValidationSnapshot}
+	 */
+	static final int CONTENT = MANIFEST | EXTENSIONS | BUILD;
 	static final IPath SETTINGS_PATH = IPath.fromOSString(".settings"); //$NON-NLS-1$
 
 	private static IProject[] EMPTY_LIST = new IProject[0];
@@ -242,6 +254,9 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 				}
 			}
 		}
+		if ((type & (MANIFEST | EXTENSIONS | STRUCTURE)) == EXTENSIONS) {
+			type |= INCREMENTAL_EXTENSIONS;
+		}
 		return type;
 	}
 
@@ -257,25 +272,56 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 			validateProjectStructure(type, subMonitor.split(1));
 		}
 
+		IProject project = getProject();
+		List<IncrementalErrorReporter> problems = null;
+		if ((type & CONTENT) == CONTENT && ManifestValidationSnapshot.isEnabled()) {
+			problems = ManifestValidationSnapshot.getProblems(project, subMonitor);
+		}
+		if (problems == null) {
+			problems = validateContent(project, type, subMonitor.split(getWorkAmount(type) - 1));
+		}
+		if (!problems.isEmpty()) {
+			subMonitor.subTask(PDECoreMessages.Builders_updating);
+			for (IncrementalErrorReporter reporter : problems) {
+				reporter.applyMarkers();
+			}
+		}
+	}
+
+	/**
+	 * Validates the manifest, extensions and build.properties files of the
+	 * given project as requested by the given type without updating any
+	 * markers. Only reads the workspace, the PDE state and the schema
+	 * registry, so it may be called concurrently for several projects.
+	 *
+	 * @param project the project to validate
+	 * @param type the files to validate
+	 * @param monitor progress monitor
+	 * @return the problems found in the validated files
+	 */
+	static List<IncrementalErrorReporter> validateContent(IProject project, int type, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 2);
+		List<IncrementalErrorReporter> problems = new ArrayList<>(3);
 		if ((type & (MANIFEST | EXTENSIONS)) != 0) {
-			IProject project = getProject();
 			IFile file = PDEProject.getPluginXml(project);
 			if (!file.exists()) {
 				file = PDEProject.getFragmentXml(project);
 			}
 
 			if (file.exists()) {
-				validateFiles(file, type, monitor);
+				validateFiles(project, file, type, subMonitor.split(1), problems);
 			} else if ((type & MANIFEST) != 0) {
 				IFile manifestFile = PDEProject.getManifest(project);
 				if (manifestFile.exists()) {
-					validateManifestFile(manifestFile, subMonitor.split(1));
+					validateManifestFile(manifestFile, subMonitor.split(1), problems);
 				}
 			}
 		}
+		subMonitor.setWorkRemaining(1);
 		if ((type & BUILD) != 0) {
-			validateBuildProperties(subMonitor.split(1));
+			validateBuildProperties(project, subMonitor.split(1), problems);
 		}
+		return problems;
 	}
 
 	private int getWorkAmount(int type) {
@@ -307,7 +353,7 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		validateManifestCasing(project);
 	}
 
-	private void validateManifestFile(IFile file, IProgressMonitor monitor) {
+	private static void validateManifestFile(IFile file, IProgressMonitor monitor, List<IncrementalErrorReporter> problems) {
 		if (monitor.isCanceled()) {
 			return;
 		}
@@ -315,57 +361,53 @@ public class ManifestConsistencyChecker extends IncrementalProjectBuilder {
 		monitor.subTask(message);
 
 		BundleErrorReporter reporter = new BundleErrorReporter(file);
-		reporter.validateContent(monitor);
-		monitor.subTask(PDECoreMessages.Builders_updating);
+		problems.add(reporter.validateProblems(monitor));
 		monitor.done();
 	}
 
-	private void validateFiles(IFile file, int type, IProgressMonitor monitor) {
+	private static void validateFiles(IProject project, IFile file, int type, IProgressMonitor monitor, List<IncrementalErrorReporter> problems) {
 		if (monitor.isCanceled()) {
 			return;
 		}
 		String message = NLS.bind(PDECoreMessages.Builders_verifying, file.getFullPath().toString());
 		monitor.subTask(message);
 
-		IFile bundleManifest = PDEProject.getManifest(getProject());
+		IFile bundleManifest = PDEProject.getManifest(project);
 		XMLErrorReporter reporter = null;
 		BundleErrorReporter bundleReporter = null;
 		if (bundleManifest.exists()) {
 			if ((type & EXTENSIONS) != 0) {
-				reporter = new ExtensionsErrorReporter(file);
+				reporter = new ExtensionsErrorReporter(file, (type & INCREMENTAL_EXTENSIONS) != 0);
 			}
 			if ((type & MANIFEST) != 0) {
 				bundleReporter = new BundleErrorReporter(bundleManifest);
 			}
 		} else if ((type & MANIFEST) != 0 || (type & EXTENSIONS) != 0) {
-			if (file.equals(PDEProject.getPluginXml(getProject()))) {
+			if (file.equals(PDEProject.getPluginXml(project))) {
 				reporter = new PluginErrorReporter(file);
-			} else if (file.equals(PDEProject.getFragmentXml(getProject()))) {
+			} else if (file.equals(PDEProject.getFragmentXml(project))) {
 				reporter = new FragmentErrorReporter(file);
 			}
 		}
 		if (reporter != null) {
 			DefaultSAXParser.parse(file, reporter);
-			reporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			problems.add(reporter.validateProblems(monitor));
 		}
 		if (bundleReporter != null) {
-			bundleReporter.validateContent(monitor);
-			monitor.subTask(PDECoreMessages.Builders_updating);
+			problems.add(bundleReporter.validateProblems(monitor));
 		}
 		monitor.done();
 	}
 
-	private void validateBuildProperties(IProgressMonitor monitor) {
+	private static void validateBuildProperties(IProject project, IProgressMonitor monitor, List<IncrementalErrorReporter> problems) {
 		if (monitor.isCanceled()) {
 			return;
 		}
-		IProject project = getProject();
 		IFile file = PDEProject.getBuildProperties(project);
 		if (file.exists()) {
 			monitor.subTask(PDECoreMessages.ManifestConsistencyChecker_buildPropertiesSubtask);
 			BuildErrorReporter ber = new BuildErrorReporter(file);
-			ber.validateContent(monitor);
+			problems.add(ber.validateProblems(monitor));
 		}
 	}
 
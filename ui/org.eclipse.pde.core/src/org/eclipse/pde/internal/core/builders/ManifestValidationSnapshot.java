@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ProjectScope;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.WorkspaceModelManager;
+import org.eclipse.pde.internal.core.natures.BaseProject;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.osgi.service.prefs.BackingStoreException;
+
+/**
+ * Validates the manifest, extensions and build.properties files of all plug-in
+ * projects of the workspace concurrently, ahead of their
+ * {@link ManifestConsistencyChecker}. A snapshot is taken when the first
+ * project of a build needs to validate all of its files, e.g. in a clean build
+ * or after the target platform changed. The checkers of the projects built
+ * after it then only apply the problems computed for them as markers, which is
+ * the only step that needs the workspace rule. The snapshot is dropped at the
+ * end of the build, together with the problems that were not used.
+ * <p>
+ * The problems of a project are only used if neither the validated files, the
+ * Java source files of the project and the projects it requires, the PDE
+ * compiler preferences nor the PDE state changed since they were computed.
+ * Otherwise the project is validated again by its checker as usual.
+ * </p>
+ * <p>
+ * Disabled by default, enable with <code>-Dpde.parallelValidation=true</code>.
+ * </p>
+ */
+final class ManifestValidationSnapshot implements IResourceChangeListener {
+
+	/**
+	 * System property to enable the concurrent validation of plug-in projects
+	 */
+	private static final String ENABLE_PROPERTY = "pde.parallelValidation"; //$NON-NLS-1$
+
+	private static ManifestValidationSnapshot fCurrent;
+
+	/**
+	 * Problems found in the files of a project
+	 *
+	 * @param stamps modification stamps of the files of the project and of
+	 *            the Java source files it depends on when they were validated
+	 * @param preferences the PDE compiler preferences of the project when it
+	 *            was validated
+	 * @param stateTimeStamp timestamp of the PDE state the files were
+	 *            validated against
+	 * @param problems the problems found
+	 */
+	private record Validation(long[] stamps, Map<String, String> preferences, long stateTimeStamp,
+			List<IncrementalErrorReporter> problems) {
+	}
+
+	private final Map<IProject, Future<Validation>> fValidations;
+
+	private ManifestValidationSnapshot(Map<IProject, Future<Validation>> validations) {
+		fValidations = validations;
+	}
+
+	static boolean isEnabled() {
+		return Boolean.getBoolean(ENABLE_PROPERTY);
+	}
+
+	/**
+	 * Returns the problems of all files of the given project. Takes a snapshot
+	 * of the given project and all plug-in projects built after it if there
+	 * is none for the current build yet. Each project's problems are returned
+	 * at most once.
+	 *
+	 * @param project the project being built
+	 * @param monitor progress monitor to check for cancellation
+	 * @return the problems of the project or <code>null</code> if they must be
+	 *         computed by the caller
+	 */
+	static List<IncrementalErrorReporter> getProblems(IProject project, IProgressMonitor monitor) {
+		Future<Validation> future;
+		synchronized (ManifestValidationSnapshot.class) {
+			if (fCurrent == null) {
+				fCurrent = create(project);
+				ResourcesPlugin.getWorkspace().addResourceChangeListener(fCurrent, IResourceChangeEvent.POST_BUILD);
+			}
+			future = fCurrent.fValidations.remove(project);
+		}
+		if (future == null) {
+			// not part of the snapshot or already built once in this build
+			return null;
+		}
+		Validation validation;
+		try {
+			while (true) {
+				try {
+					validation = future.get(100, TimeUnit.MILLISECONDS);
+					break;
+				} catch (TimeoutException e) {
+					if (monitor.isCanceled()) {
+						future.cancel(false);
+						return null;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException | CancellationException e) {
+			// validate again in the builder, which reports the failure
+			return null;
+		}
+		if (validation.stateTimeStamp() != getStateTimeStamp()
+				|| !Arrays.equals(validation.stamps(), getStamps(project))
+				|| !validation.preferences().equals(getPreferences(project))) {
+			if (PDECore.DEBUG_VALIDATION) {
+				System.out.println("Project [" + project.getName() + "] changed since validated concurrently"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			return null;
+		}
+		return validation.problems();
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		synchronized (ManifestValidationSnapshot.class) {
+			if (fCurrent == this) {
+				fCurrent = null;
+			}
+		}
+		if (PDECore.DEBUG_VALIDATION && !fValidations.isEmpty()) {
+			System.out.println("Dropping " + fValidations.size() + " unused concurrent validations"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		for (Future<Validation> future : fValidations.values()) {
+			future.cancel(false);
+		}
+		fValidations.clear();
+	}
+
+	private static ManifestValidationSnapshot create(IProject first) {
+		Map<IProject, Future<Validation>> validations = new ConcurrentHashMap<>();
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread = new Thread(runnable, "PDE Manifest Validation " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			validations.put(first, executor.submit(() -> validate(first)));
+			// the projects built before the first one are not built again
+			IWorkspace workspace = ResourcesPlugin.getWorkspace();
+			IProject[] order = workspace.computeProjectOrder(workspace.getRoot().getProjects()).projects;
+			int index = Arrays.asList(order).indexOf(first);
+			for (int i = index + 1; index >= 0 && i < order.length; i++) {
+				IProject project = order[i];
+				if (project.isOpen() && PDEBuilderHelper.hasManifestBuilder(project)
+						&& !WorkspaceModelManager.isBinaryProject(project)) {
+					validations.put(project, executor.submit(() -> validate(project)));
+				}
+			}
+		} finally {
+			// let the submitted validations complete, then release the threads
+			executor.shutdown();
+		}
+		if (PDECore.DEBUG_VALIDATION) {
+			System.out.println("Validating " + validations.size() + " projects concurrently on " + threads //$NON-NLS-1$ //$NON-NLS-2$
+					+ " threads"); //$NON-NLS-1$
+		}
+		return new ManifestValidationSnapshot(validations);
+	}
+
+	private static Validation validate(IProject project) {
+		// the stamps are taken first so that concurrent changes are detected
+		long stateTimeStamp = getStateTimeStamp();
+		long[] stamps = getStamps(project);
+		Map<String, String> preferences = getPreferences(project);
+		List<IncrementalErrorReporter> problems = ManifestConsistencyChecker.validateContent(project,
+				ManifestConsistencyChecker.CONTENT, new NullProgressMonitor());
+		return new Validation(stamps, preferences, stateTimeStamp, problems);
+	}
+
+	private static long getStateTimeStamp() {
+		return PDECore.getDefault().getModelManager().getState().getState().getTimeStamp();
+	}
+
+	private static long[] getStamps(IProject project) {
+		IFile[] files = { PDEProject.getManifest(project), PDEProject.getPluginXml(project),
+				PDEProject.getFragmentXml(project), PDEProject.getBuildProperties(project),
+				PDEProject.getLocalizationFile(project) };
+		String[] requiredProjects = getRequiredProjectNames(project);
+		long[] stamps = new long[files.length + 1 + requiredProjects.length];
+		for (int i = 0; i < files.length; i++) {
+			stamps[i] = files[i].getModificationStamp();
+		}
+		// classes referenced by the files may be declared in any of them
+		stamps[files.length] = getSourceStamp(project);
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		for (int i = 0; i < requiredProjects.length; i++) {
+			stamps[files.length + 1 + i] = getSourceStamp(root.getProject(requiredProjects[i]));
+		}
+		return stamps;
+	}
+
+	private static String[] getRequiredProjectNames(IProject project) {
+		try {
+			return JavaCore.create(project).getRequiredProjectNames();
+		} catch (JavaModelException e) {
+			return new String[0];
+		}
+	}
+
+	/**
+	 * Combines the names and modification stamps of all Java source files of
+	 * the given project, so that added, removed and modified types are
+	 * detected.
+	 */
+	private static long getSourceStamp(IProject project) {
+		long[] stamp = { 1 };
+		try {
+			project.accept(proxy -> {
+				if (proxy.getType() == IResource.FILE && proxy.getName().endsWith(".java")) { //$NON-NLS-1$
+					stamp[0] = 31 * (31 * stamp[0] + proxy.getName().hashCode()) + proxy.getModificationStamp();
+				}
+				return true;
+			}, IResource.NONE);
+		} catch (CoreException e) {
+			return IResource.NULL_STAMP;
+		}
+		return stamp[0];
+	}
+
+	/**
+	 * Returns the PDE compiler preferences that apply to the given project,
+	 * the project specific ones overriding the workspace ones.
+	 */
+	private static Map<String, String> getPreferences(IProject project) {
+		Map<String, String> preferences = new HashMap<>();
+		IEclipsePreferences[] nodes = { InstanceScope.INSTANCE.getNode(BaseProject.PDE_PLUGIN_ID),
+				new ProjectScope(project).getNode(BaseProject.PDE_PLUGIN_ID) };
+		for (IEclipsePreferences node : nodes) {
+			try {
+				for (String key : node.keys()) {
+					preferences.put(key, node.get(key, null));
+				}
+			} catch (BackingStoreException e) {
+				PDECore.log(e);
+			}
+		}
+		return preferences;
+	}
+}
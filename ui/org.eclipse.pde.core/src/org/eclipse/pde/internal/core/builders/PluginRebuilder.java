@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -100,21 +105,66 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 			fProjectNames.clear();
 		} else {
 			BundleDelta[] deltas = delta.getChanges();
+			Set<String> changedBundles = new HashSet<>();
+			Set<String> changedPackages = new HashSet<>();
 			for (BundleDelta bundleDelta : deltas) {
 				// only interested in workspace plug-ins that are affected by delta
 				// but not those who have caused it.
 				int type = bundleDelta.getType();
+				IPluginModelBase model = PluginRegistry.findModel((Resource) bundleDelta.getBundle());
+				IResource resource = model == null ? null : model.getUnderlyingResource();
 				if ((type & BundleDelta.UPDATED) == BundleDelta.UPDATED || (type & BundleDelta.ADDED) == BundleDelta.ADDED || (type & BundleDelta.REMOVED) == BundleDelta.REMOVED) {
+					if (resource == null) {
+						// workspace plug-ins may be wired to a changed target bundle
+						BundleDescription bundle = bundleDelta.getBundle();
+						changedBundles.add(bundle.getSymbolicName());
+						for (ExportPackageDescription export : bundle.getExportPackages()) {
+							changedPackages.add(export.getName());
+						}
+					}
 					continue;
 				}
 
-				IPluginModelBase model = PluginRegistry.findModel((Resource) bundleDelta.getBundle());
-				IResource resource = model == null ? null : model.getUnderlyingResource();
 				if (resource != null) {
 					fProjectNames.add(resource.getProject().getName());
 				}
 			}
+			if (!changedBundles.isEmpty()) {
+				addDependentProjects(changedBundles, changedPackages);
+			}
+		}
+	}
+
+	/**
+	 * Adds the workspace plug-ins requiring one of the given bundles or
+	 * importing one of the given packages to the projects to touch.
+	 */
+	private void addDependentProjects(Set<String> bundles, Set<String> packages) {
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			BundleDescription desc = model.getBundleDescription();
+			IResource resource = model.getUnderlyingResource();
+			if (desc != null && resource != null && dependsOn(desc, bundles, packages)) {
+				fProjectNames.add(resource.getProject().getName());
+			}
+		}
+	}
+
+	private static boolean dependsOn(BundleDescription desc, Set<String> bundles, Set<String> packages) {
+		HostSpecification host = desc.getHost();
+		if (host != null && bundles.contains(host.getName())) {
+			return true;
+		}
+		for (BundleSpecification required : desc.getRequiredBundles()) {
+			if (bundles.contains(required.getName())) {
+				return true;
+			}
+		}
+		for (ImportPackageSpecification imported : desc.getImportPackages()) {
+			if (packages.contains(imported.getName())) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2021 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -151,6 +151,27 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		return marker;
 	}
 
+	/**
+	 * @param element the element
+	 * @return the location path of the element as stored in the
+	 *         {@link PDEMarkerFactory#MPK_LOCATION_PATH} attribute of markers
+	 */
+	String getLocationPath(Element element) {
+		return generateLocationPath(element, null);
+	}
+
+	int getMarkerCount() {
+		return fErrorReporter.getMarkerCount();
+	}
+
+	List<VirtualMarker> getMarkers(int fromIndex) {
+		return fErrorReporter.getMarkers(fromIndex);
+	}
+
+	void addMarker(VirtualMarker marker) {
+		fErrorReporter.addMarker(marker);
+	}
+
 	private String generateLocationPath(Node node, String attrName) {
 		if (node == null) {
 			return ""; // //$NON-NLS-1$
@@ -352,6 +373,40 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		return null;
 	}
 
+	/**
+	 * Returns the source text of the given element, from its start up to the
+	 * start of its next sibling element or the end of the document, or
+	 * <code>null</code> if the location of the element is not known.
+	 *
+	 * @param element the xml element
+	 * @return the source text of the element or <code>null</code>
+	 */
+	String getSource(Element element) {
+		if (fTextDocument == null) {
+			return null;
+		}
+		ElementData data = fOffsetTable.get(element);
+		if (data == null || data.fErrorNode) {
+			return null;
+		}
+		int end = fTextDocument.getLength();
+		for (Node next = element.getNextSibling(); next != null; next = next.getNextSibling()) {
+			if (next instanceof Element) {
+				ElementData nextData = fOffsetTable.get(next);
+				if (nextData == null) {
+					return null;
+				}
+				end = nextData.offset;
+				break;
+			}
+		}
+		try {
+			return fTextDocument.get(data.offset, end - data.offset);
+		} catch (BadLocationException e) {
+			return null;
+		}
+	}
+
 	protected int getLine(Element element) {
 		ElementData data = fOffsetTable.get(element);
 		try {
@@ -380,6 +435,20 @@ public abstract class XMLErrorReporter extends DefaultHandler {
 		fErrorReporter.applyMarkers();
 	}
 
+	/**
+	 * Validates the content without updating the markers of the file. The
+	 * problems found are applied to the file by calling
+	 * {@link IncrementalErrorReporter#applyMarkers()} on the returned
+	 * reporter, which must happen while holding the workspace rule.
+	 *
+	 * @param monitor progress monitor
+	 * @return the problems found in the content
+	 */
+	final IncrementalErrorReporter validateProblems(IProgressMonitor monitor) {
+		validate(monitor);
+		return fErrorReporter;
+	}
+
 	protected abstract void validate(IProgressMonitor monitor);
 
 	public Element getDocumentRoot() {
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.pde.internal.core.ischema.IMetaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaComplexType;
+import org.eclipse.pde.internal.core.ischema.ISchemaCompositor;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaEnumeration;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.ischema.ISchemaObject;
+import org.eclipse.pde.internal.core.ischema.ISchemaObjectReference;
+import org.eclipse.pde.internal.core.ischema.ISchemaRestriction;
+import org.eclipse.pde.internal.core.ischema.ISchemaSimpleType;
+import org.eclipse.pde.internal.core.ischema.ISchemaType;
+
+/**
+ * An immutable form of a loaded {@link ISchema} for fast lookups when
+ * validating extensions and computing content assist. Elements, including the
+ * ones of included schemas, and their attributes are indexed by name, and the
+ * allowed child elements, required attributes and enumerated values of each
+ * element are computed once. Instances are obtained from
+ * {@link SchemaRegistry#getCompiledSchema(String)} and can be shared between
+ * threads.
+ */
+public final class CompiledSchema {
+
+	/**
+	 * Lookup tables of an element of a schema
+	 */
+	public static final class ElementInfo {
+
+		private final ISchemaElement fElement;
+		private final CompiledSchema fOwner;
+		private final Map<String, ISchemaAttribute> fAttributes;
+		private final List<ISchemaAttribute> fRequiredAttributes;
+		private final Set<String> fAllowedChildren;
+		private final Map<String, Set<String>> fRestrictions;
+
+		ElementInfo(ISchemaElement element, CompiledSchema owner) {
+			fElement = element;
+			fOwner = owner;
+			Map<String, ISchemaAttribute> attributes = new HashMap<>();
+			List<ISchemaAttribute> required = new ArrayList<>();
+			Map<String, Set<String>> restrictions = new HashMap<>();
+			for (ISchemaAttribute attribute : element.getAttributes()) {
+				attributes.putIfAbsent(attribute.getName(), attribute);
+				if (attribute.getUse() == ISchemaAttribute.REQUIRED) {
+					required.add(attribute);
+				}
+				ISchemaSimpleType type = attribute.getType();
+				ISchemaRestriction restriction = type != null ? type.getRestriction() : null;
+				if (restriction != null) {
+					Set<String> values = new HashSet<>();
+					for (Object child : restriction.getChildren()) {
+						if (child instanceof ISchemaEnumeration enumeration) {
+							values.add(enumeration.getName());
+						}
+					}
+					restrictions.put(attribute.getName(), values);
+				}
+			}
+			Set<String> allowed = new HashSet<>();
+			computeAllowedChildren(element.getType(), allowed);
+			fAttributes = attributes;
+			fRequiredAttributes = Collections.unmodifiableList(required);
+			fAllowedChildren = Collections.unmodifiableSet(allowed);
+			fRestrictions = restrictions;
+		}
+
+		/**
+		 * @return the element of the schema
+		 */
+		public ISchemaElement getElement() {
+			return fElement;
+		}
+
+		/**
+		 * Returns the compiled form of the schema that declares this element,
+		 * in which its child elements are to be looked up.
+		 *
+		 * @return the declaring schema
+		 */
+		public CompiledSchema getOwner() {
+			return fOwner;
+		}
+
+		/**
+		 * @param name name of the attribute
+		 * @return the attribute with the given name or <code>null</code>
+		 */
+		public ISchemaAttribute getAttribute(String name) {
+			return fAttributes.get(name);
+		}
+
+		/**
+		 * @return the attributes whose use is
+		 *         {@link ISchemaAttribute#REQUIRED}
+		 */
+		public List<ISchemaAttribute> getRequiredAttributes() {
+			return fRequiredAttributes;
+		}
+
+		/**
+		 * Returns the names of the allowed child elements, including java
+		 * attributes that may be given as child elements.
+		 *
+		 * @return the names of the allowed child elements
+		 */
+		public Set<String> getAllowedChildren() {
+			return fAllowedChildren;
+		}
+
+		/**
+		 * Returns whether the given value is allowed by the restriction of the
+		 * given attribute. Values of attributes without restriction are always
+		 * allowed.
+		 *
+		 * @param attribute name of the attribute
+		 * @param value the value
+		 * @return whether the value is allowed
+		 */
+		public boolean isAllowedValue(String attribute, String value) {
+			Set<String> values = fRestrictions.get(attribute);
+			return values == null || values.contains(value);
+		}
+
+		private static void computeAllowedChildren(ISchemaType type, Set<String> names) {
+			if (type instanceof ISchemaComplexType complexType) {
+				ISchemaCompositor compositor = complexType.getCompositor();
+				if (compositor != null) {
+					computeAllowedChildren(compositor, names);
+				}
+				for (ISchemaAttribute attr : complexType.getAttributes()) {
+					if (attr.getKind() == IMetaAttribute.JAVA) {
+						names.add(attr.getName());
+					}
+				}
+			}
+		}
+
+		private static void computeAllowedChildren(ISchemaCompositor compositor, Set<String> names) {
+			for (ISchemaObject child : compositor.getChildren()) {
+				if (child instanceof ISchemaObjectReference ref) {
+					if (ref.getReferencedObject() instanceof ISchemaElement refElement) {
+						names.add(refElement.getName());
+					}
+				} else if (child instanceof ISchemaCompositor childCompositor) {
+					computeAllowedChildren(childCompositor, names);
+				}
+			}
+		}
+	}
+
+	private final ISchema fSchema;
+	private final Map<String, ElementInfo> fElements = new HashMap<>();
+
+	private CompiledSchema(ISchema schema) {
+		fSchema = schema;
+	}
+
+	/**
+	 * Compiles the given loaded schema and the schemas it includes. Use
+	 * {@link SchemaRegistry#getCompiledSchema(String)} for the schemas of
+	 * extension points, which caches the result.
+	 *
+	 * @param schema the schema
+	 * @return the compiled schema
+	 */
+	public static CompiledSchema compile(ISchema schema) {
+		return compile(schema, new IdentityHashMap<>());
+	}
+
+	private static CompiledSchema compile(ISchema schema, Map<ISchema, CompiledSchema> compiled) {
+		CompiledSchema result = new CompiledSchema(schema);
+		compiled.put(schema, result);
+		// same precedence as Schema.findElement(String)
+		for (ISchemaElement element : schema.getElements()) {
+			result.fElements.putIfAbsent(element.getName(), new ElementInfo(element, result));
+		}
+		for (ISchemaInclude include : schema.getIncludes()) {
+			ISchema included = include.getIncludedSchema();
+			if (included == null) {
+				continue;
+			}
+			CompiledSchema includedSchema = compiled.get(included);
+			if (includedSchema == null) {
+				includedSchema = compile(included, compiled);
+			}
+			includedSchema.fElements.forEach(result.fElements::putIfAbsent);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the schema
+	 */
+	public ISchema getSchema() {
+		return fSchema;
+	}
+
+	/**
+	 * Returns the element with the given name, declared in this schema or one
+	 * of its included schemas.
+	 *
+	 * @param name name of the element
+	 * @return the element or <code>null</code>
+	 */
+	public ElementInfo findElement(String name) {
+		return fElements.get(name);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,12 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -33,17 +38,81 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Cache of the schemas of extension points and of the schemas they include,
+ * together with their compiled form used for validation and content assist. An
+ * entry is replaced when the URL or the modification time of its schema
+ * changes. The registry may be used from several threads and holds at most
+ * {@link #MAX_ENTRIES} schemas, or as many as given by the system property
+ * <code>pde.schemaCacheSize</code> when the registry is created, evicting the
+ * least recently used ones.
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * System property to change the maximum number of cached schemas
+	 */
+	private static final String MAX_ENTRIES_PROPERTY = "pde.schemaCacheSize"; //$NON-NLS-1$
+	private static final int MAX_ENTRIES = 512;
+
+	private static final class Entry {
+		final ISchemaDescriptor descriptor;
+		volatile CompiledSchema compiled;
+		volatile long lastAccess;
+
+		Entry(ISchemaDescriptor descriptor) {
+			this.descriptor = descriptor;
+		}
+
+		ISchema getSchema() {
+			// descriptors load their schema lazily and are not thread safe
+			synchronized (this) {
+				return descriptor.getSchema(true);
+			}
+		}
+
+		CompiledSchema getCompiledSchema() {
+			CompiledSchema result = compiled;
+			if (result == null) {
+				ISchema schema = getSchema();
+				if (schema == null) {
+					return null;
+				}
+				// compiled outside of the lock since included schemas are
+				// looked up in the registry, concurrent compilations are benign
+				result = CompiledSchema.compile(schema);
+				compiled = result;
+			}
+			return result;
+		}
+	}
+
+	private final Map<String, Entry> fRegistry = new ConcurrentHashMap<>();
+	private final AtomicLong fClock = new AtomicLong();
+	private final int fMaxEntries = Math.max(16, Integer.getInteger(MAX_ENTRIES_PROPERTY, MAX_ENTRIES).intValue());
 
 	public ISchema getSchema(String extPointID) {
+		Entry entry = getEntry(extPointID);
+		return entry != null ? entry.getSchema() : null;
+	}
+
+	/**
+	 * Returns the compiled form of the schema of the given extension point.
+	 *
+	 * @param extPointID id of the extension point
+	 * @return the compiled schema or <code>null</code> if the extension point
+	 *         or its schema does not exist
+	 */
+	public CompiledSchema getCompiledSchema(String extPointID) {
+		Entry entry = getEntry(extPointID);
+		return entry != null ? entry.getCompiledSchema() : null;
+	}
+
+	private Entry getEntry(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
-			}
+			fRegistry.remove(extPointID);
 			return null;
 		}
 
@@ -52,13 +121,11 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
+		Entry entry = getExistingEntry(extPointID, url);
+		if (entry == null) {
+			entry = putEntry(extPointID, new SchemaDescriptor(extPointID, url));
 		}
-
-		return desc.getSchema(true);
+		return entry;
 	}
 
 	public ISchema getIncludedSchema(ISchemaDescriptor parent, String schemaLocation) {
@@ -68,26 +135,50 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
+			Entry entry = getExistingEntry(url.toString(), url);
+			if (entry == null) {
+				entry = putEntry(url.toString(), new IncludedSchemaDescriptor(url));
 			}
-			return desc.getSchema(true);
+			return entry.getSchema();
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
+	private Entry getExistingEntry(String key, URL url) {
+		Entry entry = fRegistry.get(key);
+		if (entry == null || hasSchemaChanged(entry.descriptor, url)) {
+			return null;
+		}
+		entry.lastAccess = fClock.incrementAndGet();
+		return entry;
+	}
+
+	private Entry putEntry(String key, ISchemaDescriptor descriptor) {
+		Entry entry = new Entry(descriptor);
+		entry.lastAccess = fClock.incrementAndGet();
+		fRegistry.put(key, entry);
+		if (fRegistry.size() > fMaxEntries) {
+			evict();
+		}
+		return entry;
+	}
+
+	/**
+	 * Removes the least recently used schemas, leaving room for a quarter of
+	 * the maximum number of new ones.
+	 */
+	private synchronized void evict() {
+		int excess = fRegistry.size() - fMaxEntries * 3 / 4;
+		if (excess <= 0) {
+			return;
+		}
+		List<Map.Entry<String, Entry>> entries = new ArrayList<>(fRegistry.entrySet());
+		entries.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+		for (int i = 0; i < excess && i < entries.size(); i++) {
+			Map.Entry<String, Entry> eldest = entries.get(i);
+			fRegistry.remove(eldest.getKey(), eldest.getValue());
 		}
-		return desc;
 	}
 
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
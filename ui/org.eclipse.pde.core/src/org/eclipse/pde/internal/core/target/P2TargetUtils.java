@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2024 EclipseSource Inc. and others.
+ * Copyright (c) 2010, 2026 EclipseSource Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -817,12 +817,41 @@ public class P2TargetUtils {
 		progress.setWorkRemaining(75);
 
 		try {
-			// Now resolve the profile and refresh the relate IU containers
-			if (getIncludeAllRequired()) {
-				resolveWithPlanner(target, profile, progress.split(60));
-			} else {
-				resolveWithSlicer(target, profile, progress.split(60));
+			// Now resolve the profile and refresh the relate IU containers,
+			// reusing a previous resolution of the same target content
+			String resolutionKey = getResolutionKey(target);
+			Map<URI, String> timestamps = resolutionKey != null
+					? TargetResolutionCache.getTimestamps(getMetadataRepositories(target), progress.split(5))
+					: null;
+			progress.setWorkRemaining(70);
+			boolean restored;
+			try {
+				restored = restoreResolution(target, profile, resolutionKey, timestamps, progress.split(55));
+			} catch (CoreException e) {
+				if (e.getStatus().getSeverity() == IStatus.CANCEL) {
+					throw e;
+				}
+				// the cached resolution can not be provisioned (anymore), resolve the target again
+				PDECore.log(e.getStatus());
+				TargetResolutionCache.delete(resolutionKey);
+				deleteProfile(target.getHandle());
+				profile = createProfile(target);
+				restored = false;
+			}
+			if (!restored) {
+				if (getIncludeAllRequired()) {
+					resolveWithPlanner(target, profile, progress.split(55));
+				} else {
+					resolveWithSlicer(target, profile, progress.split(55));
+				}
+				if (timestamps != null) {
+					IProfile provisioned = getProfileRegistry().getProfile(profile.getProfileId());
+					if (provisioned != null) {
+						TargetResolutionCache.write(resolutionKey, timestamps, provisioned);
+					}
+				}
 			}
+			updateSharedArtifactCache(profile);
 			fProfile = profile;
 			// If we are updating a profile then delete the old snapshot on success.
 			notify(target, progress.split(15));
@@ -852,6 +881,120 @@ public class P2TargetUtils {
 		return registry.addProfile(getProfileId(target), properties);
 	}
 
+	/**
+	 * Returns the key of the resolution of the given target in the
+	 * {@link TargetResolutionCache} or <code>null</code> if the resolution of
+	 * the target can not be cached. Only targets consisting of IU locations
+	 * with explicit repositories are cached, since the content of other
+	 * locations is not covered by repository timestamps.
+	 */
+	private String getResolutionKey(ITargetDefinition target) {
+		ITargetLocation[] locations = target.getTargetLocations();
+		if (!TargetResolutionCache.isEnabled() || locations == null || locations.length == 0) {
+			return null;
+		}
+		List<String> content = new ArrayList<>();
+		for (ITargetLocation location : locations) {
+			if (!(location instanceof IUBundleContainer iuContainer) || iuContainer.getRepositories().isEmpty()) {
+				return null;
+			}
+			iuContainer.getRepositories().forEach(repository -> content.add("repository=" + repository)); //$NON-NLS-1$
+			iuContainer.getDeclaredUnits().forEach(unit -> content.add("unit=" + unit.id() + '/' + unit.version())); //$NON-NLS-1$
+		}
+		content.sort(null);
+		setProperties((key, value) -> content.add(key + '=' + value), target, getProvisionMode());
+		content.add(IProfile.PROP_ENVIRONMENTS + '=' + generateEnvironmentProperties(target));
+		content.add(IProfile.PROP_NL + '=' + generateNLProperty(target));
+		return TargetResolutionCache.computeKey(String.join("\n", content)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Provisions the given, new, profile with a cached resolution of the
+	 * target instead of running the planner or slicer.
+	 *
+	 * @return whether a valid resolution was found and provisioned
+	 * @throws CoreException if provisioning the cached resolution failed or
+	 *             was cancelled
+	 */
+	private boolean restoreResolution(ITargetDefinition target, IProfile profile, String resolutionKey,
+			Map<URI, String> timestamps, IProgressMonitor monitor) throws CoreException {
+		if (timestamps == null) {
+			return false;
+		}
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.IUBundleContainer_0, 100);
+		TargetResolutionCache.Resolution resolution = TargetResolutionCache.read(resolutionKey, timestamps,
+				subMonitor.split(10));
+		if (resolution == null) {
+			return false;
+		}
+		IEngine engine = getEngine();
+		SharedArtifactCache sharedCache = SharedArtifactCache.create(getAgent());
+		ProvisioningContext context = new ProvisioningContext(getAgent()) {
+			@Override
+			public IQueryable<IArtifactRepository> getArtifactRepositories(IProgressMonitor monitor) {
+				if (sharedCache == null) {
+					return super.getArtifactRepositories(monitor);
+				}
+				return QueryUtil.compoundQueryable(super.getArtifactRepositories(monitor),
+						(query, ignore) -> query.perform(List.<IArtifactRepository> of(sharedCache).iterator()));
+			}
+		};
+		context.setMetadataRepositories();
+		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
+		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		context.setProperty(ProvisioningContext.FOLLOW_ARTIFACT_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
+		IProvisioningPlan plan = engine.createPlan(profile, context);
+		setProperties(plan::setProfileProperty, target, getProvisionMode());
+		for (IInstallableUnit unit : resolution.units().query(QueryUtil.ALL_UNITS, subMonitor.split(10))) {
+			plan.addInstallableUnit(unit);
+		}
+		for (TargetResolutionCache.RootUnit root : resolution.roots()) {
+			IInstallableUnit unit = queryFirst(resolution.units(), QueryUtil.createIUQuery(root.id(), root.version()),
+					null).orElse(null);
+			if (unit == null) {
+				TargetResolutionCache.delete(resolutionKey);
+				return false;
+			}
+			plan.setInstallableUnitProfileProperty(unit, PROP_INSTALLED_IU, Boolean.toString(true));
+			if (root.versionDeclarations() != null) {
+				plan.setInstallableUnitProfileProperty(unit, PROP_IU_VERSION_DECLARATION, root.versionDeclarations());
+			}
+		}
+		IStatus result = engine.perform(plan, createPhaseSet(), subMonitor.split(80));
+		if (result.getSeverity() == IStatus.ERROR || result.getSeverity() == IStatus.CANCEL) {
+			throw new CoreException(result);
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Provisioned target " + target.getName() + " from cached resolution " + resolutionKey); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Adds the artifacts of the given, just provisioned, profile to the shared
+	 * artifact cache if one is configured.
+	 */
+	private static void updateSharedArtifactCache(IProfile profile) {
+		try {
+			SharedArtifactCache cache = SharedArtifactCache.create(getAgent());
+			if (cache == null) {
+				return;
+			}
+			IProfile provisioned = getProfileRegistry().getProfile(profile.getProfileId());
+			if (provisioned == null) {
+				return;
+			}
+			Set<IArtifactKey> keys = new LinkedHashSet<>();
+			for (IInstallableUnit unit : provisioned.query(QueryUtil.ALL_UNITS, null)) {
+				keys.addAll(unit.getArtifacts());
+			}
+			cache.store(getBundlePool(), keys);
+		} catch (CoreException e) {
+			// the cache is an optimization only, the target is resolved
+			PDECore.log(e.getStatus());
+		}
+	}
+
 	/**
 	 * Signal the relevant bundle containers that the given profile has changed.
 	 */
@@ -1123,6 +1266,10 @@ public class P2TargetUtils {
 		List<IArtifactRepository> extraArtifactRepositories = new ArrayList<>();
 		List<IMetadataRepository> extraMetadataRepositories = new ArrayList<>();
 		addAdditionalProvisionIUs(target, extraArtifactRepositories, extraMetadataRepositories);
+		SharedArtifactCache sharedCache = SharedArtifactCache.create(getAgent());
+		if (sharedCache != null) {
+			extraArtifactRepositories.add(sharedCache);
+		}
 		ProvisioningContext context = new ProvisioningContext(getAgent()) {
 			@Override
 			public IQueryable<IArtifactRepository> getArtifactRepositories(IProgressMonitor monitor) {
@@ -1367,7 +1514,17 @@ public class P2TargetUtils {
 		}
 
 		IEngine engine = getEngine();
-		ProvisioningContext context = new ProvisioningContext(getAgent());
+		SharedArtifactCache sharedCache = SharedArtifactCache.create(getAgent());
+		ProvisioningContext context = new ProvisioningContext(getAgent()) {
+			@Override
+			public IQueryable<IArtifactRepository> getArtifactRepositories(IProgressMonitor monitor) {
+				if (sharedCache == null) {
+					return super.getArtifactRepositories(monitor);
+				}
+				return QueryUtil.compoundQueryable(super.getArtifactRepositories(monitor),
+						(query, ignore) -> query.perform(List.<IArtifactRepository> of(sharedCache).iterator()));
+			}
+		};
 		context.setMetadataRepositories(repositories.toArray(URI[]::new));
 		context.setArtifactRepositories(getArtifactRepositories(target).toArray(URI[]::new));
 		context.setProperty(ProvisioningContext.FOLLOW_REPOSITORY_REFERENCES, Boolean.toString(isFollowRepositoryReferences()));
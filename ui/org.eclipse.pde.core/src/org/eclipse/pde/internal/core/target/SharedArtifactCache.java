@@ -0,0 +1,445 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.equinox.internal.p2.metadata.ArtifactKey;
+import org.eclipse.equinox.p2.core.IProvisioningAgent;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.query.IQuery;
+import org.eclipse.equinox.p2.query.IQueryResult;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactRequest;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.spi.AbstractArtifactRepository;
+import org.eclipse.equinox.p2.repository.artifact.spi.ArtifactDescriptor;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * A machine wide, content addressed cache of artifacts that can be shared by
+ * all workspaces (and build jobs) resolving targets on one machine. Artifacts
+ * are stored as <code>&lt;classifier&gt;/&lt;id&gt;/&lt;version&gt;/&lt;sha-256&gt;</code>
+ * below the cache directory.
+ * <p>
+ * The cache is used as an additional, local, artifact repository during the
+ * resolution of a target so that the p2 download manager fetches already seen
+ * artifacts from it instead of the remote repositories. Artifacts are written
+ * to a temporary file first and atomically moved in place, so that concurrent
+ * readers and writers in other processes never see partial content. A file
+ * lock on the cache directory serializes the eviction of the least recently
+ * used artifacts once the cache exceeds its maximum size.
+ * </p>
+ */
+@SuppressWarnings("restriction")
+public class SharedArtifactCache extends AbstractArtifactRepository {
+
+	/**
+	 * System property that enables the cache, the value is the cache directory
+	 */
+	static final String LOCATION_PROPERTY = "pde.sharedArtifactCache"; //$NON-NLS-1$
+
+	/**
+	 * System property for the maximum size of the cache in megabytes
+	 */
+	static final String MAX_SIZE_PROPERTY = "pde.sharedArtifactCache.maxSize"; //$NON-NLS-1$
+
+	private static final long DEFAULT_MAX_SIZE = 4096;
+
+	private static final String NAME = "PDE Shared Artifact Cache"; //$NON-NLS-1$
+	private static final String TYPE = "org.eclipse.pde.core.sharedArtifactCache"; //$NON-NLS-1$
+	private static final String CHECKSUM_ALGORITHM = "sha-256"; //$NON-NLS-1$
+	private static final String CHECKSUM_PROPERTY = IArtifactDescriptor.DOWNLOAD_CHECKSUM + '.' + CHECKSUM_ALGORITHM;
+	private static final String LOCK_FILE = ".lock"; //$NON-NLS-1$
+	private static final String TEMP_DIRECTORY = ".tmp"; //$NON-NLS-1$
+
+	private final Path root;
+	private final long maxSize;
+
+	public SharedArtifactCache(IProvisioningAgent agent, Path root, long maxSize) {
+		super(agent, NAME, TYPE, null, root.toUri(), null, null, null);
+		this.root = root;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the shared artifact cache configured for this session or
+	 * <code>null</code> if no cache is configured.
+	 *
+	 * @param agent the agent the cache is used with
+	 * @return the shared cache or <code>null</code>
+	 */
+	static SharedArtifactCache create(IProvisioningAgent agent) {
+		String location = System.getProperty(LOCATION_PROPERTY);
+		if (location == null || location.isBlank()) {
+			return null;
+		}
+		long maxSize = Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE).longValue() * 1024 * 1024;
+		return new SharedArtifactCache(agent, Path.of(location).toAbsolutePath(), maxSize);
+	}
+
+	private Path getKeyDirectory(IArtifactKey key) {
+		return root.resolve(key.getClassifier()).resolve(key.getId()).resolve(key.getVersion().toString());
+	}
+
+	private Path getArtifactPath(IArtifactDescriptor descriptor) {
+		String checksum = descriptor.getProperty(CHECKSUM_PROPERTY);
+		if (checksum == null) {
+			return null;
+		}
+		return getKeyDirectory(descriptor.getArtifactKey()).resolve(checksum);
+	}
+
+	private IArtifactDescriptor createDescriptor(IArtifactKey key, Path file) {
+		ArtifactDescriptor descriptor = new ArtifactDescriptor(key);
+		descriptor.setProperty(CHECKSUM_PROPERTY, file.getFileName().toString());
+		try {
+			String size = Long.toString(Files.size(file));
+			descriptor.setProperty(IArtifactDescriptor.DOWNLOAD_SIZE, size);
+			descriptor.setProperty(IArtifactDescriptor.ARTIFACT_SIZE, size);
+		} catch (IOException e) {
+			// evicted concurrently, the download will fail over to the next repository
+		}
+		return descriptor;
+	}
+
+	@Override
+	public IArtifactDescriptor[] getArtifactDescriptors(IArtifactKey key) {
+		Path directory = getKeyDirectory(key);
+		if (!Files.isDirectory(directory)) {
+			return new IArtifactDescriptor[0];
+		}
+		List<IArtifactDescriptor> descriptors = new ArrayList<>(1);
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, Files::isRegularFile)) {
+			for (Path file : files) {
+				descriptors.add(createDescriptor(key, file));
+			}
+		} catch (IOException e) {
+			// treat as not cached
+		}
+		return descriptors.toArray(IArtifactDescriptor[]::new);
+	}
+
+	@Override
+	public boolean contains(IArtifactKey key) {
+		return getArtifactDescriptors(key).length > 0;
+	}
+
+	@Override
+	public boolean contains(IArtifactDescriptor descriptor) {
+		Path file = getArtifactPath(descriptor);
+		return file != null && Files.isRegularFile(file);
+	}
+
+	@Override
+	public IStatus getRawArtifact(IArtifactDescriptor descriptor, OutputStream destination, IProgressMonitor monitor) {
+		Path file = getArtifactPath(descriptor);
+		if (file == null) {
+			return Status.error(NLS.bind(Messages.SharedArtifactCache_0, descriptor));
+		}
+		try {
+			Files.copy(file, destination);
+			touch(file);
+			return Status.OK_STATUS;
+		} catch (NoSuchFileException e) {
+			return Status.error(NLS.bind(Messages.SharedArtifactCache_0, descriptor));
+		} catch (IOException e) {
+			return Status.error(e.getLocalizedMessage(), e);
+		}
+	}
+
+	@Override
+	public IStatus getArtifact(IArtifactDescriptor descriptor, OutputStream destination, IProgressMonitor monitor) {
+		return getRawArtifact(descriptor, destination, monitor);
+	}
+
+	@Override
+	public IStatus getArtifacts(IArtifactRequest[] requests, IProgressMonitor monitor) {
+		MultiStatus multiStatus = new MultiStatus(getClass(), IStatus.INFO, "Perform Artifact Requests"); //$NON-NLS-1$
+		SubMonitor subMonitor = SubMonitor.convert(monitor, requests.length);
+		for (IArtifactRequest request : requests) {
+			request.perform(this, subMonitor.split(1));
+			multiStatus.add(request.getResult());
+		}
+		return multiStatus.isOK() ? Status.OK_STATUS : multiStatus;
+	}
+
+	@Override
+	public IQueryable<IArtifactDescriptor> descriptorQueryable() {
+		return (query, monitor) -> query.perform(streamKeys() //
+				.flatMap(key -> Stream.of(getArtifactDescriptors(key))).iterator());
+	}
+
+	@Override
+	public IQueryResult<IArtifactKey> query(IQuery<IArtifactKey> query, IProgressMonitor monitor) {
+		return query.perform(streamKeys().iterator());
+	}
+
+	private Stream<IArtifactKey> streamKeys() {
+		List<IArtifactKey> keys = new ArrayList<>();
+		for (Path classifier : list(root)) {
+			String name = classifier.getFileName().toString();
+			if (name.startsWith(".")) { //$NON-NLS-1$
+				continue;
+			}
+			for (Path id : list(classifier)) {
+				for (Path version : list(id)) {
+					try {
+						keys.add(new ArtifactKey(name, id.getFileName().toString(),
+								Version.create(version.getFileName().toString())));
+					} catch (IllegalArgumentException e) {
+						// not an artifact directory
+					}
+				}
+			}
+		}
+		return keys.stream();
+	}
+
+	private static List<Path> list(Path directory) {
+		if (!Files.isDirectory(directory)) {
+			return List.of();
+		}
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(Files::isDirectory).toList();
+		} catch (IOException e) {
+			return List.of();
+		}
+	}
+
+	@Override
+	public OutputStream getOutputStream(IArtifactDescriptor descriptor) throws ProvisionException {
+		throw new ProvisionException("Artifacts are added to the shared cache from the bundle pool only"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Adds the artifacts with the given keys from the bundle pool to the cache
+	 * unless they are already cached, then evicts the least recently used
+	 * artifacts if the cache exceeds its maximum size. Failures are logged and
+	 * never affect the resolution of the target.
+	 *
+	 * @param pool the bundle pool the artifacts were downloaded to
+	 * @param keys keys of the artifacts to add
+	 */
+	public void store(IFileArtifactRepository pool, Collection<IArtifactKey> keys) {
+		int added = 0;
+		for (IArtifactKey key : keys) {
+			File file = pool.getArtifactFile(key);
+			if (file == null || !file.isFile()) {
+				// folder shaped artifacts are not cached
+				continue;
+			}
+			try {
+				if (store(key, file.toPath(), getChecksum(pool, key))) {
+					added++;
+				}
+			} catch (IOException e) {
+				PDECore.log(Status.warning(NLS.bind(Messages.SharedArtifactCache_1, key), e));
+			}
+		}
+		if (added > 0) {
+			evict();
+		}
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Added " + added + " artifacts to the shared artifact cache " + root); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
+	private static String getChecksum(IFileArtifactRepository pool, IArtifactKey key) {
+		for (IArtifactDescriptor descriptor : pool.getArtifactDescriptors(key)) {
+			String checksum = descriptor.getProperty(CHECKSUM_PROPERTY);
+			if (checksum != null) {
+				return checksum;
+			}
+		}
+		return null;
+	}
+
+	private boolean store(IArtifactKey key, Path file, String checksum) throws IOException {
+		if (checksum == null) {
+			// hashing is cheaper than copying an artifact that is cached already
+			checksum = computeChecksum(file);
+		}
+		if (Files.isRegularFile(getKeyDirectory(key).resolve(checksum))) {
+			return false;
+		}
+		Path tempDirectory = Files.createDirectories(root.resolve(TEMP_DIRECTORY));
+		Path temp = Files.createTempFile(tempDirectory, key.getId(), null);
+		try {
+			MessageDigest digest = createDigest();
+			try (InputStream in = Files.newInputStream(file);
+					OutputStream out = Files.newOutputStream(temp)) {
+				byte[] buffer = new byte[8192];
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+					out.write(buffer, 0, read);
+				}
+			}
+			String actual = HexFormat.of().formatHex(digest.digest());
+			Path target = Files.createDirectories(getKeyDirectory(key)).resolve(actual);
+			if (Files.isRegularFile(target)) {
+				return false;
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			return true;
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	private static String computeChecksum(Path file) throws IOException {
+		MessageDigest digest = createDigest();
+		try (InputStream in = Files.newInputStream(file)) {
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() throws IOException {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+	}
+
+	private static void touch(Path file) {
+		try {
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+		} catch (IOException e) {
+			// only affects the eviction order
+		}
+	}
+
+	/**
+	 * Deletes the least recently used artifacts until the cache fits into its
+	 * maximum size. Only one process or thread evicts at a time, others skip
+	 * eviction.
+	 */
+	public void evict() {
+		try (FileChannel channel = FileChannel.open(root.resolve(LOCK_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE); FileLock lock = channel.tryLock()) {
+			if (lock == null) {
+				return;
+			}
+			evict(root, maxSize);
+		} catch (OverlappingFileLockException e) {
+			// evicted by another thread of this process
+		} catch (IOException e) {
+			PDECore.log(Status.warning(NLS.bind(Messages.SharedArtifactCache_2, root), e));
+		}
+	}
+
+	private static void evict(Path root, long maxSize) throws IOException {
+		record Entry(Path file, long size, long lastModified) {
+		}
+		List<Entry> entries = new ArrayList<>();
+		long staleTemp = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(1);
+		Path tempDirectory = root.resolve(TEMP_DIRECTORY);
+		try (Stream<Path> files = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				} catch (IOException e) {
+					continue;
+				}
+				if (!attributes.isRegularFile() || file.getParent().equals(root)) {
+					continue;
+				}
+				long lastModified = attributes.lastModifiedTime().toMillis();
+				if (file.startsWith(tempDirectory)) {
+					// left over by a crashed process
+					if (lastModified < staleTemp) {
+						Files.deleteIfExists(file);
+					}
+					continue;
+				}
+				entries.add(new Entry(file, attributes.size(), lastModified));
+			}
+		}
+		long size = entries.stream().mapToLong(Entry::size).sum();
+		if (size <= maxSize) {
+			return;
+		}
+		entries.sort(Comparator.comparingLong(Entry::lastModified));
+		for (Entry entry : entries) {
+			if (size <= maxSize) {
+				break;
+			}
+			try {
+				Files.deleteIfExists(entry.file());
+				size -= entry.size();
+			} catch (IOException e) {
+				// still in use by another process
+			}
+		}
+	}
+
+	/**
+	 * Returns the directory of this cache
+	 *
+	 * @return the cache directory
+	 */
+	Path getRoot() {
+		return root;
+	}
+
+	@Override
+	public String toString() {
+		return NAME + " @ " + root; //$NON-NLS-1$
+	}
+}
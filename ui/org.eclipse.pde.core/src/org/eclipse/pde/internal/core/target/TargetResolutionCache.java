@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.equinox.p2.core.ProvisionException;
+import org.eclipse.equinox.p2.engine.IProfile;
+import org.eclipse.equinox.p2.engine.query.IUProfilePropertyQuery;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.query.IQueryable;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.IRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepositoryManager;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+
+/**
+ * Persisted results of the planner or slicer resolution of IU targets, keyed
+ * by a hash of the target content. Each entry holds the installable units of
+ * the resolved profile in a local metadata repository together with the
+ * installed root units and the timestamps of the repositories the target was
+ * resolved against. An entry is only used as long as these repositories
+ * report the same timestamps, the artifacts themselves are taken from the
+ * bundle pool.
+ */
+public final class TargetResolutionCache {
+
+	/**
+	 * System property to disable the cache of target resolutions
+	 */
+	private static final String DISABLE_PROPERTY = "pde.disableResolutionCache"; //$NON-NLS-1$
+
+	/**
+	 * Path to the local directory where resolutions of targets are stored,
+	 * computed on first use
+	 */
+	private static IPath location;
+
+	private static final String RESOLUTION_FILE = "resolution.properties"; //$NON-NLS-1$
+	private static final String VERSION = "1"; //$NON-NLS-1$
+	private static final int MAX_ENTRIES = 16;
+
+	private static final String KEY_VERSION = "version"; //$NON-NLS-1$
+	private static final String KEY_REPOSITORY = "repository."; //$NON-NLS-1$
+	private static final String KEY_TIMESTAMP = "timestamp."; //$NON-NLS-1$
+	private static final String KEY_ROOT = "root."; //$NON-NLS-1$
+	private static final String KEY_ROOT_VERSION = ".version"; //$NON-NLS-1$
+	private static final String KEY_ROOT_DECLARATION = ".declaration"; //$NON-NLS-1$
+
+	/**
+	 * An installed root unit of a resolution
+	 *
+	 * @param id id of the unit
+	 * @param version version of the unit
+	 * @param versionDeclarations the declared versions of the unit, may be
+	 *            <code>null</code>
+	 */
+	record RootUnit(String id, Version version, String versionDeclarations) {
+	}
+
+	/**
+	 * A valid, cached resolution of a target
+	 *
+	 * @param units all units of the resolved profile
+	 * @param roots the installed root units
+	 */
+	record Resolution(IQueryable<IInstallableUnit> units, List<RootUnit> roots) {
+	}
+
+	private TargetResolutionCache() {
+	}
+
+	/**
+	 * Returns whether target resolutions are cached in this session.
+	 *
+	 * @return whether resolutions are cached
+	 */
+	static boolean isEnabled() {
+		return !Boolean.getBoolean(DISABLE_PROPERTY);
+	}
+
+	/**
+	 * Returns the local directory where resolutions of targets are stored.
+	 *
+	 * @return the directory of the cache
+	 */
+	public static synchronized IPath getLocation() {
+		if (location == null) {
+			location = PDECore.getDefault().getStateLocation().append(".resolution_cache"); //$NON-NLS-1$
+		}
+		return location;
+	}
+
+	/**
+	 * Computes the key of a resolution from the canonical content of a target.
+	 *
+	 * @param content the content of the target that affects its resolution
+	 * @return the key of the resolution
+	 */
+	static String computeKey(String content) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns the timestamps of the given repositories, loading them if
+	 * necessary, or <code>null</code> if one of them does not provide a
+	 * timestamp and can therefore not be validated.
+	 *
+	 * @param repositories the repositories
+	 * @param monitor progress monitor
+	 * @return the timestamps of the repositories or <code>null</code>
+	 */
+	static Map<URI, String> getTimestamps(Collection<URI> repositories, IProgressMonitor monitor)
+			throws CoreException {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, repositories.size());
+		IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+		Map<URI, String> timestamps = new LinkedHashMap<>();
+		for (URI location : repositories) {
+			IMetadataRepository repository;
+			try {
+				repository = manager.loadRepository(location, subMonitor.split(1));
+			} catch (ProvisionException e) {
+				return null;
+			}
+			String timestamp = repository.getProperty(IRepository.PROP_TIMESTAMP);
+			if (timestamp == null) {
+				return null;
+			}
+			timestamps.put(location, timestamp);
+		}
+		return timestamps;
+	}
+
+	/**
+	 * Reads the resolution with the given key if it is still valid for the
+	 * given repository timestamps.
+	 *
+	 * @param key the key of the resolution
+	 * @param timestamps current timestamps of the repositories of the target
+	 * @param monitor progress monitor
+	 * @return the resolution or <code>null</code> if there is no valid one
+	 */
+	static Resolution read(String key, Map<URI, String> timestamps, IProgressMonitor monitor) {
+		File directory = getLocation().append(key).toFile();
+		File file = new File(directory, RESOLUTION_FILE);
+		if (!file.isFile()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			properties.load(in);
+		} catch (IOException e) {
+			return null;
+		}
+		if (!VERSION.equals(properties.getProperty(KEY_VERSION)) || !timestamps.equals(readTimestamps(properties))) {
+			return null;
+		}
+		List<RootUnit> roots = new ArrayList<>();
+		for (int i = 0; properties.containsKey(KEY_ROOT + i); i++) {
+			String version = properties.getProperty(KEY_ROOT + i + KEY_ROOT_VERSION);
+			roots.add(new RootUnit(properties.getProperty(KEY_ROOT + i), Version.create(version),
+					properties.getProperty(KEY_ROOT + i + KEY_ROOT_DECLARATION)));
+		}
+		URI location = directory.toURI();
+		try {
+			IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+			boolean known = manager.contains(location);
+			IMetadataRepository units = manager.loadRepository(location, monitor);
+			if (!known) {
+				// keep the cache out of the known repositories
+				manager.removeRepository(location);
+			}
+			// touch the entry so that it is evicted last
+			file.setLastModified(System.currentTimeMillis());
+			return new Resolution(units, roots);
+		} catch (CoreException e) {
+			return null;
+		}
+	}
+
+	private static Map<URI, String> readTimestamps(Properties properties) {
+		Map<URI, String> timestamps = new LinkedHashMap<>();
+		for (int i = 0; properties.containsKey(KEY_REPOSITORY + i); i++) {
+			timestamps.put(URI.create(properties.getProperty(KEY_REPOSITORY + i)),
+					properties.getProperty(KEY_TIMESTAMP + i));
+		}
+		return timestamps;
+	}
+
+	/**
+	 * Stores the resolution of the given provisioned profile with the given
+	 * key. Failures are logged and leave no entry behind.
+	 *
+	 * @param key the key of the resolution
+	 * @param timestamps timestamps of the repositories the profile was
+	 *            resolved against
+	 * @param profile the provisioned profile
+	 */
+	static void write(String key, Map<URI, String> timestamps, IProfile profile) {
+		File directory = getLocation().append(key).toFile();
+		CoreUtility.deleteContent(directory);
+		if (!directory.mkdirs()) {
+			return;
+		}
+		URI location = directory.toURI();
+		try {
+			IMetadataRepositoryManager manager = P2TargetUtils.getRepoManager();
+			IMetadataRepository repository = manager.createRepository(location, key,
+					IMetadataRepositoryManager.TYPE_SIMPLE_REPOSITORY, Map.of(IRepository.PROP_COMPRESSED,
+							Boolean.toString(true)));
+			manager.removeRepository(location);
+			repository.addInstallableUnits(profile.query(QueryUtil.ALL_UNITS, null).toUnmodifiableSet());
+
+			Properties properties = new Properties();
+			properties.setProperty(KEY_VERSION, VERSION);
+			int i = 0;
+			for (Entry<URI, String> entry : timestamps.entrySet()) {
+				properties.setProperty(KEY_REPOSITORY + i, entry.getKey().toString());
+				properties.setProperty(KEY_TIMESTAMP + i, entry.getValue());
+				i++;
+			}
+			i = 0;
+			IUProfilePropertyQuery query = new IUProfilePropertyQuery(P2TargetUtils.PROP_INSTALLED_IU,
+					Boolean.toString(true));
+			for (IInstallableUnit unit : profile.query(query, null)) {
+				properties.setProperty(KEY_ROOT + i, unit.getId());
+				properties.setProperty(KEY_ROOT + i + KEY_ROOT_VERSION, unit.getVersion().toString());
+				String declarations = profile.getInstallableUnitProperty(unit,
+						P2TargetUtils.PROP_IU_VERSION_DECLARATION);
+				if (declarations != null) {
+					properties.setProperty(KEY_ROOT + i + KEY_ROOT_DECLARATION, declarations);
+				}
+				i++;
+			}
+			// written last, an entry without it is never used
+			try (OutputStream out = new FileOutputStream(new File(directory, RESOLUTION_FILE))) {
+				properties.store(out, null);
+			}
+		} catch (CoreException | IOException e) {
+			PDECore.log(e);
+			CoreUtility.deleteContent(directory);
+			return;
+		}
+		evict();
+	}
+
+	/**
+	 * Deletes the resolution with the given key, if any.
+	 *
+	 * @param key the key of the resolution
+	 */
+	static void delete(String key) {
+		CoreUtility.deleteContent(getLocation().append(key).toFile());
+	}
+
+	/**
+	 * Deletes the least recently used resolutions beyond {@link #MAX_ENTRIES}
+	 */
+	private static void evict() {
+		File[] entries = getLocation().toFile().listFiles(File::isDirectory);
+		if (entries == null || entries.length <= MAX_ENTRIES) {
+			return;
+		}
+		Arrays.sort(entries, Comparator.comparingLong(
+				(File entry) -> new File(entry, RESOLUTION_FILE).lastModified()).reversed());
+		for (int i = MAX_ENTRIES; i < entries.length; i++) {
+			CoreUtility.deleteContent(entries[i]);
+		}
+	}
+}
@@ -0,0 +1,287 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.launching.launcher;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.plugin.TargetPlatform;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+
+/**
+ * Remembers the bundles computed for the last launches and the configuration
+ * files written for them, keyed by configuration area. A launch can reuse them
+ * as long as the fingerprint of its inputs, i.e. the attributes of the launch
+ * configuration, the generation of the target state and the locations and
+ * stamps of the workspace models, is unchanged and the written files were not
+ * modified or deleted since.
+ */
+public final class LaunchPreparationCache {
+
+	private static final int MAX_ENTRIES = 32;
+
+	private static final String CLASSPATH_FILE = ".classpath"; //$NON-NLS-1$
+	private static final String CONFIG_URL = "org.eclipse.equinox.simpleconfigurator.configUrl"; //$NON-NLS-1$
+
+	private static final Map<File, Preparation> PREPARATIONS = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Entry<File, Preparation> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * The bundles of a launch and the configuration files written for them
+	 */
+	public static final class Preparation {
+
+		private final String fingerprint;
+		private final Map<IPluginModelBase, String> models;
+		private final Map<String, List<IPluginModelBase>> allBundles;
+
+		private Properties configIni;
+		private Path devProperties;
+		private Map<File, Long> stamps;
+
+		Preparation(String fingerprint, Map<IPluginModelBase, String> models,
+				Map<String, List<IPluginModelBase>> allBundles) {
+			this.fingerprint = fingerprint;
+			this.models = models;
+			this.allBundles = allBundles;
+		}
+
+		/**
+		 * @return the bundles to launch mapped to their start level and auto
+		 *         start setting
+		 */
+		public Map<IPluginModelBase, String> getModels() {
+			return models;
+		}
+
+		/**
+		 * @return the bundles to launch grouped by id
+		 */
+		public Map<String, List<IPluginModelBase>> getAllBundles() {
+			return allBundles;
+		}
+
+		/**
+		 * Returns whether the configuration files were written for this
+		 * preparation and are still unchanged on disk.
+		 *
+		 * @return whether the configuration files can be reused
+		 */
+		public synchronized boolean isWritten() {
+			if (stamps == null) {
+				return false;
+			}
+			for (Entry<File, Long> entry : stamps.entrySet()) {
+				if (getStamp(entry.getKey()) != entry.getValue().longValue()) {
+					stamps = null;
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @return the properties written to the config.ini
+		 */
+		public synchronized Properties getConfigIni() {
+			return configIni;
+		}
+
+		/**
+		 * @return the location of the written dev.properties
+		 */
+		public synchronized Path getDevProperties() {
+			return devProperties;
+		}
+
+		/**
+		 * Records the configuration files written for this preparation.
+		 *
+		 * @param configDir the configuration area
+		 * @param configIni the properties written to the config.ini
+		 * @param devProperties the location of the written dev.properties
+		 */
+		public synchronized void written(File configDir, Properties configIni, Path devProperties) {
+			Map<File, Long> written = new LinkedHashMap<>();
+			for (File file : getWrittenFiles(configDir, configIni, devProperties)) {
+				long stamp = getStamp(file);
+				if (stamp == 0) {
+					return;
+				}
+				written.put(file, Long.valueOf(stamp));
+			}
+			this.configIni = configIni;
+			this.devProperties = devProperties;
+			this.stamps = written;
+		}
+	}
+
+	private LaunchPreparationCache() {
+	}
+
+	/**
+	 * Returns the preparation of the given configuration area if it was
+	 * computed for the given fingerprint.
+	 *
+	 * @param configDir the configuration area of the launch
+	 * @param fingerprint the fingerprint of the launch inputs
+	 * @return the preparation or <code>null</code>
+	 */
+	public static Preparation get(File configDir, String fingerprint) {
+		synchronized (PREPARATIONS) {
+			Preparation preparation = PREPARATIONS.get(configDir);
+			return preparation != null && preparation.fingerprint.equals(fingerprint) ? preparation : null;
+		}
+	}
+
+	/**
+	 * Remembers the bundles computed for a launch with the given fingerprint.
+	 *
+	 * @param configDir the configuration area of the launch
+	 * @param fingerprint the fingerprint of the launch inputs
+	 * @param models the bundles to launch mapped to their start level and auto
+	 *            start setting
+	 * @param allBundles the bundles to launch grouped by id
+	 * @return the new preparation
+	 */
+	public static Preparation put(File configDir, String fingerprint, Map<IPluginModelBase, String> models,
+			Map<String, List<IPluginModelBase>> allBundles) {
+		Preparation preparation = new Preparation(fingerprint, models, allBundles);
+		synchronized (PREPARATIONS) {
+			PREPARATIONS.put(configDir, preparation);
+		}
+		return preparation;
+	}
+
+	/**
+	 * Forgets all preparations, e.g. when the plug-in is stopped.
+	 */
+	public static void clear() {
+		synchronized (PREPARATIONS) {
+			PREPARATIONS.clear();
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the inputs of a launch, or returns
+	 * <code>null</code> if the launch writes files that can not be validated
+	 * and must therefore always be prepared from scratch. This is the case when
+	 * a p2 profile is generated or when the config.ini is created from a
+	 * template.
+	 *
+	 * @param configuration the launch configuration
+	 * @param configDir the configuration area of the launch
+	 * @return the fingerprint or <code>null</code>
+	 * @throws CoreException if the attributes of the configuration can not be
+	 *             read
+	 */
+	public static String computeFingerprint(ILaunchConfiguration configuration, File configDir) throws CoreException {
+		if (configuration.getAttribute(IPDELauncherConstants.GENERATE_PROFILE, false)
+				|| !configuration.getAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, true)) {
+			return null;
+		}
+		PDEState state = TargetPlatformHelper.getPDEState();
+		if (state == null) {
+			return null;
+		}
+		StringBuilder buffer = new StringBuilder();
+		buffer.append(configDir.getAbsolutePath()).append('\n');
+		for (Entry<String, Object> entry : new TreeMap<>(configuration.getAttributes()).entrySet()) {
+			Object value = entry.getValue();
+			if (value instanceof Collection<?> collection && !(value instanceof List)) {
+				// sets have no defined iteration order
+				TreeSet<String> sorted = new TreeSet<>();
+				collection.forEach(element -> sorted.add(String.valueOf(element)));
+				value = sorted;
+			} else if (value instanceof Map<?, ?> map) {
+				TreeMap<String, String> sorted = new TreeMap<>();
+				map.forEach((k, v) -> sorted.put(String.valueOf(k), String.valueOf(v)));
+				value = sorted;
+			}
+			buffer.append(entry.getKey()).append('=').append(value).append('\n');
+		}
+		buffer.append(TargetPlatform.getOS()).append(',').append(TargetPlatform.getWS()).append(',')
+				.append(TargetPlatform.getOSArch()).append(',').append(TargetPlatform.getNL()).append('\n');
+		buffer.append(TargetPlatform.getLocation()).append('\n');
+		buffer.append(state.getGeneration()).append(':').append(state.getState().getTimeStamp()).append('\n');
+		for (IPluginModelBase model : PluginRegistry.getWorkspaceModels()) {
+			buffer.append(model.getInstallLocation()).append(':').append(model.getTimeStamp());
+			IResource resource = model.getUnderlyingResource();
+			if (resource != null) {
+				IProject project = resource.getProject();
+				buffer.append(':').append(PDEProject.getManifest(project).getModificationStamp());
+				buffer.append(':').append(PDEProject.getBuildProperties(project).getModificationStamp());
+				buffer.append(':').append(project.getFile(CLASSPATH_FILE).getModificationStamp());
+			}
+			buffer.append('\n');
+		}
+		for (IFeatureModel model : PDECore.getDefault().getFeatureModelManager().getWorkspaceModels()) {
+			buffer.append(model.getInstallLocation()).append(':').append(model.getTimeStamp()).append('\n');
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			return HexFormat.of().formatHex(digest.digest(buffer.toString().getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static List<File> getWrittenFiles(File configDir, Properties configIni, Path devProperties) {
+		File configIniFile = new File(configDir, "config.ini"); //$NON-NLS-1$
+		String configUrl = configIni.getProperty(CONFIG_URL);
+		if (configUrl != null && configUrl.startsWith("file:")) { //$NON-NLS-1$
+			try {
+				return List.of(configIniFile, devProperties.toFile(), new File(URI.create(configUrl)));
+			} catch (IllegalArgumentException e) {
+				// not a local file, only validate the config.ini
+			}
+		}
+		return List.of(configIniFile, devProperties.toFile());
+	}
+
+	private static long getStamp(File file) {
+		long lastModified = file.lastModified();
+		return lastModified == 0 ? 0 : lastModified ^ (file.length() << 32);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2023 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,10 @@ import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -33,7 +35,6 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.launching.IVMInstall;
 import org.eclipse.jdt.launching.JavaRuntime;
 import org.eclipse.jdt.launching.environments.IExecutionEnvironment;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 import org.eclipse.pde.internal.core.BundleValidationOperation;
@@ -41,6 +42,19 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 
 public class LaunchValidationOperation implements IWorkspaceRunnable {
 
+	/**
+	 * The java profile properties of the system bundle, keyed by the execution
+	 * environment. Only those of the last used system bundle are kept.
+	 */
+	private static volatile ProfileProperties fgProfileProperties;
+
+	/**
+	 * The java profile properties read from a system bundle, identified by its
+	 * location and modification time
+	 */
+	private record ProfileProperties(String systemBundle, Map<String, Optional<Properties>> properties) {
+	}
+
 	private BundleValidationOperation fOperation;
 	public final ILaunchConfiguration fLaunchConfiguration;
 	public final String fLaunchMode;
@@ -100,6 +114,18 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 			return null;
 		}
 		File location = new File(model.getInstallLocation());
+		String systemBundle = location.getAbsolutePath() + '@' + location.lastModified();
+		ProfileProperties cache = fgProfileProperties;
+		if (cache == null || !cache.systemBundle().equals(systemBundle)) {
+			// the system bundle changed, the properties of the previous one are dropped
+			cache = new ProfileProperties(systemBundle, new ConcurrentHashMap<>());
+			fgProfileProperties = cache;
+		}
+		return cache.properties().computeIfAbsent(ee, k -> Optional.ofNullable(readJavaProfileProperties(location, ee)))
+				.orElse(null);
+	}
+
+	private static Properties readJavaProfileProperties(File location, String ee) {
 		String filename = ee.replace('/', '_') + ".profile"; //$NON-NLS-1$
 		try {
 			// find the input stream to the profile properties file
@@ -138,11 +164,11 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.isEmpty();
 	}
 
-	protected State getState() {
-		return fOperation.getState();
+	protected boolean containsBundle(String symbolicName) {
+		return fOperation.containsBundle(symbolicName);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -78,6 +78,8 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 
 	protected File fConfigDir = null;
 	String launchMode;
+	// the time spent writing the configuration files while computing the program arguments
+	long fConfigFilesTime;
 
 	/**
 	 * This field will control the addition of argument --add-modules=ALL-SYSTEM in the VM arguments
@@ -136,6 +138,8 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 	@Override
 	public void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		fConfigDir = null;
+		fConfigFilesTime = 0;
+		long start = System.currentTimeMillis();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
 		try {
 			preLaunchCheck(configuration, launch, subMonitor.split(50));
@@ -146,11 +150,15 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 			}
 			throw e;
 		}
+		long checked = System.currentTimeMillis();
 
 		VMRunnerConfiguration runnerConfig = new VMRunnerConfiguration(getMainClass(), getClasspath(configuration));
+		long classpath = System.currentTimeMillis();
 		IVMInstall launcher = VMHelper.createLauncher(configuration);
 		runnerConfig.setVMArguments(updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), launcher));
+		long vmArguments = System.currentTimeMillis();
 		runnerConfig.setProgramArguments(getProgramArguments(configuration));
+		long programArguments = System.currentTimeMillis();
 		runnerConfig.setWorkingDirectory(getWorkingDirectory(configuration).getAbsolutePath());
 		runnerConfig.setEnvironment(getEnvironment(configuration));
 		runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
@@ -160,11 +168,23 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		setDefaultSourceLocator(configuration);
 		manageLaunch(launch);
 		IVMRunner runner = getVMRunner(configuration, mode);
+		long prepared = System.currentTimeMillis();
 		if (runner != null)
 			runner.run(runnerConfig, launch, subMonitor.split(25));
 		else
 			subMonitor.setCanceled(true);
 
+		if (PDELaunchingPlugin.DEBUG_LAUNCH) {
+			long end = System.currentTimeMillis();
+			System.out.println("Launch of " + configuration.getName() + " took " + (end - start) + " ms:"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			System.out.println("  pre-launch check:  " + (checked - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  classpath:         " + (classpath - checked) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  VM arguments:      " + (vmArguments - classpath) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  program arguments: " + (programArguments - vmArguments - fConfigFilesTime) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  config files:      " + fConfigFilesTime + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  launch setup:      " + (prepared - programArguments) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("  VM runner:         " + (end - prepared) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
 	}
 
 	private String[] updateVMArgumentWithAdditionalArguments(String[] args, IVMInstall vmInstall) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2024 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@
 package org.eclipse.pde.launching;
 
 import java.io.File;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -41,10 +42,13 @@ import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.ifeature.IFeature;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 import org.eclipse.pde.internal.launching.IPDEConstants;
+import org.eclipse.pde.internal.launching.PDELaunchingPlugin;
 import org.eclipse.pde.internal.launching.launcher.BundleLauncherHelper;
 import org.eclipse.pde.internal.launching.launcher.EclipsePluginValidationOperation;
 import org.eclipse.pde.internal.launching.launcher.LaunchArgumentsHelper;
 import org.eclipse.pde.internal.launching.launcher.LaunchConfigurationHelper;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache.Preparation;
 import org.eclipse.pde.internal.launching.launcher.LaunchPluginValidator;
 import org.eclipse.pde.internal.launching.launcher.LauncherUtils;
 import org.eclipse.pde.internal.launching.launcher.RequirementHelper;
@@ -90,6 +94,9 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 
 	private Map<IFeature, Boolean> fFeatures;
 
+	// the bundles and configuration files of the last launch with the same inputs
+	private Preparation fPreparation;
+
 	@Override
 	public String[] getProgramArguments(ILaunchConfiguration configuration) throws CoreException {
 		ArrayList<String> programArgs = new ArrayList<>();
@@ -119,16 +126,31 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 			programArgs.add(fWorkspaceLocation);
 		}
 
-		String productID = LaunchConfigurationHelper.getProductID(configuration);
-		Properties prop = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fFeatures, fModels, getConfigDir(configuration));
+		Properties prop;
+		Path devProperties;
+		if (fPreparation != null && fPreparation.isWritten()) {
+			// nothing changed since the last launch, reuse its configuration area
+			prop = fPreparation.getConfigIni();
+			devProperties = fPreparation.getDevProperties();
+			TargetPlatformHelper.checkPluginPropertiesConsistency(fAllBundles, getConfigDir(configuration));
+		} else {
+			long start = System.currentTimeMillis();
+			String productID = LaunchConfigurationHelper.getProductID(configuration);
+			prop = LaunchConfigurationHelper.createConfigIniFile(configuration, productID, fAllBundles, fFeatures, fModels, getConfigDir(configuration));
+			TargetPlatformHelper.checkPluginPropertiesConsistency(fAllBundles, getConfigDir(configuration));
+			devProperties = ClasspathHelper.getDevEntriesProperties(getConfigDir(configuration).toString() + "/dev.properties", fAllBundles); //$NON-NLS-1$
+			if (fPreparation != null) {
+				fPreparation.written(getConfigDir(configuration), prop, devProperties);
+			}
+			fConfigFilesTime = System.currentTimeMillis() - start;
+		}
 		boolean showSplash = prop.containsKey("osgi.splashPath") || prop.containsKey("splashLocation"); //$NON-NLS-1$ //$NON-NLS-2$
-		TargetPlatformHelper.checkPluginPropertiesConsistency(fAllBundles, getConfigDir(configuration));
 		programArgs.add("-configuration"); //$NON-NLS-1$
 		programArgs.add(IPath.fromOSString(getConfigDir(configuration).getPath()).addTrailingSeparator().toPath().toUri().toString());
 
 		// add the output folder names
 		programArgs.add("-dev"); //$NON-NLS-1$
-		programArgs.add(ClasspathHelper.getDevEntriesProperties(getConfigDir(configuration).toString() + "/dev.properties", fAllBundles).toUri().toString()); //$NON-NLS-1$
+		programArgs.add(devProperties.toUri().toString());
 
 		String[] args = super.getProgramArguments(configuration);
 		Collections.addAll(programArgs, args);
@@ -213,8 +235,22 @@ public class EclipseApplicationLaunchConfiguration extends AbstractPDELaunchConf
 		} else {
 			fFeatures = null;
 		}
-		fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false, fFeatures);
-		fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId()));
+		String fingerprint = LaunchPreparationCache.computeFingerprint(configuration, getConfigDir(configuration));
+		fPreparation = fingerprint != null ? LaunchPreparationCache.get(getConfigDir(configuration), fingerprint) : null;
+		if (PDELaunchingPlugin.DEBUG_LAUNCH) {
+			System.out.println("Launch inputs of " + configuration.getName() //$NON-NLS-1$
+					+ (fPreparation != null ? " unchanged, reusing bundles" : " changed, computing bundles")); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		if (fPreparation != null) {
+			fModels = fPreparation.getModels();
+			fAllBundles = fPreparation.getAllBundles();
+		} else {
+			fModels = BundleLauncherHelper.getMergedBundleMap(configuration, false, fFeatures);
+			fAllBundles = fModels.keySet().stream().collect(Collectors.groupingBy(m -> m.getPluginBase().getId()));
+			if (fingerprint != null) {
+				fPreparation = LaunchPreparationCache.put(getConfigDir(configuration), fingerprint, fModels, fAllBundles);
+			}
+		}
 
 		validateConfigIni(configuration);
 		super.preLaunchCheck(configuration, launch, monitor);
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * A fixed-size ring buffer for the captured events that have not been shown
+ * yet. Events are added by the threads that publish them and drained by the
+ * UI. When the buffer is full, the oldest event is dropped.
+ */
+public class CapturedEventBuffer {
+	private final CapturedEvent[] events;
+
+	private int head;
+
+	private int size;
+
+	private long captured;
+
+	private long dropped;
+
+	public CapturedEventBuffer(int capacity) {
+		events = new CapturedEvent[capacity];
+	}
+
+	public synchronized void add(CapturedEvent event) {
+		captured++;
+		if (size == events.length) {
+			events[head] = event;
+			head = (head + 1) % events.length;
+			dropped++;
+		} else {
+			events[(head + size) % events.length] = event;
+			size++;
+		}
+	}
+
+	/**
+	 * Removes the events from the buffer.
+	 *
+	 * @return the events, oldest first
+	 */
+	public synchronized List<CapturedEvent> drain() {
+		List<CapturedEvent> result = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int index = (head + i) % events.length;
+			result.add(events[index]);
+			events[index] = null;
+		}
+		head = 0;
+		size = 0;
+		return result;
+	}
+
+	/**
+	 * Removes the events and resets the counters.
+	 */
+	public synchronized void clear() {
+		Arrays.fill(events, null);
+		head = 0;
+		size = 0;
+		captured = 0;
+		dropped = 0;
+	}
+
+	/**
+	 * @return the number of events added since the buffer was cleared
+	 */
+	public synchronized long getCaptured() {
+		return captured;
+	}
+
+	/**
+	 * @return the number of events dropped since the buffer was cleared
+	 */
+	public synchronized long getDropped() {
+		return dropped;
+	}
+}
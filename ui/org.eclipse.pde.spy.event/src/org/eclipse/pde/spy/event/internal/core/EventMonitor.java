@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,6 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.Set;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -23,6 +22,7 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -35,6 +35,13 @@ public class EventMonitor {
 	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
 			UIEventPublisher.class.getName().hashCode());
 
+	/**
+	 * Maximum number of stack frames walked to find the publisher of an event
+	 */
+	private static final int MAX_STACK_DEPTH = 64;
+
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
 	private Collection<CapturedEventFilter> filters;
 
 	private final IEventBroker eventBroker;
@@ -50,7 +57,6 @@ public class EventMonitor {
 
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
 
 		for (String propertyName : event.getPropertyNames()) {
 			Object value = event.getProperty(propertyName);
@@ -60,8 +66,12 @@ public class EventMonitor {
 			}
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
+		// the stack is only walked for events that pass the other filters
+		if (shouldBeCaptured(capturedEvent, false)) {
+			capturedEvent.setPublisherClassName(getPublisherClassName());
+			if (shouldBeCaptured(capturedEvent, true)) {
+				listener.newEvent(capturedEvent);
+			}
 		}
 	};
 
@@ -82,11 +92,11 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
+	private boolean shouldBeCaptured(CapturedEvent event, boolean publisherFilters) {
 		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
+			for (CapturedEventFilter filter : filters) {
+				boolean publisherFilter = ItemToFilter.Publisher.equals(filter.getItemToFilter());
+				if (publisherFilter == publisherFilters && !getEventFilterMatcher().matches(event, filter)) {
 					return false;
 				}
 			}
@@ -95,18 +105,12 @@ public class EventMonitor {
 	}
 
 	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
+		return STACK_WALKER.walk(frames -> frames.limit(MAX_STACK_DEPTH)
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName())).skip(1)
+				.dropWhile(frame -> EVENT_HELPER_CLASSES.contains(frame.getClassName().hashCode())).findFirst()
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse("")); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,10 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -349,8 +353,28 @@ public class CapturedEventTree extends TreeViewer {
 		return -1;
 	}
 
-	public void addEvent(CapturedEvent event) {
-		capturedEvents.add(event);
+	/**
+	 * Adds the given events and removes the oldest ones when there are more
+	 * events than the given maximum.
+	 *
+	 * @param events the events to add, oldest first
+	 * @param maxEvents the maximum number of events to show
+	 * @return the number of events that were removed or not added
+	 */
+	public int addEvents(List<CapturedEvent> events, int maxEvents) {
+		int skipped = Math.max(0, events.size() - maxEvents);
+		capturedEvents.addAll(events.subList(skipped, events.size()));
+
+		int excess = capturedEvents.size() - maxEvents;
+		if (excess > 0) {
+			Set<CapturedEvent> oldest = Collections.newSetFromMap(new IdentityHashMap<>());
+			for (int i = 0; i < excess; i++) {
+				oldest.add(capturedEvents.get(i));
+			}
+			capturedEvents.removeAll(oldest);
+			return skipped + excess;
+		}
+		return skipped;
 	}
 
 	public void setListener(ICapturedEventTreeListener listener) {
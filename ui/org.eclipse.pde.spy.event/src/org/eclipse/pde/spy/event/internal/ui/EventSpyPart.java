@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,13 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -34,6 +36,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -43,6 +46,28 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
+	/**
+	 * Maximum number of captured events kept, older events are dropped
+	 */
+	private static final int MAX_EVENTS = 10000;
+
+	/**
+	 * Interval in milliseconds in which captured events are shown
+	 */
+	private static final int REFRESH_INTERVAL = 500;
+
+	private final CapturedEventBuffer eventBuffer = new CapturedEventBuffer(MAX_EVENTS);
+
+	private final Runnable refresher = this::refreshCapturedEvents;
+
+	private boolean capturing;
+
+	private long removedEvents;
+
+	private long lastCaptured;
+
+	private Label statisticsLabel;
+
 	private CapturedEventTree capturedEventTree;
 
 	private CapturedEventFilters capturedEventFilters;
@@ -95,6 +120,8 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	@PreDestroy
 	private void saveDialogMemento() {
+		stopCaptureEvents();
+
 		SpyPartMemento memento = null;
 		String baseTopic = capturedEventFilters.getBaseTopic();
 		Collection<CapturedEventFilter> filters = capturedEventFilters.getFilters();
@@ -141,6 +168,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		statisticsLabel = new Label(actionBar, SWT.NONE);
+		statisticsLabel.setLayoutData(new RowData(300, SWT.DEFAULT));
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -166,11 +196,16 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	public void captureEvents() {
 		capturedEventTree.removeAll();
+		eventBuffer.clear();
+		removedEvents = 0;
+		lastCaptured = 0;
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
 			eventMonitor.setNewEventListener(this);
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		capturing = true;
+		statisticsLabel.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -178,12 +213,37 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
 		}
+		capturing = false;
+		if (!statisticsLabel.isDisposed()) {
+			statisticsLabel.getDisplay().timerExec(-1, refresher);
+			refreshCapturedEvents();
+		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
 	@Override
 	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+		// called by the publishing thread, the events are shown by the
+		// refresher
+		eventBuffer.add(event);
+	}
+
+	private void refreshCapturedEvents() {
+		if (statisticsLabel.isDisposed()) {
+			return;
+		}
+		List<CapturedEvent> events = eventBuffer.drain();
+		if (!events.isEmpty()) {
+			removedEvents += capturedEventTree.addEvents(events, MAX_EVENTS);
+		}
+		long captured = eventBuffer.getCaptured();
+		long rate = (captured - lastCaptured) * 1000 / REFRESH_INTERVAL;
+		lastCaptured = captured;
+		statisticsLabel.setText(String.format(Messages.EventSpyPart_CapturedEvents, captured,
+				eventBuffer.getDropped() + removedEvents, capturing ? rate : 0));
+		if (capturing) {
+			statisticsLabel.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
+		}
 	}
 
 	@SuppressWarnings("restriction")
@@ -1,12 +1,18 @@
 package org.eclipse.pde.core.tests.internal;
 
+import org.eclipse.pde.core.tests.internal.bnd.TargetRepositoryTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
 @SuiteClasses({ //
+	BundleValidationOperationTest.class, //
 	DependencyManagerTest.class, //
+	PDEStateSnapshotTest.class, //
+	PDEStateTest.class, //
+	SchemaRegistryTest.class, //
+	TargetRepositoryTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
 })
@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.eclipse.pde.internal.core.TargetPlatformHelper;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+/**
+ * Tests that validating bundles incrementally, based on the state of the
+ * previous validation, has the results of a full validation.
+ */
+public class BundleValidationOperationTest {
+
+	private static final String MODE = "pde.test.validation";
+
+	private static int fullValidations;
+
+	private State state;
+	private long nextId;
+
+	private record Result(boolean hasErrors, Map<String, List<String>> errors) {
+	}
+
+	@Before
+	public void setUp() {
+		state = StateObjectFactory.defaultFactory.createState(true);
+	}
+
+	@Test
+	public void testAddedBundles() throws Exception {
+		IPluginModelBase b = createModel("b", "1.0.0", Constants.REQUIRE_BUNDLE, "a");
+		IPluginModelBase c = createModel("c", "1.0.0", Constants.IMPORT_PACKAGE, "p");
+		IPluginModelBase a = createModel("a", "1.0.0", null, null);
+		IPluginModelBase d = createModel("d", "1.0.0", Constants.EXPORT_PACKAGE, "p");
+
+		Result result = assertIncrementalMatchesFull(Set.of(b, c), Set.of(a, b, c, d));
+		assertThat(result.hasErrors()).isFalse();
+	}
+
+	@Test
+	public void testRemovedBundles() throws Exception {
+		IPluginModelBase a = createModel("a", "1.0.0", Constants.EXPORT_PACKAGE, "p");
+		IPluginModelBase b = createModel("b", "1.0.0", Constants.REQUIRE_BUNDLE, "a");
+		IPluginModelBase c = createModel("c", "1.0.0", Constants.REQUIRE_BUNDLE, "b");
+		IPluginModelBase d = createModel("d", "1.0.0", Constants.IMPORT_PACKAGE, "p");
+
+		Result result = assertIncrementalMatchesFull(Set.of(a, b, c, d), Set.of(b, c, d));
+		assertThat(result.errors()).containsOnlyKeys("b_1.0.0", "c_1.0.0", "d_1.0.0");
+	}
+
+	@Test
+	public void testAddedSingleton() throws Exception {
+		IPluginModelBase a1 = createModel("a;singleton:=true", "1.0.0", null, null);
+		IPluginModelBase b = createModel("b", "1.0.0", Constants.REQUIRE_BUNDLE, "a");
+		IPluginModelBase a2 = createModel("a;singleton:=true", "2.0.0", null, null);
+
+		Result result = assertIncrementalMatchesFull(Set.of(a1, b), Set.of(a1, a2, b));
+		assertThat(result.hasErrors()).isTrue();
+	}
+
+	@Test
+	public void testRemovedSingleton() throws Exception {
+		IPluginModelBase a1 = createModel("a;singleton:=true", "1.0.0", null, null);
+		IPluginModelBase a2 = createModel("a;singleton:=true", "2.0.0", null, null);
+		IPluginModelBase b = createModel("b", "1.0.0", Constants.REQUIRE_BUNDLE, "a;bundle-version=\"[1.0.0,2.0.0)\"");
+
+		Result result = assertIncrementalMatchesFull(Set.of(a1, a2, b), Set.of(a1, b));
+		assertThat(result.hasErrors()).isFalse();
+	}
+
+	private Result assertIncrementalMatchesFull(Set<IPluginModelBase> base, Set<IPluginModelBase> changed)
+			throws Exception {
+		validate(base, "incremental");
+		Result incremental = validate(changed, "incremental");
+		// other platform properties than those of the previous validation
+		// prevent the reuse of its state
+		Result full = validate(changed, "full" + fullValidations++);
+		assertThat(incremental).isEqualTo(full);
+		return full;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Result validate(Set<IPluginModelBase> models, String mode) throws Exception {
+		Dictionary<String, String> properties = TargetPlatformHelper.getTargetEnvironment();
+		properties.put(MODE, mode);
+		BundleValidationOperation operation = new BundleValidationOperation(new LinkedHashSet<>(models),
+				new Dictionary[] { properties });
+		operation.run(null);
+
+		Map<String, List<String>> errors = new TreeMap<>();
+		for (Entry<Object, Object[]> entry : operation.getResolverErrors().entrySet()) {
+			BundleDescription bundle = (BundleDescription) entry.getKey();
+			List<String> problems = new ArrayList<>();
+			for (Object problem : entry.getValue()) {
+				if (problem instanceof IStatus status) {
+					problems.add(status.getMessage());
+					for (IStatus child : status.getChildren()) {
+						problems.add(child.getMessage());
+					}
+				} else {
+					problems.add(problem.toString());
+				}
+			}
+			problems.sort(null);
+			errors.put(bundle.getSymbolicName() + '_' + bundle.getVersion(), problems);
+		}
+		return new Result(operation.hasErrors(), errors);
+	}
+
+	private IPluginModelBase createModel(String symbolicName, String version, String header, String value)
+			throws Exception {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, version);
+		if (header != null) {
+			manifest.put(header, value);
+		}
+		String location = "/bundles/" + symbolicName + '_' + version;
+		BundleDescription bundle = StateObjectFactory.defaultFactory.createBundleDescription(state, manifest,
+				location, nextId++);
+		IPluginModelBase model = mock(IPluginModelBase.class);
+		when(model.getBundleDescription()).thenReturn(bundle);
+		return model;
+	}
+}
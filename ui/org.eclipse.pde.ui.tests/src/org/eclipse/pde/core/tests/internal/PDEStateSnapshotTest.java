@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that a {@link PDEState} restored from a snapshot matches the bundles
+ * of the target.
+ */
+public class PDEStateSnapshotTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRestoreUnchanged() throws Exception {
+		Path plugins = folder.newFolder("plugins").toPath();
+		File snapshot = new File(folder.getRoot(), "snapshot");
+		URI[] target = { createBundle(plugins, "bundle.a", "1.0.0"), createBundle(plugins, "bundle.b", "1.0.0") };
+
+		PDEState created = new PDEState(target, true, false, snapshot, null);
+		assertTrue("Snapshot should have been written", new File(snapshot, ".stamps").isFile());
+		PDEState restored = new PDEState(target, true, false, snapshot, null);
+
+		Map<String, BundleDescription> expected = getBundles(created);
+		Map<String, BundleDescription> actual = getBundles(restored);
+		assertEquals(expected.keySet(), actual.keySet());
+		for (BundleDescription desc : actual.values()) {
+			BundleDescription original = expected.get(desc.getSymbolicName() + '_' + desc.getVersion());
+			assertEquals("Bundle id changed", original.getBundleId(), desc.getBundleId());
+			assertEquals("Auxiliary data not restored", created.getPluginName(original.getBundleId()),
+					restored.getPluginName(desc.getBundleId()));
+		}
+	}
+
+	@Test
+	public void testRestoreChanged() throws Exception {
+		Path plugins = folder.newFolder("plugins").toPath();
+		File snapshot = new File(folder.getRoot(), "snapshot");
+		URI a = createBundle(plugins, "bundle.a", "1.0.0");
+		URI b = createBundle(plugins, "bundle.b", "1.0.0");
+		new PDEState(new URI[] { a, b }, true, false, snapshot, null);
+
+		// change b, remove a and add c
+		File fileB = new File(b);
+		long lastModified = fileB.lastModified();
+		TargetPlatformUtil.createDummyBundle(fileB.toPath(), "bundle.b", "2.0.0");
+		fileB.setLastModified(lastModified + 2000);
+		URI c = createBundle(plugins, "bundle.c", "1.0.0");
+
+		PDEState restored = new PDEState(new URI[] { b, c }, true, false, snapshot, null);
+		Map<String, BundleDescription> bundles = getBundles(restored);
+		assertEquals("[bundle.b_2.0.0, bundle.c_1.0.0]", bundles.keySet().toString());
+		BundleDescription descB = bundles.get("bundle.b_2.0.0");
+		assertNotNull(descB);
+		assertEquals("bundle b", restored.getPluginName(descB.getBundleId()));
+	}
+
+	private static Map<String, BundleDescription> getBundles(PDEState state) {
+		Map<String, BundleDescription> bundles = new TreeMap<>();
+		for (BundleDescription desc : state.getState().getBundles()) {
+			bundles.put(desc.getSymbolicName() + '_' + desc.getVersion(), desc);
+		}
+		return bundles;
+	}
+
+	private static URI createBundle(Path directory, String id, String version) throws IOException {
+		return TargetPlatformUtil.createDummyBundle(directory.resolve(id + '_' + version + ".jar"), id, version);
+	}
+}
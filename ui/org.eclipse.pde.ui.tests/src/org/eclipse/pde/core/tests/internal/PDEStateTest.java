@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDEState;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the creation of a {@link PDEState} from target locations.
+ */
+public class PDEStateTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Manifests are read in parallel, the bundle ids must still follow the
+	 * order of the target locations.
+	 */
+	@Test
+	public void testBundleIdsFollowTargetOrder() throws Exception {
+		Path plugins = folder.newFolder("plugins").toPath();
+		List<URI> target = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			target.add(createBundle(plugins, "bundle.n" + i));
+			if (i % 10 == 0) {
+				// a jar without manifest is not a bundle
+				Path file = plugins.resolve("file" + i + ".jar");
+				try (OutputStream stream = Files.newOutputStream(file);
+						ZipOutputStream out = new ZipOutputStream(stream)) {
+					out.putNextEntry(new ZipEntry("readme.txt"));
+				}
+				target.add(file.toUri());
+			}
+		}
+		PDEState state = new PDEState(target.toArray(URI[]::new), true, false, null);
+		long previous = -1;
+		for (int i = 0; i < 50; i++) {
+			BundleDescription desc = state.getState().getBundle("bundle.n" + i, null);
+			assertNotNull("Missing bundle.n" + i, desc);
+			assertTrue("Bundle ids out of order", desc.getBundleId() > previous);
+			previous = desc.getBundleId();
+		}
+		assertEquals(50, state.getState().getBundles().length);
+	}
+
+	@Test
+	public void testAddAndRemoveTargetLocations() throws Exception {
+		Path plugins = folder.newFolder("plugins").toPath();
+		URI a = createBundle(plugins, "bundle.a");
+		URI b = createBundle(plugins, "bundle.b");
+		PDEState state = new PDEState(new URI[] { a, b }, true, false, null);
+		assertEquals(2, state.getTargetStamps().size());
+
+		File fileC = new File(createBundle(plugins, "bundle.c"));
+		IPluginModelBase[] added = state.addTargetModels(List.of(fileC), true, null);
+		assertEquals(1, added.length);
+		assertEquals("bundle.c", added[0].getPluginBase().getId());
+		assertNotNull(state.getState().getBundle("bundle.c", null));
+
+		// a second location of bundle.b is a duplicate
+		Path copy = folder.newFolder("copy").toPath();
+		File fileB = new File(createBundle(copy, "bundle.b"));
+		assertEquals(0, state.addTargetModels(List.of(fileB), true, null).length);
+		assertEquals(1, state.getState().getBundles("bundle.b").length);
+
+		IPluginModelBase removed = state.removeTargetLocation(new File(a).getAbsolutePath());
+		assertNotNull(removed);
+		assertEquals("bundle.a", removed.getPluginBase().getId());
+		assertNull(state.getState().getBundle("bundle.a", null));
+		assertEquals(2, state.getTargetModels().length);
+		assertEquals(3, state.getTargetStamps().size());
+	}
+
+	private static URI createBundle(Path directory, String id) throws IOException {
+		return TargetPlatformUtil.createDummyBundle(directory.resolve(id + "_1.0.0.jar"), id, "1.0.0");
+	}
+}
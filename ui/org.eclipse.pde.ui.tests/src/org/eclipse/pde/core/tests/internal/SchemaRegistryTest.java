@@ -0,0 +1,180 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.pde.internal.core.ischema.ISchema;
+import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
+import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.ischema.ISchemaInclude;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.ElementInfo;
+import org.eclipse.pde.internal.core.schema.SchemaDescriptor;
+import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SchemaRegistryTest {
+
+	private static final String MAX_ENTRIES_PROPERTY = "pde.schemaCacheSize";
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCompiledSchemaMatchesSchema() throws Exception {
+		write("included.exsd", """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				   <element name="b">
+				      <complexType>
+				         <attribute name="id" type="string"/>
+				      </complexType>
+				   </element>
+				   <element name="shared">
+				      <complexType>
+				         <attribute name="included" type="string"/>
+				      </complexType>
+				   </element>
+				</schema>
+				""");
+		File main = write("main.exsd", """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				   <include schemaLocation="included.exsd"/>
+				   <element name="extension">
+				      <complexType>
+				         <choice>
+				            <element ref="a"/>
+				            <element ref="b"/>
+				         </choice>
+				         <attribute name="point" type="string" use="required"/>
+				      </complexType>
+				   </element>
+				   <element name="a">
+				      <complexType>
+				         <attribute name="kind" use="required">
+				            <simpleType>
+				               <restriction base="string">
+				                  <enumeration value="x"/>
+				                  <enumeration value="y"/>
+				               </restriction>
+				            </simpleType>
+				         </attribute>
+				         <attribute name="class" type="string">
+				            <annotation>
+				               <appInfo>
+				                  <meta.attribute kind="java"/>
+				               </appInfo>
+				            </annotation>
+				         </attribute>
+				      </complexType>
+				   </element>
+				   <element name="shared">
+				      <complexType>
+				         <attribute name="main" type="string"/>
+				      </complexType>
+				   </element>
+				</schema>
+				""");
+		ISchema schema = new SchemaDescriptor(main).getSchema(true);
+		CompiledSchema compiled = CompiledSchema.compile(schema);
+
+		Set<String> names = new LinkedHashSet<>();
+		for (ISchemaElement element : schema.getElements()) {
+			names.add(element.getName());
+		}
+		for (ISchemaInclude include : schema.getIncludes()) {
+			assertThat(include.getIncludedSchema()).isNotNull();
+			for (ISchemaElement element : include.getIncludedSchema().getElements()) {
+				names.add(element.getName());
+			}
+		}
+		assertThat(names).containsExactlyInAnyOrder("extension", "a", "b", "shared");
+		for (String name : names) {
+			ISchemaElement element = schema.findElement(name);
+			ElementInfo info = compiled.findElement(name);
+			assertThat(info.getElement()).isSameAs(element);
+			for (ISchemaAttribute attribute : element.getAttributes()) {
+				assertThat(info.getAttribute(attribute.getName())).isSameAs(element.getAttribute(attribute.getName()));
+			}
+		}
+		assertThat(compiled.findElement("missing")).isNull();
+		assertThat(schema.findElement("missing")).isNull();
+
+		// elements of the schema take precedence over included ones
+		assertThat(compiled.findElement("shared").getAttribute("main")).isNotNull();
+		assertThat(compiled.findElement("b").getOwner().getSchema()).isNotSameAs(schema);
+
+		assertThat(compiled.findElement("extension").getAllowedChildren()).containsExactlyInAnyOrder("a", "b");
+		assertThat(compiled.findElement("a").getAllowedChildren()).containsExactly("class");
+		assertThat(compiled.findElement("a").getRequiredAttributes()).extracting(ISchemaAttribute::getName)
+				.containsExactly("kind");
+		assertThat(compiled.findElement("a").isAllowedValue("kind", "x")).isTrue();
+		assertThat(compiled.findElement("a").isAllowedValue("kind", "z")).isFalse();
+		assertThat(compiled.findElement("a").isAllowedValue("class", "z")).isTrue();
+	}
+
+	@Test
+	public void testEvictionRespectsCacheSize() throws Exception {
+		SchemaRegistry registry;
+		System.setProperty(MAX_ENTRIES_PROPERTY, "16");
+		try {
+			registry = new SchemaRegistry();
+		} finally {
+			System.clearProperty(MAX_ENTRIES_PROPERTY);
+		}
+		SchemaDescriptor parent = new SchemaDescriptor(write("parent.exsd", schema()));
+		List<ISchema> schemas = new ArrayList<>();
+		for (int i = 0; i < 17; i++) {
+			write("s" + i + ".exsd", schema());
+		}
+		for (int i = 0; i < 16; i++) {
+			schemas.add(registry.getIncludedSchema(parent, "s" + i + ".exsd"));
+		}
+		assertThat(registry.getIncludedSchema(parent, "s0.exsd")).isSameAs(schemas.get(0));
+		assertThat(registry.getIncludedSchema(parent, "s15.exsd")).isSameAs(schemas.get(15));
+
+		// the 17th schema evicts the least recently used ones, down to 12
+		registry.getIncludedSchema(parent, "s16.exsd");
+		assertThat(registry.getIncludedSchema(parent, "s0.exsd")).isSameAs(schemas.get(0));
+		for (int i = 6; i < 16; i++) {
+			assertThat(registry.getIncludedSchema(parent, "s" + i + ".exsd")).isSameAs(schemas.get(i));
+		}
+		assertThat(registry.getIncludedSchema(parent, "s1.exsd")).isNotSameAs(schemas.get(1));
+	}
+
+	private File write(String name, String contents) throws Exception {
+		File file = new File(folder.getRoot(), name);
+		Files.writeString(file.toPath(), contents);
+		return file;
+	}
+
+	private static String schema() {
+		return """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				</schema>
+				""";
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.bnd;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.Adapters;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.bnd.TargetRepository;
+import org.eclipse.pde.ui.tests.util.TargetPlatformUtil;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.Filter;
+import org.osgi.framework.FrameworkUtil;
+import org.osgi.framework.namespace.BundleNamespace;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.resource.Capability;
+import org.osgi.resource.Namespace;
+import org.osgi.resource.Requirement;
+import org.osgi.resource.Resource;
+
+public class TargetRepositoryTest {
+
+	@ClassRule
+	public static final TestRule RESTORE_TARGET_DEFINITION = TargetPlatformUtil.RESTORE_CURRENT_TARGET_DEFINITION_AFTER;
+
+	@BeforeClass
+	public static void setupTargetPlatform() throws Exception {
+		TargetPlatformUtil.setRunningPlatformAsTarget();
+	}
+
+	@Test
+	public void testFindPackageProvider() throws Exception {
+		assertThat(findIndexed(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=org.osgi.framework)"))
+				.isNotEmpty().isEqualTo(
+						findLinear(PackageNamespace.PACKAGE_NAMESPACE, "(osgi.wiring.package=org.osgi.framework)"));
+		String filter = "(&(osgi.wiring.package=org.osgi.framework)(version>=1.8.0)(!(version>=2.0.0)))";
+		assertThat(findIndexed(PackageNamespace.PACKAGE_NAMESPACE, filter)).isNotEmpty()
+				.isEqualTo(findLinear(PackageNamespace.PACKAGE_NAMESPACE, filter));
+		// not an equality, all packages are matched
+		filter = "(osgi.wiring.package=org.osgi.framework.*)";
+		assertThat(findIndexed(PackageNamespace.PACKAGE_NAMESPACE, filter)).isNotEmpty()
+				.isEqualTo(findLinear(PackageNamespace.PACKAGE_NAMESPACE, filter));
+	}
+
+	@Test
+	public void testFindBundleProvider() throws Exception {
+		String filter = "(osgi.wiring.bundle=org.eclipse.core.runtime)";
+		assertThat(findIndexed(BundleNamespace.BUNDLE_NAMESPACE, filter)).isNotEmpty()
+				.isEqualTo(findLinear(BundleNamespace.BUNDLE_NAMESPACE, filter));
+		filter = "(osgi.wiring.bundle=does.not.exist)";
+		assertThat(findIndexed(BundleNamespace.BUNDLE_NAMESPACE, filter)).isEmpty();
+	}
+
+	@Test
+	public void testFindServiceProvider() throws Exception {
+		String filter = "(objectClass=org.osgi.service.event.EventAdmin)";
+		assertThat(findIndexed("osgi.service", filter)).isEqualTo(findLinear("osgi.service", filter));
+	}
+
+	private static Set<String> findIndexed(String namespace, String filter) {
+		Set<String> providers = new TreeSet<>();
+		for (Capability capability : TargetRepository.getTargetRepository()
+				.findProvider(requirement(namespace, filter))) {
+			BundleDescription bundle = Adapters.adapt(capability.getResource(), BundleDescription.class);
+			providers.add(toString(bundle, capability));
+		}
+		return providers;
+	}
+
+	private static Set<String> findLinear(String namespace, String filter) throws Exception {
+		Filter osgiFilter = FrameworkUtil.createFilter(filter);
+		State state = PDECore.getDefault().getModelManager().getState().getState();
+		Set<String> providers = new TreeSet<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			for (Capability capability : bundle.getCapabilities(namespace)) {
+				if (osgiFilter.matches(capability.getAttributes())) {
+					providers.add(toString(bundle, capability));
+				}
+			}
+		}
+		return providers;
+	}
+
+	private static String toString(BundleDescription bundle, Capability capability) {
+		return bundle.getBundleId() + ":" + capability.getNamespace() + capability.getAttributes();
+	}
+
+	private static Requirement requirement(String namespace, String filter) {
+		return new Requirement() {
+
+			@Override
+			public String getNamespace() {
+				return namespace;
+			}
+
+			@Override
+			public Map<String, String> getDirectives() {
+				return Map.of(Namespace.REQUIREMENT_FILTER_DIRECTIVE, filter);
+			}
+
+			@Override
+			public Map<String, Object> getAttributes() {
+				return Map.of();
+			}
+
+			@Override
+			public Resource getResource() {
+				return null;
+			}
+		};
+	}
+
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Hashtable;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.internal.core.RequiredPluginsClasspathContainer;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.Constants;
+
+public class VisiblePackagesTest {
+
+	private StateObjectFactory factory;
+	private State state;
+
+	@Before
+	public void createState() {
+		factory = StateObjectFactory.defaultFactory;
+		state = factory.createState(true);
+	}
+
+	@Test
+	public void testCachedUntilStateIsModified() throws Exception {
+		BundleDescription exporter = addBundle("exporter", 1, Constants.EXPORT_PACKAGE, "p");
+		BundleDescription importer = addBundle("importer", 2, Constants.IMPORT_PACKAGE, "p");
+		state.resolve();
+
+		Map<BundleDescription, ?> packages = RequiredPluginsClasspathContainer.getVisiblePackages(importer);
+		assertThat(packages).containsOnlyKeys(exporter);
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(importer)).isSameAs(packages);
+
+		BundleDescription other = addBundle("other", 3, Constants.EXPORT_PACKAGE, "q");
+		state.resolve();
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(importer)).isNotSameAs(packages)
+				.containsOnlyKeys(exporter);
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(other)).isEmpty();
+	}
+
+	@Test
+	public void testRecomputedAfterResolution() throws Exception {
+		BundleDescription importer = addBundle("importer", 1, Constants.IMPORT_PACKAGE,
+				"p;resolution:=optional");
+		state.resolve();
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(importer)).isEmpty();
+
+		BundleDescription exporter = addBundle("exporter", 2, Constants.EXPORT_PACKAGE, "p");
+		state.resolve(new BundleDescription[] { importer });
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(importer)).containsOnlyKeys(exporter);
+	}
+
+	@Test
+	public void testCachePerState() throws Exception {
+		BundleDescription exporter = addBundle("exporter", 1, Constants.EXPORT_PACKAGE, "p");
+		BundleDescription importer = addBundle("importer", 2, Constants.IMPORT_PACKAGE, "p");
+		state.resolve();
+		Map<BundleDescription, ?> packages = RequiredPluginsClasspathContainer.getVisiblePackages(importer);
+
+		createState();
+		addBundle("exporter", 1, Constants.EXPORT_PACKAGE, "p");
+		BundleDescription otherImporter = addBundle("importer", 2, Constants.IMPORT_PACKAGE, "p");
+		state.resolve();
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(otherImporter)).hasSize(1)
+				.doesNotContainKey(exporter);
+
+		// computed again after the other state replaced the cached packages
+		assertThat(RequiredPluginsClasspathContainer.getVisiblePackages(importer)).isNotSameAs(packages)
+				.isEqualTo(packages);
+	}
+
+	private BundleDescription addBundle(String symbolicName, long id, String header, String value)
+			throws Exception {
+		Hashtable<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, symbolicName);
+		manifest.put(Constants.BUNDLE_VERSION, "1.0.0");
+		manifest.put(header, value);
+		BundleDescription desc = factory.createBundleDescription(state, manifest, symbolicName, id);
+		state.addBundle(desc);
+		return desc;
+	}
+}
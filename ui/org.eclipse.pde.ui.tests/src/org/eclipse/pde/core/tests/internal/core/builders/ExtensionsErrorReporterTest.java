@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.core.PDECoreMessages;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExtensionsErrorReporterTest {
+
+	private static final String SCHEMA = "schema/point.exsd";
+
+	private IProject project;
+
+	@Before
+	public void setup() throws Exception {
+		project = ProjectUtils.createPluginProject(getClass().getName(),
+				JavaRuntime.getExecutionEnvironmentsManager().getEnvironment("JavaSE-17")).getProject();
+		IFolder folder = project.getFolder("schema");
+		folder.create(true, true, null);
+		create(project.getFile(SCHEMA), """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				</schema>
+				""");
+		create(project.getFile("plugin.xml"), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<?eclipse version="3.4"?>
+				<plugin>
+				   <extension-point id="point" name="Point" schema="%s"/>
+				</plugin>
+				""".formatted(SCHEMA));
+	}
+
+	@Test
+	public void testDeletedSchemaIsReportedIncrementally() throws Exception {
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		assertThat(findInvalidSchemaMarkers()).isEmpty();
+
+		project.getFile(SCHEMA).delete(true, null);
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		assertThat(findInvalidSchemaMarkers()).hasSize(1);
+
+		create(project.getFile(SCHEMA), """
+				<?xml version='1.0' encoding='UTF-8'?>
+				<schema targetNamespace="test" xmlns="http://www.w3.org/2001/XMLSchema">
+				</schema>
+				""");
+		project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		assertThat(findInvalidSchemaMarkers()).isEmpty();
+	}
+
+	private List<IMarker> findInvalidSchemaMarkers() throws CoreException {
+		String message = NLS.bind(PDECoreMessages.ExtensionsErrorReporter_InvalidSchema, SCHEMA);
+		return Arrays.stream(project.getFile("plugin.xml").findMarkers(PDEMarkerFactory.MARKER_ID, false, 0))
+				.filter(m -> message.equals(m.getAttribute(IMarker.MESSAGE, null))).toList();
+	}
+
+	private static void create(IFile file, String contents) throws CoreException {
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		if (project.exists()) {
+			project.delete(true, null);
+		}
+	}
+
+}
@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.core.builders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+public class ManifestValidationSnapshotTest {
+
+	private static final String ENABLE_PROPERTY = "pde.parallelValidation";
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ENABLE_PROPERTY);
+	}
+
+	@Test
+	public void testReusedProblemsMatchSequentialValidation() throws Exception {
+		List<IProject> projects = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			String previous = i == 0 ? "missing.bundle" : "snapshot" + (i - 1);
+			IProject project = ProjectUtils.createPluginProject("snapshot" + i, "snapshot" + i, "1.0.0",
+					(description, service) -> description.setRequiredBundles(new IRequiredBundleDescription[] {
+							service.newRequiredBundle(previous, (VersionRange) null, false, false) }));
+			project.getFile("plugin.xml").create(new ByteArrayInputStream("""
+					<?xml version="1.0" encoding="UTF-8"?>
+					<?eclipse version="3.4"?>
+					<plugin>
+					   <extension point="missing.point">
+					      <element class="snapshot.Missing"/>
+					   </extension>
+					</plugin>
+					""".getBytes(StandardCharsets.UTF_8)), true, null);
+			projects.add(project);
+		}
+
+		System.setProperty(ENABLE_PROPERTY, Boolean.TRUE.toString());
+		Map<String, List<String>> concurrent = buildAndGetProblems(projects);
+		System.clearProperty(ENABLE_PROPERTY);
+		Map<String, List<String>> sequential = buildAndGetProblems(projects);
+
+		assertThat(sequential).hasSize(projects.size()).allSatisfy((name, problems) -> assertThat(problems).isNotEmpty());
+		assertThat(concurrent).isEqualTo(sequential);
+	}
+
+	private static Map<String, List<String>> buildAndGetProblems(List<IProject> projects) throws CoreException {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		workspace.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+		workspace.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		Map<String, List<String>> problems = new TreeMap<>();
+		for (IProject project : projects) {
+			List<String> markers = new ArrayList<>();
+			for (IMarker marker : project.findMarkers(PDEMarkerFactory.MARKER_ID, false, IResource.DEPTH_INFINITE)) {
+				markers.add(marker.getResource().getProjectRelativePath() + ":"
+						+ marker.getAttribute(IMarker.LINE_NUMBER, -1) + ":"
+						+ marker.getAttribute(IMarker.SEVERITY, -1) + ":" + marker.getAttribute(IMarker.MESSAGE, ""));
+			}
+			markers.sort(null);
+			problems.put(project.getName(), markers);
+		}
+		return problems;
+	}
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.launcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.ILaunchConfiguration;
+import org.eclipse.debug.core.ILaunchConfigurationWorkingCopy;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache;
+import org.eclipse.pde.internal.launching.launcher.LaunchPreparationCache.Preparation;
+import org.eclipse.pde.launching.IPDELauncherConstants;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+
+public class LaunchPreparationCacheTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private File configDir;
+	private ILaunchConfigurationWorkingCopy configuration;
+
+	@Before
+	public void setUp() throws Exception {
+		configDir = folder.newFolder("config");
+		configuration = DebugPlugin.getDefault().getLaunchManager()
+				.getLaunchConfigurationType(IPDELauncherConstants.ECLIPSE_APPLICATION_LAUNCH_CONFIGURATION_TYPE)
+				.newInstance(null, "preparation");
+		configuration.setAttribute(IPDELauncherConstants.USE_DEFAULT, false);
+	}
+
+	@After
+	public void tearDown() {
+		LaunchPreparationCache.clear();
+	}
+
+	@Test
+	public void testFingerprintIsStable() throws Exception {
+		String fingerprint = LaunchPreparationCache.computeFingerprint(configuration, configDir);
+		assertThat(fingerprint).isNotNull();
+		assertThat(LaunchPreparationCache.computeFingerprint(configuration, configDir)).isEqualTo(fingerprint);
+		ILaunchConfiguration saved = configuration.doSave();
+		try {
+			assertThat(LaunchPreparationCache.computeFingerprint(saved, configDir)).isEqualTo(fingerprint);
+		} finally {
+			saved.delete();
+		}
+	}
+
+	@Test
+	public void testFingerprintChangesWithInputs() throws Exception {
+		String fingerprint = LaunchPreparationCache.computeFingerprint(configuration, configDir);
+		assertThat(LaunchPreparationCache.computeFingerprint(configuration, folder.newFolder("other")))
+				.isNotEqualTo(fingerprint);
+
+		configuration.setAttribute(IPDELauncherConstants.AUTOMATIC_VALIDATE, true);
+		String changedAttribute = LaunchPreparationCache.computeFingerprint(configuration, configDir);
+		assertThat(changedAttribute).isNotEqualTo(fingerprint);
+
+		IProject project = ProjectUtils.createPluginProject("preparation.a", "1.0.0");
+		String addedProject = LaunchPreparationCache.computeFingerprint(configuration, configDir);
+		assertThat(addedProject).isNotEqualTo(changedAttribute);
+
+		IFile buildProperties = PDEProject.getBuildProperties(project);
+		String content = new String(buildProperties.getContents().readAllBytes(), StandardCharsets.UTF_8);
+		buildProperties.setContents(new ByteArrayInputStream((content + "\n").getBytes(StandardCharsets.UTF_8)),
+				true, false, null);
+		assertThat(LaunchPreparationCache.computeFingerprint(configuration, configDir)).isNotEqualTo(addedProject);
+	}
+
+	@Test
+	public void testNoFingerprintForUnvalidatedFiles() throws Exception {
+		configuration.setAttribute(IPDELauncherConstants.GENERATE_PROFILE, true);
+		assertThat(LaunchPreparationCache.computeFingerprint(configuration, configDir)).isNull();
+
+		configuration.setAttribute(IPDELauncherConstants.GENERATE_PROFILE, false);
+		configuration.setAttribute(IPDELauncherConstants.CONFIG_GENERATE_DEFAULT, false);
+		assertThat(LaunchPreparationCache.computeFingerprint(configuration, configDir)).isNull();
+	}
+
+	@Test
+	public void testPreparationIsReused() throws Exception {
+		Map<IPluginModelBase, String> models = Map.of();
+		Map<String, List<IPluginModelBase>> allBundles = Map.of();
+		Preparation preparation = LaunchPreparationCache.put(configDir, "a", models, allBundles);
+
+		assertThat(LaunchPreparationCache.get(configDir, "a")).isSameAs(preparation);
+		assertThat(preparation.getModels()).isSameAs(models);
+		assertThat(preparation.getAllBundles()).isSameAs(allBundles);
+		assertThat(LaunchPreparationCache.get(configDir, "b")).isNull();
+		assertThat(LaunchPreparationCache.get(folder.newFolder("other"), "a")).isNull();
+
+		// another fingerprint replaces the preparation
+		LaunchPreparationCache.put(configDir, "b", models, allBundles);
+		assertThat(LaunchPreparationCache.get(configDir, "a")).isNull();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedPreparationIsEvicted() throws Exception {
+		File first = folder.newFolder("first");
+		LaunchPreparationCache.put(first, "a", Map.of(), Map.of());
+		for (int i = 0; i < 31; i++) {
+			LaunchPreparationCache.put(folder.newFolder("config" + i), "a", Map.of(), Map.of());
+		}
+		assertThat(LaunchPreparationCache.get(first, "a")).isNotNull();
+
+		LaunchPreparationCache.put(folder.newFolder("second"), "a", Map.of(), Map.of());
+		assertThat(LaunchPreparationCache.get(first, "a")).isNotNull();
+		assertThat(LaunchPreparationCache.get(new File(folder.getRoot(), "config0"), "a")).isNull();
+	}
+
+	@Test
+	public void testWrittenFilesAreValidated() throws Exception {
+		Preparation preparation = LaunchPreparationCache.put(configDir, "a", Map.of(), Map.of());
+		assertThat(preparation.isWritten()).isFalse();
+
+		Path configIni = Files.writeString(configDir.toPath().resolve("config.ini"), "osgi.bundles=a");
+		Path devProperties = Files.writeString(configDir.toPath().resolve("dev.properties"), "@ignoredot@=true");
+		Properties properties = new Properties();
+		properties.put("osgi.bundles", "a");
+		preparation.written(configDir, properties, devProperties);
+		assertThat(preparation.isWritten()).isTrue();
+		assertThat(preparation.getConfigIni()).isSameAs(properties);
+		assertThat(preparation.getDevProperties()).isEqualTo(devProperties);
+
+		Files.writeString(configIni, "osgi.bundles=a,b");
+		assertThat(preparation.isWritten()).isFalse();
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.performance.parts;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.launching.JavaRuntime;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.natures.BndProject;
+import org.eclipse.pde.internal.core.project.PDEProject;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.eclipse.test.performance.Dimension;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the time from saving a source file of a bnd project to the
+ * regenerated manifest, i.e. an incremental build of the java and the bnd
+ * builder.
+ */
+public class BndBuilderPerfTest extends PerformanceTestCase {
+
+	private static final String PROJECT_NAME = "bnd.perf.test"; //$NON-NLS-1$
+
+	private static final int F_PACKAGES = 20;
+
+	private static final int F_CLASSES_PER_PACKAGE = 25;
+
+	private static final int F_TEST_ITERATIONS = 10;
+
+	private static final int F_WARMUP_ITERATIONS = 3;
+
+	private static final String BUILDPATH = "org.eclipse.core.runtime, org.eclipse.core.resources, org.eclipse.jdt.core, org.eclipse.jface, org.eclipse.swt"; //$NON-NLS-1$
+
+	private IProject fProject;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT_NAME);
+		fProject.create(null);
+		fProject.open(null);
+		CoreUtility.addNatureToProject(fProject, JavaCore.NATURE_ID, null);
+		CoreUtility.addNatureToProject(fProject, BndProject.NATURE_ID, null);
+		createFile(fProject.getFile(BndProject.INSTRUCTIONS_FILE), "Bundle-SymbolicName: " + PROJECT_NAME + "\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "Bundle-Version: 1.0.0\n" //$NON-NLS-1$
+				+ "Export-Package: perf.*\n" //$NON-NLS-1$
+				+ "-buildpath: " + BUILDPATH + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		IFolder src = fProject.getFolder("src"); //$NON-NLS-1$
+		src.create(true, true, null);
+		for (int i = 0; i < F_PACKAGES; i++) {
+			for (int j = 0; j < F_CLASSES_PER_PACKAGE; j++) {
+				createFile(src.getFile("perf/p" + i + "/C" + j + ".java"), getSource(i, j, 0)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		IClasspathEntry[] classpath = { JavaCore.newSourceEntry(src.getFullPath()),
+				JavaCore.newContainerEntry(JavaRuntime.newDefaultJREContainerPath()),
+				JavaCore.newContainerEntry(PDECore.REQUIRED_PLUGINS_CONTAINER_PATH) };
+		JavaCore.create(fProject).setRawClasspath(classpath, fProject.getFolder("bin").getFullPath(), null); //$NON-NLS-1$
+		fProject.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		assertTrue("Manifest not generated", PDEProject.getManifest(fProject).exists()); //$NON-NLS-1$
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fProject.delete(true, true, null);
+		super.tearDown();
+	}
+
+	public void testSaveToManifest() throws Exception {
+		tagAsSummary("Bnd Builder: save to manifest", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		IFile file = fProject.getFile("src/perf/p0/C0.java"); //$NON-NLS-1$
+		int revision = 0;
+		for (int i = 0; i < F_WARMUP_ITERATIONS; i++) {
+			saveAndBuild(file, ++revision);
+		}
+		for (int i = 0; i < F_TEST_ITERATIONS; i++) {
+			startMeasuring();
+			saveAndBuild(file, ++revision);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void saveAndBuild(IFile file, int revision) throws CoreException {
+		file.setContents(new ByteArrayInputStream(getSource(0, 0, revision).getBytes(StandardCharsets.UTF_8)),
+				IResource.FORCE, null);
+		fProject.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+	}
+
+	private static String getSource(int pkg, int cls, int revision) {
+		return "package perf.p" + pkg + ";\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "public class C" + cls + " {\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "	public org.eclipse.core.runtime.IStatus status() {\n" //$NON-NLS-1$
+				+ "		return org.eclipse.core.runtime.Status.info(\"" + revision + "\");\n" //$NON-NLS-1$ //$NON-NLS-2$
+				+ "	}\n" //$NON-NLS-1$
+				+ "	public org.eclipse.core.resources.IResource resource(org.eclipse.jdt.core.IJavaElement element) {\n" //$NON-NLS-1$
+				+ "		return element.getResource();\n" //$NON-NLS-1$
+				+ "	}\n" //$NON-NLS-1$
+				+ "}\n"; //$NON-NLS-1$
+	}
+
+	private static void createFile(IFile file, String contents) throws CoreException {
+		if (file.getParent() instanceof IFolder folder) {
+			CoreUtility.createFolder(folder);
+		}
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
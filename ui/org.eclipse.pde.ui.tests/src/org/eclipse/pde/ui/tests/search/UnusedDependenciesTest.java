@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceDescription;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.core.project.IBundleClasspathEntry;
+import org.eclipse.pde.core.project.IBundleProjectService;
+import org.eclipse.pde.core.project.IPackageImportDescription;
+import org.eclipse.pde.core.project.IRequiredBundleDescription;
+import org.eclipse.pde.internal.core.text.bundle.ImportPackageObject;
+import org.eclipse.pde.internal.ui.search.dependencies.GatherUnusedDependenciesOperation;
+import org.eclipse.pde.internal.ui.search.dependencies.PackageFinder;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.osgi.framework.VersionRange;
+
+/**
+ * Tests that the unused dependencies found from the compiled classes of a
+ * project are the ones found by searching its sources.
+ */
+public class UnusedDependenciesTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Test
+	public void testClassFilesFindSameDependenciesAsSearch() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("unused.dependencies", "unused.dependencies", "1.0.0",
+				(description, service) -> {
+					description.setBundleClasspath(new IBundleClasspathEntry[] { service.newBundleClasspathEntry(
+							IPath.fromOSString("src"), IPath.fromOSString("bin"), IPath.fromOSString(".")) });
+					description.setExecutionEnvironments(new String[] { "JavaSE-17" });
+					description.setRequiredBundles(new IRequiredBundleDescription[] {
+							requiredBundle(service, "org.eclipse.core.runtime"),
+							requiredBundle(service, "org.eclipse.core.resources"),
+							requiredBundle(service, "org.eclipse.core.expressions") });
+					description.setPackageImports(new IPackageImportDescription[] {
+							service.newPackageImport("org.osgi.framework", (VersionRange) null, false),
+							service.newPackageImport("javax.xml.parsers", (VersionRange) null, false) });
+				});
+		for (String path : new String[] { "src", "src/unused", "src/unused/dependencies" }) {
+			IFolder folder = project.getFolder(path);
+			if (!folder.exists()) {
+				folder.create(true, true, null);
+			}
+		}
+		// the constant of org.eclipse.core.resources is inlined and leaves no
+		// trace in the class file
+		create(project.getFile("src/unused/dependencies/Used.java"), """
+				package unused.dependencies;
+
+				import org.eclipse.core.resources.IResource;
+				import org.eclipse.core.runtime.IStatus;
+				import org.osgi.framework.BundleContext;
+
+				public class Used {
+					public static final int KIND = IResource.FILE;
+					public IStatus status;
+					public BundleContext context;
+				}
+				""");
+
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		IWorkspaceDescription workspaceDescription = workspace.getDescription();
+		boolean autoBuilding = workspaceDescription.isAutoBuilding();
+		workspaceDescription.setAutoBuilding(false);
+		workspace.setDescription(workspaceDescription);
+		try {
+			project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+			assertThat(project.getFile("bin/unused/dependencies/Used.class").exists()).isTrue();
+
+			IJavaProject javaProject = JavaCore.create(project);
+			assertThat(PackageFinder.findPackagesInProjectClasses(javaProject, null))
+					.contains("org.eclipse.core.runtime", "org.osgi.framework")
+					.doesNotContain("org.eclipse.core.resources");
+			List<String> fromClasses = findUnusedDependencies(project);
+
+			// without compiled classes all dependencies are searched for
+			IFolder output = project.getFolder("bin");
+			for (IResource member : output.members()) {
+				member.delete(true, null);
+			}
+			assertThat(PackageFinder.findPackagesInProjectClasses(javaProject, null)).isNull();
+			List<String> fromSources = findUnusedDependencies(project);
+
+			assertThat(fromClasses).isEqualTo(fromSources).containsExactly("javax.xml.parsers",
+					"org.eclipse.core.expressions");
+		} finally {
+			workspaceDescription.setAutoBuilding(autoBuilding);
+			workspace.setDescription(workspaceDescription);
+		}
+	}
+
+	private static List<String> findUnusedDependencies(IProject project) throws Exception {
+		GatherUnusedDependenciesOperation operation = new GatherUnusedDependenciesOperation(
+				PluginRegistry.findModel(project));
+		operation.run(new NullProgressMonitor());
+		List<String> unused = new ArrayList<>();
+		for (Object dependency : operation.getList()) {
+			if (dependency instanceof IPluginImport pluginImport) {
+				unused.add(pluginImport.getId());
+			} else if (dependency instanceof ImportPackageObject importPackage) {
+				unused.add(importPackage.getName());
+			}
+		}
+		unused.sort(null);
+		return unused;
+	}
+
+	private static IRequiredBundleDescription requiredBundle(IBundleProjectService service, String name) {
+		return service.newRequiredBundle(name, (VersionRange) null, false, false);
+	}
+
+	private static void create(IFile file, String contents) throws Exception {
+		file.create(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, null);
+	}
+}
@@ -0,0 +1,205 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.publisher.eclipse.BundlesAction;
+import org.eclipse.equinox.p2.repository.artifact.IArtifactDescriptor;
+import org.eclipse.equinox.p2.repository.artifact.IFileArtifactRepository;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.SharedArtifactCache;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SharedArtifactCacheTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	private Path root;
+	private Path poolDirectory;
+	private IFileArtifactRepository pool;
+
+	@Before
+	public void setUp() throws Exception {
+		root = folder.newFolder("cache").toPath();
+		poolDirectory = folder.newFolder("pool").toPath();
+		pool = mock(IFileArtifactRepository.class);
+		when(pool.getArtifactDescriptors(any())).thenReturn(new IArtifactDescriptor[0]);
+	}
+
+	@Test
+	public void testStoreAndLookup() throws Exception {
+		SharedArtifactCache cache = createCache(Long.MAX_VALUE);
+		IArtifactKey key = addToPool("a", "1.0.0", content('a', 100));
+		assertThat(cache.contains(key)).isFalse();
+
+		cache.store(pool, List.of(key));
+		assertThat(cache.contains(key)).isTrue();
+		IArtifactDescriptor[] descriptors = cache.getArtifactDescriptors(key);
+		assertThat(descriptors).hasSize(1);
+		assertThat(descriptors[0].getProperty("download.checksum.sha-256")).isEqualTo(sha256(content('a', 100)));
+		assertThat(descriptors[0].getProperty(IArtifactDescriptor.DOWNLOAD_SIZE)).isEqualTo("100");
+		assertThat(cache.contains(descriptors[0])).isTrue();
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		IStatus status = cache.getRawArtifact(descriptors[0], out, null);
+		assertThat(status.isOK()).isTrue();
+		assertThat(out.toByteArray()).isEqualTo(content('a', 100));
+
+		IArtifactKey other = BundlesAction.createBundleArtifactKey("a", "2.0.0");
+		assertThat(cache.contains(other)).isFalse();
+		assertThat(cache.getArtifactDescriptors(other)).isEmpty();
+	}
+
+	@Test
+	public void testStoreSameArtifactOnce() throws Exception {
+		SharedArtifactCache cache = createCache(Long.MAX_VALUE);
+		IArtifactKey key = addToPool("a", "1.0.0", content('a', 100));
+		cache.store(pool, List.of(key));
+		Path cached = listArtifacts().get(0);
+		FileTime stored = FileTime.fromMillis(1000);
+		Files.setLastModifiedTime(cached, stored);
+
+		cache.store(pool, List.of(key));
+		assertThat(listArtifacts()).containsExactly(cached);
+		assertThat(Files.getLastModifiedTime(cached)).isEqualTo(stored);
+	}
+
+	@Test
+	public void testStoreRebuiltArtifactOfSameSize() throws Exception {
+		SharedArtifactCache cache = createCache(Long.MAX_VALUE);
+		IArtifactKey key = addToPool("a", "1.0.0", content('a', 100));
+		cache.store(pool, List.of(key));
+
+		addToPool("a", "1.0.0", content('b', 100));
+		cache.store(pool, List.of(key));
+		assertThat(cache.getArtifactDescriptors(key)).extracting(d -> d.getProperty("download.checksum.sha-256"))
+				.containsExactlyInAnyOrder(sha256(content('a', 100)), sha256(content('b', 100)));
+	}
+
+	@Test
+	public void testEvictLeastRecentlyUsed() throws Exception {
+		SharedArtifactCache cache = createCache(250);
+		IArtifactKey a = addToPool("a", "1.0.0", content('a', 100));
+		IArtifactKey b = addToPool("b", "1.0.0", content('b', 100));
+		cache.store(pool, List.of(a, b));
+		assertThat(listArtifacts()).hasSize(2);
+
+		// a was stored first, but used after b
+		age(cache.getArtifactDescriptors(a), 2000);
+		age(cache.getArtifactDescriptors(b), 1000);
+		assertThat(cache.getRawArtifact(cache.getArtifactDescriptors(a)[0], new ByteArrayOutputStream(), null).isOK())
+				.isTrue();
+
+		IArtifactKey c = addToPool("c", "1.0.0", content('c', 100));
+		cache.store(pool, List.of(c));
+		assertThat(cache.contains(a)).isTrue();
+		assertThat(cache.contains(b)).isFalse();
+		assertThat(cache.contains(c)).isTrue();
+	}
+
+	@Test
+	public void testConcurrentEviction() throws Exception {
+		int artifacts = 20;
+		List<IArtifactKey> keys = new ArrayList<>();
+		for (int i = 0; i < artifacts; i++) {
+			keys.add(addToPool("a" + i, "1.0.0", content((char) ('a' + i), 100)));
+		}
+		createCache(Long.MAX_VALUE).store(pool, keys);
+		assertThat(listArtifacts()).hasSize(artifacts);
+
+		// caches of several resolutions sharing the directory
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Callable<Void>> tasks = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				SharedArtifactCache cache = createCache(1000);
+				tasks.add(() -> {
+					cache.evict();
+					return null;
+				});
+			}
+			for (Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		// a single eviction suffices, the others skip it or find nothing to do
+		createCache(1000).evict();
+		assertThat(listArtifacts()).hasSize(10);
+	}
+
+	private SharedArtifactCache createCache(long maxSize) throws Exception {
+		return new SharedArtifactCache(P2TargetUtils.getAgent(), root, maxSize);
+	}
+
+	private IArtifactKey addToPool(String id, String version, byte[] content) throws Exception {
+		IArtifactKey key = BundlesAction.createBundleArtifactKey(id, version);
+		Path file = poolDirectory.resolve(id + "_" + version + ".jar");
+		Files.write(file, content);
+		when(pool.getArtifactFile(key)).thenReturn(file.toFile());
+		return key;
+	}
+
+	private void age(IArtifactDescriptor[] descriptors, long ageMillis) throws Exception {
+		for (IArtifactDescriptor descriptor : descriptors) {
+			IArtifactKey key = descriptor.getArtifactKey();
+			Path file = root.resolve(key.getClassifier()).resolve(key.getId()).resolve(key.getVersion().toString())
+					.resolve(descriptor.getProperty("download.checksum.sha-256"));
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - ageMillis));
+		}
+	}
+
+	private List<Path> listArtifacts() throws Exception {
+		// <classifier>/<id>/<version>/<sha-256>
+		try (Stream<Path> files = Files.walk(root)) {
+			return files.filter(f -> Files.isRegularFile(f) && root.relativize(f).getNameCount() == 4).toList();
+		}
+	}
+
+	private static byte[] content(char c, int size) {
+		byte[] content = new byte[size];
+		Arrays.fill(content, (byte) c);
+		return content;
+	}
+
+	private static String sha256(byte[] content) throws Exception {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+}
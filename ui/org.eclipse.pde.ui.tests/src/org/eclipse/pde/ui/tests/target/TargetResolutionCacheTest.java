@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.ui.tests.target;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+
+import org.eclipse.equinox.p2.metadata.IArtifactKey;
+import org.eclipse.equinox.p2.metadata.IInstallableUnit;
+import org.eclipse.equinox.p2.metadata.MetadataFactory;
+import org.eclipse.equinox.p2.metadata.MetadataFactory.InstallableUnitDescription;
+import org.eclipse.equinox.p2.metadata.Version;
+import org.eclipse.equinox.p2.publisher.eclipse.BundlesAction;
+import org.eclipse.equinox.p2.query.QueryUtil;
+import org.eclipse.equinox.p2.repository.metadata.IMetadataRepository;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+import org.eclipse.pde.internal.core.target.IUBundleContainer;
+import org.eclipse.pde.internal.core.target.P2TargetUtils;
+import org.eclipse.pde.internal.core.target.TargetResolutionCache;
+import org.eclipse.pde.internal.core.util.CoreUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the reuse of cached resolutions of IU targets
+ */
+public class TargetResolutionCacheTest extends AbstractTargetTest {
+
+	private static final String FEATURE = "feature.a.feature.group";
+	private static final String[] BUNDLES = { "bundle.a1", "bundle.a2", "bundle.a3" };
+	private static final String MISSING = "missing.artifact";
+
+	@Before
+	public void clearCache() {
+		CoreUtility.deleteContent(TargetResolutionCache.getLocation().toFile());
+	}
+
+	@After
+	public void cleanProfiles() throws Exception {
+		clearCache();
+		P2TargetUtils.cleanOrphanedTargetDefinitionProfiles();
+	}
+
+	@Test
+	public void testKeyDependsOnTargetContent() throws Exception {
+		resolve(createTarget("1.0.0"));
+		assertThat(getEntries()).hasSize(1);
+
+		// another target with the same content
+		resolve(createTarget("1.0.0"));
+		assertThat(getEntries()).hasSize(1);
+
+		resolve(createTarget("[1.0.0,2.0.0)"));
+		assertThat(getEntries()).hasSize(2);
+	}
+
+	@Test
+	public void testCachedResolutionIsUsed() throws Exception {
+		resolve(createTarget("1.0.0"));
+		File properties = new File(getEntries()[0], "resolution.properties");
+		assertThat(properties.setLastModified(1000)).isTrue();
+
+		resolve(createTarget("1.0.0"));
+		// an entry is touched when it is read
+		assertThat(properties.lastModified()).isGreaterThan(1000);
+		assertThat(getEntries()).hasSize(1);
+	}
+
+	@Test
+	public void testResolvedAgainIfCachedResolutionFails() throws Exception {
+		resolve(createTarget("1.0.0"));
+		File entry = getEntries()[0];
+
+		// a unit whose artifact is in none of the repositories
+		InstallableUnitDescription description = new InstallableUnitDescription();
+		description.setId(MISSING);
+		description.setVersion(Version.create("1.0.0"));
+		description.setTouchpointType(MetadataFactory.createTouchpointType("org.eclipse.equinox.p2.osgi",
+				Version.create("1.0.0")));
+		description.addProvidedCapabilities(List.of(MetadataFactory
+				.createProvidedCapability(IInstallableUnit.NAMESPACE_IU_ID, MISSING, Version.create("1.0.0"))));
+		description.setArtifacts(
+				new IArtifactKey[] { BundlesAction.createBundleArtifactKey(MISSING, "1.0.0") });
+		getCachedUnits(entry).addInstallableUnits(List.of(MetadataFactory.createInstallableUnit(description)));
+		removeCachedUnits(entry);
+
+		resolve(createTarget("1.0.0"));
+		assertThat(getCachedUnits(entry).query(QueryUtil.createIUQuery(MISSING), null).isEmpty()).isTrue();
+		removeCachedUnits(entry);
+	}
+
+	private ITargetDefinition createTarget(String version) throws Exception {
+		URI uri = IUBundleContainerTests.getURI("/tests/sites/site.a.b");
+		ITargetLocation container = getTargetService().newIULocation(new String[] { FEATURE },
+				new String[] { version }, new URI[] { uri }, IUBundleContainer.INCLUDE_REQUIRED);
+		ITargetDefinition target = getTargetService().newTarget();
+		target.setTargetLocations(new ITargetLocation[] { container });
+		return target;
+	}
+
+	private void resolve(ITargetDefinition target) throws Exception {
+		assertThat(collectAllSymbolicNames(getAllBundleInfos(target))).containsExactlyInAnyOrder(BUNDLES);
+		assertThat(target.getStatus().isOK()).isTrue();
+	}
+
+	private static File[] getEntries() {
+		File[] entries = TargetResolutionCache.getLocation().toFile().listFiles(File::isDirectory);
+		return entries == null ? new File[0] : entries;
+	}
+
+	private static IMetadataRepository getCachedUnits(File entry) throws Exception {
+		return P2TargetUtils.getRepoManager().loadRepository(entry.toURI(), null);
+	}
+
+	private static void removeCachedUnits(File entry) throws Exception {
+		// keep the cache out of the known repositories
+		P2TargetUtils.getRepoManager().removeRepository(entry.toURI());
+	}
+}
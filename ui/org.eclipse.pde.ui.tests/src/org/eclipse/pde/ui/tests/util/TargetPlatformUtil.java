@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2019, 2022 Julian Honnen and others.
+ *  Copyright (c) 2019, 2026 Julian Honnen and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import static java.util.Map.entry;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -187,6 +188,27 @@ public class TargetPlatformUtil {
 		return TPS.newDirectoryLocation(jarDirectory.toString());
 	}
 
+	/**
+	 * Creates a jar that only contains the manifest of a bundle with the given
+	 * symbolic name and version.
+	 *
+	 * @return the URI of the created jar
+	 */
+	public static URI createDummyBundle(Path jar, String id, String version) throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue(Constants.BUNDLE_MANIFESTVERSION, "2");
+		attributes.putValue(Constants.BUNDLE_SYMBOLICNAME, id);
+		attributes.putValue(Constants.BUNDLE_VERSION, version);
+		attributes.putValue(Constants.BUNDLE_NAME, id.replace('.', ' '));
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jar))) {
+			out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+			manifest.write(out);
+		}
+		return jar.toUri();
+	}
+
 	@SafeVarargs
 	public static Entry<NameVersionDescriptor, Map<String, String>> bundle(String id, String version,
 			Entry<String, String>... additionalManifestEntries) {
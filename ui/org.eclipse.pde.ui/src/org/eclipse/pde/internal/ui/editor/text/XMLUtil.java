@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -25,9 +25,10 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginObject;
 import org.eclipse.pde.internal.core.PDECore;
-import org.eclipse.pde.internal.core.ischema.ISchema;
 import org.eclipse.pde.internal.core.ischema.ISchemaAttribute;
 import org.eclipse.pde.internal.core.ischema.ISchemaElement;
+import org.eclipse.pde.internal.core.schema.CompiledSchema;
+import org.eclipse.pde.internal.core.schema.CompiledSchema.ElementInfo;
 import org.eclipse.pde.internal.core.text.IDocumentAttributeNode;
 import org.eclipse.pde.internal.core.text.IDocumentElementNode;
 import org.eclipse.pde.internal.core.text.IDocumentRange;
@@ -91,13 +92,15 @@ public abstract class XMLUtil {
 				return null;
 			extensionPoint = ((IPluginExtension) obj).getPoint();
 		}
-		ISchema schema = PDECore.getDefault().getSchemaRegistry().getSchema(extensionPoint);
+		CompiledSchema schema = PDECore.getDefault().getSchemaRegistry().getCompiledSchema(extensionPoint);
 		if (schema == null)
 			return null;
 
 		// Bug 213457 - look up elements based on the schema in which the parent is found
-		if (schema.getIncludes().length == 0 || "extension".equals(node.getXMLTagName())) //$NON-NLS-1$
-			return schema.findElement(node.getXMLTagName());
+		if (schema.getSchema().getIncludes().length == 0 || "extension".equals(node.getXMLTagName())) { //$NON-NLS-1$
+			ElementInfo element = schema.findElement(node.getXMLTagName());
+			return element != null ? element.getElement() : null;
+		}
 
 		// if element is not "extension" & has multiple sub-schemas,
 		// Then search for the element in the same schema in which the parent element if found.
@@ -109,14 +112,14 @@ public abstract class XMLUtil {
 			stack.push(node.getXMLTagName());
 			node = node.getParentNode();
 		}
-		ISchemaElement element = null;
+		ElementInfo element = null;
 		while (!stack.isEmpty()) {
 			element = schema.findElement(stack.pop());
 			if (element == null)
 				return null;
-			schema = element.getSchema();
+			schema = element.getOwner();
 		}
-		return element;
+		return element != null ? element.getElement() : null;
 	}
 
 	/**
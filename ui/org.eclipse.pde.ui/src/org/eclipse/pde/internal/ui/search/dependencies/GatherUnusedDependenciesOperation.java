@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2021 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,11 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Set;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -32,6 +34,7 @@ import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IOrdinaryClassFile;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
@@ -44,6 +47,8 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jface.operation.IRunnableWithProgress;
 import org.eclipse.osgi.container.namespaces.EquinoxModuleDataNamespace;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
@@ -79,6 +84,20 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 	private final IPluginModelBase fModel;
 	private ArrayList<Object> fList;
 
+	/**
+	 * The packages referenced by the compiled classes of the project, or
+	 * <code>null</code> if they are not known and all dependencies have to be
+	 * searched for with the Java search engine
+	 */
+	private Set<String> fReferencedPackages;
+
+	/**
+	 * The sources and source packages of the project, used to find the
+	 * references that leave no trace in the class files
+	 */
+	private List<String> fSources;
+	private Set<String> fSourcePackages;
+
 	public GatherUnusedDependenciesOperation(IPluginModelBase model) {
 		fModel = model;
 	}
@@ -110,8 +129,9 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 		}
 		IPluginImport[] imports = fModel.getPluginBase().getImports();
 
-		int totalWork = imports.length * 3 + (packages != null ? packages.length : 0) + 1;
+		int totalWork = imports.length * 4 + (packages != null ? packages.length : 0) + 1;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, totalWork);
+		computeReferencedPackages(subMonitor.split(imports.length));
 
 		HashMap<String, IPluginImport> usedPlugins = new HashMap<>();
 		fList = new ArrayList<>();
@@ -171,19 +191,112 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 				+ PDEUIMessages.DependencyExtent_found);
 	}
 
+	/**
+	 * Reads the packages referenced by the compiled classes of the project in
+	 * one pass, so that most dependencies can be checked against the packages
+	 * they export instead of being searched for.
+	 */
+	private void computeReferencedPackages(IProgressMonitor monitor) {
+		fReferencedPackages = null;
+		try {
+			IProject project = fModel.getUnderlyingResource().getProject();
+			if (!project.hasNature(JavaCore.NATURE_ID))
+				return;
+
+			IJavaProject jProject = JavaCore.create(project);
+			Set<String> packages = PackageFinder.findPackagesInProjectClasses(jProject, monitor);
+			if (packages == null)
+				return;
+
+			List<String> sources = new ArrayList<>();
+			Set<String> sourcePackages = new HashSet<>();
+			for (IPackageFragmentRoot root : jProject.getPackageFragmentRoots()) {
+				if (root.getKind() != IPackageFragmentRoot.K_SOURCE)
+					continue;
+				for (IJavaElement child : root.getChildren()) {
+					if (child instanceof IPackageFragment fragment) {
+						ICompilationUnit[] units = fragment.getCompilationUnits();
+						if (units.length > 0)
+							sourcePackages.add(fragment.getElementName());
+						for (ICompilationUnit unit : units) {
+							String source = unit.getSource();
+							if (source != null)
+								sources.add(source);
+						}
+					}
+				}
+			}
+			fSources = sources;
+			fSourcePackages = sourcePackages;
+			fReferencedPackages = packages;
+		} catch (CoreException e) {
+			PDEPlugin.logException(e);
+		}
+	}
+
+	/**
+	 * Returns whether the sources of the project may refer to the given
+	 * package, i.e. whether they contain its name as a qualifier or have types
+	 * in a package of the same name, which need no qualification.
+	 */
+	private boolean isMentionedInSources(String packageName) {
+		if (fSourcePackages.contains(packageName))
+			return true;
+		String qualifier = packageName + '.';
+		for (String source : fSources) {
+			if (source.contains(qualifier))
+				return true;
+		}
+		return false;
+	}
+
 	private boolean isUnused(IPluginImport plugin, IProgressMonitor monitor) {
 		IPluginModelBase[] models = PluginJavaSearchUtil.getPluginImports(plugin);
-		return !provideJavaClasses(models, monitor);
+		if (fReferencedPackages == null)
+			return !provideJavaClasses(models, null, monitor);
+
+		Set<String> mentionedPackages = new HashSet<>();
+		for (IPluginModelBase model : models) {
+			BundleDescription description = model.getBundleDescription();
+			if (description == null)
+				return !provideJavaClasses(models, null, monitor);
+			for (ExportPackageDescription export : description.getExportPackages()) {
+				String packageName = export.getName();
+				if (fReferencedPackages.contains(packageName))
+					return false;
+				if (isMentionedInSources(packageName))
+					mentionedPackages.add(packageName);
+			}
+		}
+		// constants and source retention annotations are only visible in the
+		// sources
+		return mentionedPackages.isEmpty() || !provideJavaClasses(models, mentionedPackages, monitor);
 	}
 
 	private boolean isUnused(ImportPackageObject pkg, Collection<String> exportedPackages, IProgressMonitor monitor) {
 		if (exportedPackages != null && exportedPackages.contains(pkg.getValue())) {
 			return false;
 		}
+		if (fReferencedPackages != null) {
+			if (fReferencedPackages.contains(pkg.getName()))
+				return false;
+			if (!isMentionedInSources(pkg.getName()))
+				return true;
+		}
 		return !provideJavaClasses(pkg, monitor);
 	}
 
-	private boolean provideJavaClasses(IPluginModelBase[] models, IProgressMonitor monitor) {
+	/**
+	 * Searches the project for references to the packages of the given
+	 * plug-ins.
+	 *
+	 * @param models the plug-ins
+	 * @param packageNames the packages to search for, or <code>null</code> to
+	 *            search for all packages of the plug-ins
+	 * @param monitor the progress monitor
+	 * @return whether a reference was found
+	 */
+	private boolean provideJavaClasses(IPluginModelBase[] models, Set<String> packageNames, IProgressMonitor monitor) {
 		try {
 			IProject project = fModel.getUnderlyingResource().getProject();
 			if (!project.hasNature(JavaCore.NATURE_ID))
@@ -197,6 +310,8 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 			SubMonitor subMonitor = SubMonitor.convert(monitor, packageFragments.length * 2);
 			for (IPackageFragment pkgFragment : packageFragments) {
 				SubMonitor iterationMonitor = subMonitor.split(2);
+				if (packageNames != null && !packageNames.contains(pkgFragment.getElementName()))
+					continue;
 				if (pkgFragment.hasChildren()) {
 					Requestor requestor = new Requestor();
 					SearchPattern pattern = SearchPattern.createPattern(pkgFragment, IJavaSearchConstants.REFERENCES);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2012, 2015 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.search.dependencies;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,9 +28,13 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.jdt.core.IClassFile;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
@@ -63,6 +69,86 @@ public class PackageFinder {
 		return packages;
 	}
 
+	/**
+	 * Returns the packages referenced by the compiled classes of the given
+	 * project, i.e. the class files in the output folders of its source
+	 * folders and in the libraries contained in the project.
+	 *
+	 * @param project the project to analyze
+	 * @param monitor the progress monitor
+	 * @return the referenced packages or <code>null</code> if the project has
+	 *         source folders but no compiled classes, e.g. because it was not
+	 *         built yet
+	 * @throws CoreException if the classpath of the project can not be read
+	 */
+	public static Set<String> findPackagesInProjectClasses(IJavaProject project, IProgressMonitor monitor)
+			throws CoreException {
+		IProject resource = project.getProject();
+		boolean hasSources = false;
+		Set<IPath> outputs = new HashSet<>();
+		List<IClassFile> libraryFiles = new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			IResource rootResource = root.getResource();
+			if (rootResource == null || !resource.equals(rootResource.getProject())) {
+				continue;
+			}
+			if (root.getKind() == IPackageFragmentRoot.K_SOURCE) {
+				hasSources = true;
+				IPath output = root.getRawClasspathEntry().getOutputLocation();
+				outputs.add(output != null ? output : project.getOutputLocation());
+			} else {
+				addClassFilesFromResource(rootResource, libraryFiles);
+			}
+		}
+		List<IFile> outputFiles = new ArrayList<>();
+		for (IPath output : outputs) {
+			IResource member = resource.getWorkspace().getRoot().findMember(output);
+			if (member instanceof IContainer container) {
+				addClassFiles(container, outputFiles);
+			}
+		}
+		if (hasSources && outputFiles.isEmpty()) {
+			return null;
+		}
+
+		Set<String> packages = new HashSet<>();
+		SubMonitor subMonitor = SubMonitor.convert(monitor, PDEUIMessages.PackageFinder_taskName,
+				outputFiles.size() + libraryFiles.size());
+		for (IFile file : outputFiles) {
+			try (InputStream stream = file.getContents(true)) {
+				IClassFileReader reader = ToolFactory.createDefaultClassFileReader(stream, IClassFileReader.ALL);
+				if (reader != null)
+					computeReferencedTypes(reader, packages);
+			} catch (IOException e) {
+				throw new CoreException(Status.error(e.getMessage(), e));
+			}
+			subMonitor.split(1);
+		}
+		for (IClassFile file : libraryFiles) {
+			IClassFileReader reader = file != null
+					? ToolFactory.createDefaultClassFileReader(file, IClassFileReader.ALL)
+					: null;
+			if (reader != null)
+				computeReferencedTypes(reader, packages);
+			subMonitor.split(1);
+		}
+		return packages;
+	}
+
+	private static void addClassFiles(IContainer container, List<IFile> classFiles) throws CoreException {
+		ArrayDeque<IContainer> stack = new ArrayDeque<>();
+		stack.push(container);
+		while (!stack.isEmpty()) {
+			for (IResource child : stack.pop().members()) {
+				if (child instanceof IFile file && "class".equals(file.getFileExtension())) { //$NON-NLS-1$
+					classFiles.add(file);
+				} else if (child instanceof IContainer folder) {
+					stack.push(folder);
+				}
+			}
+		}
+	}
+
 	static void computeReferencedTypes(IClassFileReader cfr, Set<String> packages) {
 
 		char[][] interfaces = cfr.getInterfaceNames();